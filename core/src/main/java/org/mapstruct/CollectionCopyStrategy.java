@@ -0,0 +1,46 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+/**
+ * Strategy for propagating a source collection, map or array to a target property of the same type, i.e. if the
+ * source value is assigned as is rather than being mapped element by element.
+ * <p>
+ * Collections and maps are always copied if the source type is only assignable to the target type via the copy
+ * constructor of the latter, and for update methods, which copy the source elements into an existing target collection
+ * or map in place.
+ *
+ * @see Mapping#collectionCopyStrategy()
+ * @see Mapper#collectionCopyStrategy()
+ * @see MapperConfig#collectionCopyStrategy()
+ */
+public enum CollectionCopyStrategy {
+
+    /**
+     * The target is populated with a copy of the source collection, map or array, e.g. via
+     * {@code new ArrayList<>( source.getItems() )}. That's the default behavior.
+     */
+    COPY,
+
+    /**
+     * The target is populated with an unmodifiable view on the source collection or map, e.g. via
+     * {@code Collections.unmodifiableList( source.getItems() )}, so the target can't modify the source. Sources of a
+     * type known to be immutable (the immutable collections and maps of Guava) are passed on as is.
+     * <p>
+     * Only applies if the target property is declared as {@link java.util.Collection}, {@link java.util.List},
+     * {@link java.util.Set}, {@link java.util.SortedSet}, {@link java.util.Map} or {@link java.util.SortedMap}; the
+     * source is copied for other target types and for arrays. Note that changes made to the source afterwards are
+     * visible via the target.
+     */
+    UNMODIFIABLE_VIEW,
+
+    /**
+     * The source collection, map or array is passed on to the target as is. Use this if the source is owned by the
+     * mapping, e.g. if it has been created for the purpose of being mapped and isn't used any further, or if it is
+     * immutable. Changes made to the source or the target afterwards are visible via both of them.
+     */
+    SHARE;
+}
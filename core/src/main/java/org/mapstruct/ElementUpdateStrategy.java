@@ -0,0 +1,44 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+/**
+ * Strategy for updating the elements of an existing target collection or map passed to an iterable or map update
+ * method via {@link MappingTarget}.
+ *
+ * @see IterableMapping#elementUpdateStrategy()
+ * @see MapMapping#valueUpdateStrategy()
+ */
+public enum ElementUpdateStrategy {
+
+    /**
+     * The target collection is cleared and a new target element is added for each source element. That's the default
+     * behavior.
+     */
+    REPLACE,
+
+    /**
+     * Source and target elements are matched by their position. The target element at the position of a source element
+     * is updated in place using an update method for the element types (a method with a {@link MappingTarget}
+     * parameter of the target element type). Target elements are only created for source elements without a target
+     * element at their position (or if the source or target element is {@code null}), and surplus target elements are
+     * removed from the end of the target. Requires the target to be a {@link java.util.List}.
+     */
+    UPDATE_BY_POSITION,
+
+    /**
+     * Source and target elements are matched by the value of the property given via
+     * {@link IterableMapping#elementKey()}. Matched target elements are updated in place using an update method for
+     * the element types (a method with a {@link MappingTarget} parameter of the target element type). Target elements
+     * are created and added for source elements without a matching target element, and target elements without a
+     * matching source element are removed. The order of the remaining target elements is retained. Keys are expected
+     * to be unique within the source and the target.
+     * <p>
+     * For map mappings, the source entries are merged into the target map by their keys, see
+     * {@link MapMapping#valueUpdateStrategy()}.
+     */
+    UPDATE_BY_KEY;
+}
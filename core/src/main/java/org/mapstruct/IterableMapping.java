@@ -96,4 +96,57 @@
      * @return The strategy to be applied when {@code null} is passed as source value to the methods of this mapping.
      */
     NullValueMappingStrategy nullValueMappingStrategy() default NullValueMappingStrategy.RETURN_NULL;
+
+    /**
+     * The number of source elements from which on the elements are mapped in parallel. If not set or negative, the
+     * elements are always mapped sequentially.
+     * <p>
+     * Only applies if the source of the mapping is a {@link java.util.Collection} and its result is a
+     * {@link java.util.Collection} or a {@code Stream}, and the elements are not just copied. The order of the elements
+     * is retained. Elements are mapped using a parallel {@code Stream}; if the method has a {@link Context} parameter
+     * of type {@code java.util.concurrent.ForkJoinPool}, collections are populated within that pool rather than the
+     * common pool. Element mappings throwing checked exceptions are always mapped sequentially.
+     * <p>
+     * Note that the methods used for mapping the elements are invoked concurrently and thus must be thread-safe.
+     *
+     * @return The minimum number of source elements for mapping them in parallel
+     */
+    int parallelThreshold() default -1;
+
+    /**
+     * Whether the result should be a view on the source list which maps each element when it is accessed for the
+     * first time, rather than a list with all elements mapped upfront. This is useful if callers typically access
+     * only a few of the elements, e.g. a single page.
+     * <p>
+     * Only applies to methods mapping a {@link java.util.List} to a {@link java.util.List},
+     * {@link java.util.Collection} or {@link Iterable}. The returned view can't be modified and reports the size of
+     * the source list at the time of mapping. Mapped elements are retained, so each element is mapped at most once
+     * (unless mapped to {@code null}).
+     *
+     * @return Whether the elements should be mapped lazily
+     */
+    boolean lazy() default false;
+
+    /**
+     * How the elements of an existing target collection are updated, if the annotated method is an update method
+     * (i.e. it has a {@link MappingTarget} collection parameter). By default the target collection is cleared and
+     * populated with newly mapped elements. Updating the matching target elements in place instead retains the
+     * identity of the target elements, e.g. of entities managed by a persistence provider.
+     * <p>
+     * Bean mapping methods updating an existing collection property use the strategy of a declared iterable update
+     * method for the collection types.
+     *
+     * @return The strategy for updating the elements of the target collection
+     */
+    ElementUpdateStrategy elementUpdateStrategy() default ElementUpdateStrategy.REPLACE;
+
+    /**
+     * The name of the property identifying the elements if {@link ElementUpdateStrategy#UPDATE_BY_KEY} is used. The
+     * property must be readable on the source and the target element type and have the same type on both of them
+     * (primitive types and their wrappers are considered the same). Keys are compared using
+     * {@link Object#equals(Object)}.
+     *
+     * @return The name of the key property of the elements
+     */
+    String elementKey() default "";
 }
@@ -139,4 +139,29 @@
      * @return The strategy to be applied when {@code null} is passed as source value to the methods of this mapping.
      */
     NullValueMappingStrategy nullValueMappingStrategy() default NullValueMappingStrategy.RETURN_NULL;
+
+    /**
+     * How the entries of an existing target map are updated, if the annotated method is an update method (i.e. it
+     * has a {@link MappingTarget} map parameter). By default the target map is cleared and populated with newly mapped
+     * entries.
+     * <p>
+     * With {@link ElementUpdateStrategy#UPDATE_BY_KEY} the source entries are merged into the target map instead: the
+     * value of a key contained in both maps is updated in place using an update method for the value types (a method
+     * with a {@link MappingTarget} parameter of the target value type), if there is one; otherwise it is replaced by
+     * the mapped source value. Entries with new keys are added. {@link ElementUpdateStrategy#UPDATE_BY_POSITION} is
+     * not supported for maps.
+     *
+     * @return The strategy for updating the entries of the target map
+     * @see #removeMissingKeys()
+     */
+    ElementUpdateStrategy valueUpdateStrategy() default ElementUpdateStrategy.REPLACE;
+
+    /**
+     * Whether the entries of the target map whose keys are not contained in the source map are removed when merging
+     * the source entries into the target map via {@link ElementUpdateStrategy#UPDATE_BY_KEY}. Ignored for all other
+     * strategies.
+     *
+     * @return Whether entries without a source entry are removed from the target map
+     */
+    boolean removeMissingKeys() default true;
 }
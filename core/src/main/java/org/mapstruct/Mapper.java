@@ -169,6 +169,18 @@
      */
     InjectionStrategy injectionStrategy() default InjectionStrategy.FIELD;
 
+    /**
+     * How source collections, maps and arrays are propagated to target properties of the same type, e.g. to avoid
+     * copying collections which are immutable or owned by the mapping.
+     * <p>
+     * Can be overridden by the one on {@link Mapping}. If not set, the strategy given via
+     * {@link MapperConfig#collectionCopyStrategy()} will be applied, using {@link CollectionCopyStrategy#COPY} by
+     * default.
+     *
+     * @return strategy how to propagate collections, maps and arrays
+     */
+    CollectionCopyStrategy collectionCopyStrategy() default CollectionCopyStrategy.COPY;
+
     /**
      * If MapStruct could not find another mapping method or apply an automatic conversion it will try to generate a
      * sub-mapping method between the two beans. If this property is set to {@code true} MapStruct will not try to
@@ -156,6 +156,16 @@ MappingInheritanceStrategy mappingInheritanceStrategy()
      */
     InjectionStrategy injectionStrategy() default InjectionStrategy.FIELD;
 
+    /**
+     * How source collections, maps and arrays are propagated to target properties of the same type, e.g. to avoid
+     * copying collections which are immutable or owned by the mapping.
+     * <p>
+     * Can be overridden by the one on {@link Mapper} or {@link Mapping}.
+     *
+     * @return strategy how to propagate collections, maps and arrays
+     */
+    CollectionCopyStrategy collectionCopyStrategy() default CollectionCopyStrategy.COPY;
+
     /**
      * If MapStruct could not find another mapping method or apply an automatic conversion it will try to generate a
      * sub-mapping method between the two beans. If this property is set to {@code true} MapStruct will not try to
@@ -267,4 +267,14 @@
      */
     NullValueCheckStrategy nullValueCheckStrategy() default ON_IMPLICIT_CONVERSION;
 
+    /**
+     * How the source collection, map or array is propagated to the target property if it has the same type, e.g. to
+     * avoid copying a collection which is immutable or owned by the mapping. If not set, the strategy given via
+     * {@link Mapper#collectionCopyStrategy()} or {@link MapperConfig#collectionCopyStrategy()} will be applied, using
+     * {@link CollectionCopyStrategy#COPY} by default.
+     *
+     * @return strategy how to propagate the collection, map or array
+     */
+    CollectionCopyStrategy collectionCopyStrategy() default CollectionCopyStrategy.COPY;
+
 }
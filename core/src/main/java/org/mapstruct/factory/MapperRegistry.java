@@ -0,0 +1,30 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.factory;
+
+/**
+ * A registry of the mapper implementations of one package, generated by the annotation processor if the option
+ * {@code mapstruct.generateMapperRegistry} is enabled. The registry of a package is named {@code MapperRegistryImpl}
+ * and exposes its instance via a {@code public static final} field named {@code INSTANCE}.
+ * <p>
+ * {@link Mappers} consults the registry of a mapper type's package before falling back to loading the implementation
+ * type by name, so mapper instances are created without reflection.
+ * <p>
+ * This interface is not meant to be implemented by user code.
+ *
+ * @since 1.3
+ */
+public interface MapperRegistry {
+
+    /**
+     * Returns a new instance of the implementation of the given mapper type.
+     *
+     * @param mapperType the mapper type
+     *
+     * @return a new instance of the given mapper type or {@code null} if it is not registered with this registry
+     */
+    Object getMapper(Class<?> mapperType);
+}
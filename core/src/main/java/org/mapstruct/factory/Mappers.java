@@ -5,11 +5,17 @@
  */
 package org.mapstruct.factory;
 
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
 
 import org.mapstruct.Mapper;
 
@@ -33,6 +39,16 @@
  *     // mapping methods...
  * }
  * </pre>
+ * <p>
+ * If the package of a mapper type contains a {@link MapperRegistry} generated by the annotation processor, the mapper
+ * is instantiated by that registry without reflection.
+ * <p>
+ * The implementation type of a mapper type is looked up only once, if it is loaded by the class loader of the mapper
+ * type. Subsequent invocations only invoke its cached constructor. The cache doesn't prevent class loaders from being
+ * unloaded.
+ * <p>
+ * Alternatively, {@link #getSharedMapper(Class)} returns a single instance of a mapper type which is shared by all of
+ * its callers.
  *
  * @author Gunnar Morling
  */
@@ -40,6 +56,32 @@ public class Mappers {
 
     private static final String IMPLEMENTATION_SUFFIX = "Impl";
 
+    private static final String REGISTRY_NAME = "MapperRegistry" + IMPLEMENTATION_SUFFIX;
+
+    private static final String REGISTRY_INSTANCE_FIELD = "INSTANCE";
+
+    /**
+     * The generated registries by mapper type. The registries are kept reachable by the {@code INSTANCE} field of
+     * their type, so only weak references are held to them.
+     */
+    private static final Map<Class<?>, WeakReference<MapperRegistry>> REGISTRIES =
+        Collections.synchronizedMap( new WeakHashMap<Class<?>, WeakReference<MapperRegistry>>() );
+
+    /**
+     * The accessible no-args constructors of the implementation types by mapper type. A weak reference is held to the
+     * mapper type and a soft one to the constructor, so that neither keeps their class loader reachable. A weak
+     * reference to the constructor would be cleared by the next garbage collection, as nothing else refers to it.
+     */
+    private static final Map<Class<?>, SoftReference<Constructor<?>>> IMPLEMENTATION_CONSTRUCTORS =
+        Collections.synchronizedMap( new WeakHashMap<Class<?>, SoftReference<Constructor<?>>>() );
+
+    /**
+     * The instances returned by {@link #getSharedMapper(Class)}, by mapper type. Only weak references are held to the
+     * instances, the callers are expected to keep them reachable, e.g. by means of a static field.
+     */
+    private static final Map<Class<?>, WeakReference<Object>> SHARED_INSTANCES =
+        new WeakHashMap<Class<?>, WeakReference<Object>>();
+
     private Mappers() {
     }
 
@@ -52,7 +94,26 @@ private Mappers() {
      * @return An instance of the given mapper type.
      */
     public static <T> T getMapper(Class<T> clazz) {
+        WeakReference<MapperRegistry> registry = REGISTRIES.get( clazz );
+        T mapper = registry != null ? getMapper( clazz, registry.get() ) : null;
+        if ( mapper != null ) {
+            return mapper;
+        }
+
         try {
+            SoftReference<Constructor<?>> constructorReference = IMPLEMENTATION_CONSTRUCTORS.get( clazz );
+            Constructor<?> constructor = constructorReference != null ? constructorReference.get() : null;
+            if ( constructor != null ) {
+                return newInstance( clazz, constructor );
+            }
+
+            if ( registry == null ) {
+                mapper = getMapper( clazz, findRegistry( clazz ) );
+                if ( mapper != null ) {
+                    return mapper;
+                }
+            }
+
             List<ClassLoader> classLoaders = new ArrayList<>( 3 );
             classLoaders.add( clazz.getClassLoader() );
 
@@ -69,6 +130,77 @@ public static <T> T getMapper(Class<T> clazz) {
         }
     }
 
+    /**
+     * Returns an instance of the given mapper type which is shared with all other callers passing the same type. The
+     * instance is created as described for {@link #getMapper(Class)} upon the first invocation.
+     * <p>
+     * Generated mappers use this method to obtain the mappers they use if the processor option
+     * {@code mapstruct.lazyUsedMappers} is set. The returned instance is kept reachable by the callers only; it is
+     * created anew if none of them does so any longer.
+     *
+     * @param clazz The type of the mapper to return.
+     * @param <T> The type of the mapper to return.
+     *
+     * @return The shared instance of the given mapper type.
+     */
+    public static <T> T getSharedMapper(Class<T> clazz) {
+        T mapper = getSharedInstance( clazz );
+        if ( mapper != null ) {
+            return mapper;
+        }
+
+        // create the instance without holding the lock, as mappers may obtain the mappers they use while being
+        // initialized; if another thread got ahead of us, its instance wins
+        mapper = getMapper( clazz );
+
+        synchronized ( SHARED_INSTANCES ) {
+            T sharedMapper = getSharedInstance( clazz );
+            if ( sharedMapper != null ) {
+                return sharedMapper;
+            }
+            SHARED_INSTANCES.put( clazz, new WeakReference<Object>( mapper ) );
+            return mapper;
+        }
+    }
+
+    private static <T> T getSharedInstance(Class<T> mapperType) {
+        synchronized ( SHARED_INSTANCES ) {
+            WeakReference<Object> instance = SHARED_INSTANCES.get( mapperType );
+            return instance != null ? mapperType.cast( instance.get() ) : null;
+        }
+    }
+
+    private static <T> T getMapper(Class<T> mapperType, MapperRegistry registry) {
+        return registry != null ? mapperType.cast( registry.getMapper( mapperType ) ) : null;
+    }
+
+    /**
+     * Returns the generated registry of the package of the given mapper type, if it exists. The result is cached, so
+     * the lookup is done only once per mapper type.
+     */
+    private static MapperRegistry findRegistry(Class<?> mapperType) {
+        MapperRegistry registry = null;
+        ClassLoader classLoader = mapperType.getClassLoader();
+
+        if ( classLoader != null ) {
+            String packagePrefix = mapperType.getName().substring( 0, mapperType.getName().lastIndexOf( '.' ) + 1 );
+            try {
+                Class<?> registryType = classLoader.loadClass( packagePrefix + REGISTRY_NAME );
+                Field instanceField = registryType.getField( REGISTRY_INSTANCE_FIELD );
+                Object instance = instanceField.get( null );
+                if ( instance instanceof MapperRegistry ) {
+                    registry = (MapperRegistry) instance;
+                }
+            }
+            catch ( ClassNotFoundException | NoSuchFieldException | IllegalAccessException e ) {
+                // no registry has been generated for the package
+            }
+        }
+
+        REGISTRIES.put( mapperType, new WeakReference<MapperRegistry>( registry ) );
+        return registry;
+    }
+
     private static <T> T getMapper(Class<T> mapperType, Iterable<ClassLoader> classLoaders)
             throws ClassNotFoundException, NoSuchMethodException {
 
@@ -86,9 +218,10 @@ private static <T> T doGetMapper(Class<T> clazz, ClassLoader classLoader) throws
         try {
             @SuppressWarnings( "unchecked" )
             Class<T> implementation = (Class<T>) classLoader.loadClass( clazz.getName() + IMPLEMENTATION_SUFFIX );
-            Constructor<T> constructor = implementation.getDeclaredConstructor();
-            constructor.setAccessible( true );
-            return constructor.newInstance();
+            Constructor<?> constructor = getConstructor( implementation );
+            T mapper = newInstance( clazz, constructor );
+            cacheConstructor( clazz, classLoader, constructor );
+            return mapper;
         }
         catch (ClassNotFoundException e) {
             ServiceLoader<T> loader = ServiceLoader.load( clazz, classLoader );
@@ -96,6 +229,7 @@ private static <T> T doGetMapper(Class<T> clazz, ClassLoader classLoader) throws
             if ( loader != null ) {
                 for ( T mapper : loader ) {
                     if ( mapper != null ) {
+                        cacheConstructor( clazz, classLoader, getConstructor( mapper.getClass() ) );
                         return mapper;
                     }
                 }
@@ -103,8 +237,31 @@ private static <T> T doGetMapper(Class<T> clazz, ClassLoader classLoader) throws
 
             return null;
         }
+    }
+
+    private static Constructor<?> getConstructor(Class<?> implementation) throws NoSuchMethodException {
+        Constructor<?> constructor = implementation.getDeclaredConstructor();
+        constructor.setAccessible( true );
+        return constructor;
+    }
+
+    private static <T> T newInstance(Class<T> mapperType, Constructor<?> constructor) {
+        try {
+            return mapperType.cast( constructor.newInstance() );
+        }
         catch ( InstantiationException | InvocationTargetException | IllegalAccessException e) {
             throw new RuntimeException( e );
         }
     }
+
+    /**
+     * Caches the constructor of the given implementation type if it has been found via the class loader of the mapper
+     * type. This ensures that the same implementation type is found regardless of the context class loader of
+     * subsequent invocations.
+     */
+    private static void cacheConstructor(Class<?> mapperType, ClassLoader classLoader, Constructor<?> constructor) {
+        if ( classLoader == mapperType.getClassLoader() ) {
+            IMPLEMENTATION_CONSTRUCTORS.put( mapperType, new SoftReference<Constructor<?>>( constructor ) );
+        }
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.util;
+
+import java.util.Arrays;
+
+import org.mapstruct.BeforeMapping;
+import org.mapstruct.Context;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.TargetType;
+
+/**
+ * A mapping context which keeps track of the already mapped source instances, to be passed to mapping methods as
+ * {@code @}{@link Context} parameter. All generated mapping methods receiving this context map each source instance
+ * only once per target type: a repeated reference to the same source instance yields the very same target instance,
+ * which also terminates cycles in the source graph (e.g. parent and child references).
+ * <p>
+ * The lookup happens before the target instance is created and the mapped instance is registered right after its
+ * creation, before any of its properties are mapped. Source instances are compared by identity, not by
+ * {@link Object#equals(Object)}.
+ * <p>
+ * Mapping methods creating their target via a builder don't look up already mapped instances, as the target instance
+ * only exists after all of its properties have been mapped. The processor reports a warning for such methods, as
+ * cycles in their source graph are not terminated.
+ * <p>
+ * Generated methods pass the context on to other mapping methods declaring it, so it suffices to declare it on the
+ * methods called by user code (and on those hand-written or abstract methods to be included in the tracking):
+ *
+ * <pre>
+ * <code>
+ * &#64;Mapper
+ * public interface CatalogueMapper {
+ *     CatalogueDto toCatalogueDto(Catalogue catalogue, &#64;Context CycleAvoidingMappingContext context);
+ * }
+ *
+ * CatalogueDto dto = mapper.toCatalogueDto( catalogue, new CycleAvoidingMappingContext() );
+ * </code>
+ * </pre>
+ * <p>
+ * The tracked instances are held in flat arrays without allocating an entry per instance. An instance can be reused
+ * for subsequent, independent mappings after calling {@link #clear()}, which retains the allocated capacity.
+ * Instances are not thread-safe.
+ *
+ * @since 1.3
+ */
+@Experimental
+public class CycleAvoidingMappingContext {
+
+    private static final int DEFAULT_CAPACITY = 32;
+
+    private Object[] sources;
+    private Class<?>[] targetTypes;
+    private Object[] targets;
+    private int size;
+
+    /**
+     * Creates a context sized for the default capacity of 32 source instances, growing as needed.
+     */
+    public CycleAvoidingMappingContext() {
+        this( DEFAULT_CAPACITY );
+    }
+
+    /**
+     * @param expectedSize the number of source instances expected to be mapped, used for sizing the lookup table
+     */
+    public CycleAvoidingMappingContext(int expectedSize) {
+        int capacity = Integer.highestOneBit( Math.max( expectedSize, DEFAULT_CAPACITY / 2 ) * 3 / 2 ) << 1;
+        allocate( capacity );
+    }
+
+    /**
+     * Returns the instance the given source has been mapped to before.
+     *
+     * @param source the source instance
+     * @param targetType the type the source instance is mapped to
+     * @param <T> the target type
+     *
+     * @return the instance the given source has already been mapped to or {@code null} if it has not been mapped to
+     * the given target type yet
+     */
+    @BeforeMapping
+    @SuppressWarnings("unchecked")
+    public <T> T getMappedInstance(Object source, @TargetType Class<T> targetType) {
+        if ( source == null ) {
+            return null;
+        }
+
+        int mask = sources.length - 1;
+        for ( int i = indexFor( source, mask ); sources[i] != null; i = ( i + 1 ) & mask ) {
+            if ( sources[i] == source && targetTypes[i] == targetType ) {
+                return (T) targets[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Registers the instance the given source is mapped to. Nothing is registered if the given target is not an
+     * instance of the target type, e.g. a builder of the actual target.
+     *
+     * @param source the source instance
+     * @param target the instance the source is mapped to
+     * @param targetType the type the source instance is mapped to
+     */
+    @BeforeMapping
+    public void storeMappedInstance(Object source, @MappingTarget Object target, @TargetType Class<?> targetType) {
+        if ( source == null || !targetType.isInstance( target ) ) {
+            return;
+        }
+
+        int mask = sources.length - 1;
+        int i = indexFor( source, mask );
+        for ( ; sources[i] != null; i = ( i + 1 ) & mask ) {
+            if ( sources[i] == source && targetTypes[i] == targetType ) {
+                targets[i] = target;
+                return;
+            }
+        }
+
+        sources[i] = source;
+        targetTypes[i] = targetType;
+        targets[i] = target;
+
+        // keep the load factor below 2/3, so that probe sequences stay short
+        if ( ++size * 3 > sources.length * 2 ) {
+            resize();
+        }
+    }
+
+    /**
+     * Forgets all tracked instances, keeping the allocated capacity for subsequent mappings.
+     */
+    public void clear() {
+        if ( size > 0 ) {
+            Arrays.fill( sources, null );
+            Arrays.fill( targetTypes, null );
+            Arrays.fill( targets, null );
+            size = 0;
+        }
+    }
+
+    private void resize() {
+        Object[] oldSources = sources;
+        Class<?>[] oldTargetTypes = targetTypes;
+        Object[] oldTargets = targets;
+
+        allocate( oldSources.length << 1 );
+
+        int mask = sources.length - 1;
+        for ( int j = 0; j < oldSources.length; j++ ) {
+            if ( oldSources[j] != null ) {
+                int i = indexFor( oldSources[j], mask );
+                while ( sources[i] != null ) {
+                    i = ( i + 1 ) & mask;
+                }
+                sources[i] = oldSources[j];
+                targetTypes[i] = oldTargetTypes[j];
+                targets[i] = oldTargets[j];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        sources = new Object[capacity];
+        targetTypes = new Class<?>[capacity];
+        targets = new Object[capacity];
+    }
+
+    private static int indexFor(Object source, int mask) {
+        int h = System.identityHashCode( source );
+        // spread the higher bits, as identity hash codes of consecutively allocated objects tend to be similar
+        return ( h ^ ( h >>> 16 ) ) & mask;
+    }
+}
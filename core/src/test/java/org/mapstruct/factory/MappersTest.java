@@ -6,6 +6,7 @@
 package org.mapstruct.factory;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 
 import org.junit.Test;
 import org.mapstruct.test.model.Foo;
@@ -39,4 +40,38 @@ public void findsNestedMapperImpl() throws Exception {
     public void shouldReturnPackagePrivateImplementationInstance() {
         assertThat( Mappers.getMapper( PackagePrivateMapper.class ) ).isNotNull();
     }
+
+    @Test
+    public void shouldReturnNewInstanceOnEachCall() {
+        Foo first = Mappers.getMapper( Foo.class );
+        Foo second = Mappers.getMapper( Foo.class );
+
+        assertThat( second ).isNotSameAs( first );
+        assertThat( second ).isExactlyInstanceOf( first.getClass() );
+    }
+
+    @Test
+    public void shouldRaiseErrorForMissingImplementationOnEachCall() {
+        for ( int i = 0; i < 2; i++ ) {
+            try {
+                Mappers.getMapper( MapperWithoutImplementation.class );
+                fail( "Expected RuntimeException" );
+            }
+            catch ( RuntimeException e ) {
+                assertThat( e ).hasCauseInstanceOf( ClassNotFoundException.class );
+            }
+        }
+    }
+
+    @Test
+    public void shouldReturnSameInstanceOnEachCallForSharedMapper() {
+        Foo first = Mappers.getSharedMapper( Foo.class );
+
+        assertThat( first ).isNotNull();
+        assertThat( Mappers.getSharedMapper( Foo.class ) ).isSameAs( first );
+        assertThat( Mappers.getMapper( Foo.class ) ).isNotSameAs( first );
+    }
+
+    interface MapperWithoutImplementation {
+    }
 }
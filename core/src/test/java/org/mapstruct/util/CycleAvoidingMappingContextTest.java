@@ -0,0 +1,89 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CycleAvoidingMappingContext}.
+ */
+public class CycleAvoidingMappingContextTest {
+
+    @Test
+    public void shouldReturnStoredInstancePerTargetType() {
+        CycleAvoidingMappingContext context = new CycleAvoidingMappingContext();
+        Object source = new Object();
+
+        context.storeMappedInstance( source, "target", String.class );
+        context.storeMappedInstance( source, 42, Integer.class );
+
+        assertThat( context.getMappedInstance( source, String.class ) ).isEqualTo( "target" );
+        assertThat( context.getMappedInstance( source, Integer.class ) ).isEqualTo( 42 );
+        assertThat( context.getMappedInstance( source, Long.class ) ).isNull();
+        assertThat( context.getMappedInstance( new Object(), String.class ) ).isNull();
+    }
+
+    @Test
+    public void shouldCompareSourcesByIdentity() {
+        CycleAvoidingMappingContext context = new CycleAvoidingMappingContext();
+
+        context.storeMappedInstance( new String( "source" ), "target", String.class );
+
+        assertThat( context.getMappedInstance( new String( "source" ), String.class ) ).isNull();
+    }
+
+    @Test
+    public void shouldIgnoreNullSource() {
+        CycleAvoidingMappingContext context = new CycleAvoidingMappingContext();
+
+        context.storeMappedInstance( null, "target", String.class );
+
+        assertThat( context.getMappedInstance( null, String.class ) ).isNull();
+    }
+
+    @Test
+    public void shouldIgnoreTargetsNotOfTargetType() {
+        CycleAvoidingMappingContext context = new CycleAvoidingMappingContext();
+        Object source = new Object();
+
+        context.storeMappedInstance( source, new StringBuilder( "builder" ), String.class );
+
+        assertThat( context.getMappedInstance( source, String.class ) ).isNull();
+    }
+
+    @Test
+    public void shouldRetainInstancesWhenGrowing() {
+        CycleAvoidingMappingContext context = new CycleAvoidingMappingContext( 1 );
+        List<Object> sources = new ArrayList<>();
+        for ( int i = 0; i < 10000; i++ ) {
+            Object source = new Object();
+            sources.add( source );
+            context.storeMappedInstance( source, i, Integer.class );
+        }
+
+        for ( int i = 0; i < sources.size(); i++ ) {
+            assertThat( context.getMappedInstance( sources.get( i ), Integer.class ) ).isEqualTo( i );
+        }
+    }
+
+    @Test
+    public void shouldForgetInstancesWhenCleared() {
+        CycleAvoidingMappingContext context = new CycleAvoidingMappingContext();
+        Object source = new Object();
+        context.storeMappedInstance( source, "target", String.class );
+
+        context.clear();
+
+        assertThat( context.getMappedInstance( source, String.class ) ).isNull();
+        context.storeMappedInstance( source, "other", String.class );
+        assertThat( context.getMappedInstance( source, String.class ) ).isEqualTo( "other" );
+    }
+}
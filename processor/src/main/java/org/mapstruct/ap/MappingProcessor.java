@@ -5,14 +5,18 @@
  */
 package org.mapstruct.ap;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
 
@@ -28,9 +32,12 @@
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.ElementKindVisitor6;
 import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
 
 import org.mapstruct.ap.internal.model.Mapper;
+import org.mapstruct.ap.internal.model.MapperRegistry;
 import org.mapstruct.ap.internal.option.Options;
+import org.mapstruct.ap.internal.option.Options.DefaultComponentModelOptions;
 import org.mapstruct.ap.internal.prism.MapperPrism;
 import org.mapstruct.ap.internal.prism.ReportingPolicyPrism;
 import org.mapstruct.ap.internal.processor.DefaultModelElementProcessorContext;
@@ -38,7 +45,9 @@
 import org.mapstruct.ap.internal.processor.ModelElementProcessor.ProcessorContext;
 import org.mapstruct.ap.internal.util.AnnotationProcessingException;
 import org.mapstruct.ap.internal.util.AnnotationProcessorContext;
+import org.mapstruct.ap.internal.util.LookupMemo;
 import org.mapstruct.ap.internal.util.RoundContext;
+import org.mapstruct.ap.internal.writer.ModelWriter;
 import org.mapstruct.ap.spi.TypeHierarchyErroneousException;
 
 /**
@@ -78,7 +87,14 @@
     MappingProcessor.SUPPRESS_GENERATOR_TIMESTAMP,
     MappingProcessor.SUPPRESS_GENERATOR_VERSION_INFO_COMMENT,
     MappingProcessor.UNMAPPED_TARGET_POLICY,
-    MappingProcessor.DEFAULT_COMPONENT_MODEL
+    MappingProcessor.DEFAULT_COMPONENT_MODEL,
+    MappingProcessor.ENUM_LOOKUP_TABLE_THRESHOLD,
+    MappingProcessor.GENERATE_MAPPER_REGISTRY,
+    MappingProcessor.LAZY_USED_MAPPERS,
+    MappingProcessor.FINAL_MAPPER_IMPLEMENTATIONS,
+    MappingProcessor.MAPPING_METHOD_SIZE_LIMIT,
+    MappingProcessor.COST_REPORT,
+    MappingProcessor.LOOKUP_STATISTICS
 })
 public class MappingProcessor extends AbstractProcessor {
 
@@ -93,6 +109,16 @@ public class MappingProcessor extends AbstractProcessor {
     protected static final String UNMAPPED_TARGET_POLICY = "mapstruct.unmappedTargetPolicy";
     protected static final String DEFAULT_COMPONENT_MODEL = "mapstruct.defaultComponentModel";
     protected static final String ALWAYS_GENERATE_SERVICE_FILE = "mapstruct.alwaysGenerateServicesFile";
+    protected static final String ENUM_LOOKUP_TABLE_THRESHOLD = "mapstruct.enumLookupTableThreshold";
+    protected static final String GENERATE_MAPPER_REGISTRY = "mapstruct.generateMapperRegistry";
+    protected static final String LAZY_USED_MAPPERS = "mapstruct.lazyUsedMappers";
+    protected static final String FINAL_MAPPER_IMPLEMENTATIONS = "mapstruct.finalMapperImplementations";
+    protected static final String MAPPING_METHOD_SIZE_LIMIT = "mapstruct.mappingMethodSizeLimit";
+    protected static final String COST_REPORT = "mapstruct.costReport";
+    protected static final String LOOKUP_STATISTICS = "mapstruct.lookupStatistics";
+
+    private static final String GRADLE_ISOLATING_PROCESSOR = "org.gradle.annotation.processing.isolating";
+    private static final String GRADLE_AGGREGATING_PROCESSOR = "org.gradle.annotation.processing.aggregating";
 
     private Options options;
 
@@ -109,6 +135,13 @@ public class MappingProcessor extends AbstractProcessor {
      */
     private Set<TypeElement> deferredMappers = new HashSet<>();
 
+    /**
+     * The packages for which a {@link MapperRegistry} has been written already. A source file can only be created once,
+     * so mappers generated in later rounds for the same package are not added to its registry, which is reported as
+     * note.
+     */
+    private Set<String> packagesWithMapperRegistry = new HashSet<>();
+
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
         super.init( processingEnv );
@@ -125,10 +158,64 @@ private Options createOptions() {
             Boolean.valueOf( processingEnv.getOptions().get( SUPPRESS_GENERATOR_VERSION_INFO_COMMENT ) ),
             unmappedTargetPolicy != null ? ReportingPolicyPrism.valueOf( unmappedTargetPolicy.toUpperCase() ) : null,
             processingEnv.getOptions().get( DEFAULT_COMPONENT_MODEL ),
-            Boolean.valueOf( processingEnv.getOptions().get( ALWAYS_GENERATE_SERVICE_FILE ) )
+            Boolean.valueOf( processingEnv.getOptions().get( ALWAYS_GENERATE_SERVICE_FILE ) ),
+            getIntegerOption( ENUM_LOOKUP_TABLE_THRESHOLD ),
+            new DefaultComponentModelOptions(
+                Boolean.valueOf( processingEnv.getOptions().get( GENERATE_MAPPER_REGISTRY ) ),
+                Boolean.valueOf( processingEnv.getOptions().get( LAZY_USED_MAPPERS ) ),
+                Boolean.valueOf( processingEnv.getOptions().get( FINAL_MAPPER_IMPLEMENTATIONS ) )
+            ),
+            getIntegerOption( MAPPING_METHOD_SIZE_LIMIT ),
+            Boolean.valueOf( processingEnv.getOptions().get( COST_REPORT ) ),
+            Boolean.valueOf( processingEnv.getOptions().get( LOOKUP_STATISTICS ) )
         );
     }
 
+    /**
+     * Returns the value of the given numeric processor option. A value which is not a number is reported as error and
+     * the option is considered as not set.
+     *
+     * @param name the name of the option
+     *
+     * @return the value of the option, or {@code null} if it is not set or not a number
+     */
+    private Integer getIntegerOption(String name) {
+        String value = processingEnv.getOptions().get( name );
+        if ( value == null ) {
+            return null;
+        }
+
+        try {
+            return Integer.valueOf( value.trim() );
+        }
+        catch ( NumberFormatException e ) {
+            processingEnv.getMessager().printMessage(
+                Kind.ERROR,
+                "The value \"" + value + "\" of the processor option " + name + " is not a number."
+            );
+            return null;
+        }
+    }
+
+    /**
+     * Returns the supported options, including the kind of this processor for Gradle's incremental annotation
+     * processing (the processor is registered as "dynamic" in
+     * {@code META-INF/gradle/incremental.annotation.processors}, which requires Gradle 5.0 or later). Each generated
+     * mapper, decorator, services file and cost report originates from exactly one mapper type, so the processor is
+     * isolating, unless mapper registries are generated, which aggregate all the mappers of a package.
+     */
+    @Override
+    public Set<String> getSupportedOptions() {
+        Set<String> supportedOptions = new HashSet<>( super.getSupportedOptions() );
+        if ( options != null && options.isGenerateMapperRegistry() ) {
+            supportedOptions.add( GRADLE_AGGREGATING_PROCESSOR );
+        }
+        else {
+            supportedOptions.add( GRADLE_ISOLATING_PROCESSOR );
+        }
+        return supportedOptions;
+    }
+
     @Override
     public SourceVersion getSupportedSourceVersion() {
         return SourceVersion.latestSupported();
@@ -139,14 +226,21 @@ public boolean process(final Set<? extends TypeElement> annotations, final Round
         // nothing to do in the last round
         if ( !roundEnvironment.processingOver() ) {
             RoundContext roundContext = new RoundContext( annotationProcessorContext );
+            Map<String, MapperRegistry> mapperRegistries = new LinkedHashMap<>();
 
             // process any mappers left over from previous rounds
             Set<TypeElement> deferredMappers = getAndResetDeferredMappers();
-            processMapperElements( deferredMappers, roundContext );
+            processMapperElements( deferredMappers, roundContext, mapperRegistries );
 
             // get and process any mappers from this round
             Set<TypeElement> mappers = getMappers( annotations, roundEnvironment );
-            processMapperElements( mappers, roundContext );
+            processMapperElements( mappers, roundContext, mapperRegistries );
+
+            writeMapperRegistries( mapperRegistries.values() );
+
+            if ( options.isLookupStatistics() ) {
+                reportLookupStatistics( roundContext );
+            }
         }
 
         return ANNOTATIONS_CLAIMED_EXCLUSIVELY;
@@ -198,7 +292,8 @@ private Set<TypeElement> getMappers(final Set<? extends TypeElement> annotations
         return mapperTypes;
     }
 
-    private void processMapperElements(Set<TypeElement> mapperElements, RoundContext roundContext) {
+    private void processMapperElements(Set<TypeElement> mapperElements, RoundContext roundContext,
+                                       Map<String, MapperRegistry> mapperRegistries) {
         for ( TypeElement mapperElement : mapperElements ) {
             try {
                 // create a new context for each generated mapper in order to have imports of referenced types
@@ -207,7 +302,7 @@ private void processMapperElements(Set<TypeElement> mapperElements, RoundContext
                 // necessarily be the case, e.g. in case of several mapper interfaces declared as inner types
                 // of one outer interface
                 ProcessorContext context = new DefaultModelElementProcessorContext(
-                        processingEnv, options, roundContext
+                        processingEnv, options, roundContext, mapperRegistries
                 );
 
                 processMapperTypeElement( context, mapperElement );
@@ -222,6 +317,46 @@ private void processMapperElements(Set<TypeElement> mapperElements, RoundContext
         }
     }
 
+    private void writeMapperRegistries(Collection<MapperRegistry> mapperRegistries) {
+        ModelWriter modelWriter = new ModelWriter();
+
+        for ( MapperRegistry mapperRegistry : mapperRegistries ) {
+            if ( !packagesWithMapperRegistry.add( mapperRegistry.getPackageName() ) ) {
+                reportMappersMissingInRegistry( mapperRegistry );
+                continue;
+            }
+
+            JavaFileObject sourceFile;
+            try {
+                sourceFile = processingEnv.getFiler()
+                    .createSourceFile( mapperRegistry.getQualifiedName(), mapperRegistry.getOriginatingElements() );
+            }
+            catch ( IOException e ) {
+                throw new RuntimeException( e );
+            }
+
+            modelWriter.writeModel( sourceFile, mapperRegistry );
+        }
+    }
+
+    private void reportMappersMissingInRegistry(MapperRegistry mapperRegistry) {
+        for ( TypeElement mapperElement : mapperRegistry.getOriginatingElements() ) {
+            processingEnv.getMessager().printMessage(
+                Kind.NOTE,
+                "The mapper is not added to " + mapperRegistry.getQualifiedName() + ", as that has been generated in "
+                    + "an earlier processing round already. Mappers#getMapper() looks up its implementation type "
+                    + "instead.",
+                mapperElement
+            );
+        }
+    }
+
+    private void reportLookupStatistics(RoundContext roundContext) {
+        for ( LookupMemo<?> memo : roundContext.getLookupMemos() ) {
+            processingEnv.getMessager().printMessage( Kind.NOTE, "MapStruct lookup memo " + memo );
+        }
+    }
+
     private void handleUncaughtError(Element element, Throwable thrown) {
         StringWriter sw = new StringWriter();
         thrown.printStackTrace( new PrintWriter( sw ) );
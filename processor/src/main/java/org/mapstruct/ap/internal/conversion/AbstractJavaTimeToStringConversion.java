@@ -5,9 +5,11 @@
  */
 package org.mapstruct.ap.internal.conversion;
 
+import java.util.List;
 import java.util.Set;
 
 import org.mapstruct.ap.internal.model.common.ConversionContext;
+import org.mapstruct.ap.internal.model.common.FieldReference;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.util.Collections;
 import org.mapstruct.ap.internal.util.JavaTimeConstants;
@@ -19,7 +21,8 @@
  * </p>
  * <p>
  * In general each type comes with a "parse" method to convert a string to this particular type.
- * For formatting a dedicated instance of {@link java.time.format.DateTimeFormatter} is used.
+ * For formatting a dedicated instance of {@link java.time.format.DateTimeFormatter} is used. It is created once per
+ * date format and held in a constant of the generated mapper (see {@link DateTimeFormatterField}).
  * </p>
  * <p>
  * If no date format for mapping is specified predefined ISO* formatters from
@@ -39,9 +42,7 @@ protected String getToExpression(ConversionContext conversionContext) {
 
     private String dateTimeFormatter(ConversionContext conversionContext) {
         if ( !Strings.isEmpty( conversionContext.getDateFormat() ) ) {
-            return ConversionUtils.dateTimeFormatter( conversionContext )
-                + ".ofPattern( \"" + conversionContext.getDateFormat()
-                + "\" )";
+            return new DateTimeFormatterField( conversionContext ).getVariableName();
         }
         else {
             return ConversionUtils.dateTimeFormatter( conversionContext ) + "." + defaultFormatterSuffix();
@@ -50,6 +51,16 @@ private String dateTimeFormatter(ConversionContext conversionContext) {
 
     protected abstract String defaultFormatterSuffix();
 
+    @Override
+    public List<FieldReference> getRequiredHelperFields(ConversionContext conversionContext) {
+        if ( !Strings.isEmpty( conversionContext.getDateFormat() ) ) {
+            return java.util.Collections.<FieldReference>singletonList(
+                new DateTimeFormatterField( conversionContext )
+            );
+        }
+        return super.getRequiredHelperFields( conversionContext );
+    }
+
     @Override
     protected String getFromExpression(ConversionContext conversionContext) {
         // See http://docs.oracle.com/javase/tutorial/datetime/iso/format.html for how to parse Dates
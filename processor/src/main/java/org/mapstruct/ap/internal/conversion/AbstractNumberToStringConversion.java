@@ -12,6 +12,7 @@
 import java.util.Set;
 
 import org.mapstruct.ap.internal.model.common.ConversionContext;
+import org.mapstruct.ap.internal.model.common.FieldReference;
 import org.mapstruct.ap.internal.model.common.Type;
 
 /**
@@ -25,9 +26,15 @@
 public abstract class AbstractNumberToStringConversion extends SimpleConversion {
 
     private final boolean sourceTypeNumberSubclass;
+    private final boolean parseBigDecimal;
 
     public AbstractNumberToStringConversion(boolean sourceTypeNumberSubclass) {
+        this( sourceTypeNumberSubclass, false );
+    }
+
+    public AbstractNumberToStringConversion(boolean sourceTypeNumberSubclass, boolean parseBigDecimal) {
         this.sourceTypeNumberSubclass = sourceTypeNumberSubclass;
+        this.parseBigDecimal = parseBigDecimal;
     }
 
     @Override
@@ -44,6 +51,28 @@ protected boolean requiresDecimalFormat(ConversionContext conversionContext) {
         return sourceTypeNumberSubclass && conversionContext.getNumberFormat() != null;
     }
 
+    /**
+     * Returns an expression for the {@link DecimalFormat} of the number format given in the conversion context. The
+     * formatter is cached per thread in a constant of the generated mapper, see {@link DecimalFormatField}.
+     *
+     * @param conversionContext the conversion context
+     *
+     * @return expression evaluating to the decimal format
+     */
+    protected String decimalFormatter(ConversionContext conversionContext) {
+        return new DecimalFormatField( conversionContext, parseBigDecimal ).getVariableName() + ".get()";
+    }
+
+    @Override
+    public List<FieldReference> getRequiredHelperFields(ConversionContext conversionContext) {
+        if ( requiresDecimalFormat( conversionContext ) ) {
+            return Collections.<FieldReference>singletonList(
+                new DecimalFormatField( conversionContext, parseBigDecimal )
+            );
+        }
+        return super.getRequiredHelperFields( conversionContext );
+    }
+
     @Override
     protected Set<Type> getFromConversionImportTypes(ConversionContext conversionContext) {
         if ( requiresDecimalFormat( conversionContext ) ) {
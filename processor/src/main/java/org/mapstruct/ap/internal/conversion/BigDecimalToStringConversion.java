@@ -6,11 +6,8 @@
 package org.mapstruct.ap.internal.conversion;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 
-import org.mapstruct.ap.internal.model.HelperMethod;
 import org.mapstruct.ap.internal.model.common.ConversionContext;
 import org.mapstruct.ap.internal.model.common.Type;
 
@@ -25,7 +22,7 @@
 public class BigDecimalToStringConversion extends AbstractNumberToStringConversion  {
 
     public BigDecimalToStringConversion() {
-        super( true );
+        super( true, true );
     }
 
     @Override
@@ -60,23 +57,7 @@ protected Set<Type> getFromConversionImportTypes(ConversionContext conversionCon
         return asSet( conversionContext.getTypeFactory().getType( BigDecimal.class ) );
     }
 
-    @Override
-    public List<HelperMethod> getRequiredHelperMethods(ConversionContext conversionContext) {
-        List<HelperMethod> helpers = new ArrayList<>();
-        if ( conversionContext.getNumberFormat() != null ) {
-            helpers.add( new CreateDecimalFormat( conversionContext.getTypeFactory() ) );
-        }
-        return helpers;
-    }
-
     private void appendDecimalFormatter(StringBuilder sb, ConversionContext conversionContext) {
-        sb.append( "createDecimalFormat( " );
-        if ( conversionContext.getNumberFormat() != null ) {
-            sb.append( "\"" );
-            sb.append( conversionContext.getNumberFormat() );
-            sb.append( "\"" );
-        }
-
-        sb.append( " )" );
+        sb.append( decimalFormatter( conversionContext ) );
     }
 }
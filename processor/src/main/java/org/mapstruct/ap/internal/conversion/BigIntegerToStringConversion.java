@@ -7,11 +7,8 @@
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 
-import org.mapstruct.ap.internal.model.HelperMethod;
 import org.mapstruct.ap.internal.model.common.ConversionContext;
 import org.mapstruct.ap.internal.model.common.Type;
 
@@ -27,7 +24,7 @@
 public class BigIntegerToStringConversion extends AbstractNumberToStringConversion  {
 
     public BigIntegerToStringConversion() {
-        super( true );
+        super( true, true );
     }
 
     @Override
@@ -68,23 +65,7 @@ protected Set<Type> getFromConversionImportTypes(ConversionContext conversionCon
         }
     }
 
-    @Override
-    public List<HelperMethod> getRequiredHelperMethods(ConversionContext conversionContext) {
-        List<HelperMethod> helpers = new ArrayList<>();
-        if ( conversionContext.getNumberFormat() != null ) {
-            helpers.add( new CreateDecimalFormat( conversionContext.getTypeFactory() ) );
-        }
-        return helpers;
-    }
-
     private void appendDecimalFormatter(StringBuilder sb, ConversionContext conversionContext) {
-        sb.append( "createDecimalFormat( " );
-        if ( conversionContext.getNumberFormat() != null ) {
-            sb.append( "\"" );
-            sb.append( conversionContext.getNumberFormat() );
-            sb.append( "\"" );
-        }
-
-        sb.append( " )" );
+        sb.append( decimalFormatter( conversionContext ) );
     }
 }
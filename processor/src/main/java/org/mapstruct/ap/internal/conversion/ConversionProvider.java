@@ -10,6 +10,7 @@
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.ConversionContext;
 import org.mapstruct.ap.internal.model.HelperMethod;
+import org.mapstruct.ap.internal.model.common.FieldReference;
 
 /**
  * Implementations create inline {@link TypeConversion}s such as
@@ -48,4 +49,11 @@ public interface ConversionProvider {
      * @return any helper methods when required.
      */
     List<HelperMethod> getRequiredHelperMethods(ConversionContext conversionContext);
+
+    /**
+     * @param conversionContext ConversionContext providing optional information required for creating the conversion.
+     *
+     * @return any fields, e.g. cached formatters, to be added to the mapper when required.
+     */
+    List<FieldReference> getRequiredHelperFields(ConversionContext conversionContext);
 }
@@ -20,6 +20,8 @@
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.util.JavaTimeConstants;
 import org.mapstruct.ap.internal.util.JodaTimeConstants;
+import org.mapstruct.ap.internal.util.LookupMemo;
+import org.mapstruct.ap.internal.util.LookupMemo.Lookup;
 
 import static org.mapstruct.ap.internal.conversion.ReverseConversion.reverse;
 
@@ -35,8 +37,15 @@ public class Conversions {
     private final Type stringType;
     private final TypeFactory typeFactory;
 
+    /**
+     * The conversions determined for pairs of type mirrors, shared by all mappers of the current round, as the same
+     * pairs of types are looked up for many properties and mappers.
+     */
+    private final LookupMemo<ConversionProvider> conversionMemo;
+
     public Conversions(Elements elementUtils, TypeFactory typeFactory) {
         this.typeFactory = typeFactory;
+        this.conversionMemo = typeFactory.getLookupMemo( "Conversions.getConversion" );
 
         this.enumType = typeFactory.getType( Enum.class );
         this.stringType = typeFactory.getType( String.class );
@@ -174,7 +183,10 @@ public Conversions(Elements elementUtils, TypeFactory typeFactory) {
 
         registerJava8TimeConversions();
 
-        //misc.
+        registerMiscConversions();
+    }
+
+    private void registerMiscConversions() {
         register( Enum.class, String.class, new EnumStringConversion() );
         register( Date.class, String.class, new DateToStringConversion() );
         register( BigDecimal.class, BigInteger.class, new BigDecimalToBigIntegerConversion() );
@@ -292,7 +304,19 @@ private void register(String sourceTypeName, Class<?> targetClass, ConversionPro
         conversions.put( new Key( targetType, sourceType ), reverse( conversion ) );
     }
 
-    public ConversionProvider getConversion(Type sourceType, Type targetType) {
+    public ConversionProvider getConversion(final Type sourceType, final Type targetType) {
+        Lookup<ConversionProvider> lookup = new Lookup<ConversionProvider>() {
+
+            @Override
+            public ConversionProvider lookUp() {
+                return lookupConversion( sourceType, targetType );
+            }
+        };
+
+        return conversionMemo.get( sourceType.getTypeMirror(), targetType.getTypeMirror(), lookup );
+    }
+
+    private ConversionProvider lookupConversion(Type sourceType, Type targetType) {
         if ( sourceType.isEnumType() && targetType.equals( stringType ) ) {
             sourceType = enumType;
         }
@@ -0,0 +1,24 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.conversion;
+
+import org.mapstruct.ap.internal.model.common.ConversionContext;
+import org.mapstruct.ap.internal.util.JavaTimeConstants;
+
+/**
+ * A {@code static final java.time.format.DateTimeFormatter} constant. {@code DateTimeFormatter} is immutable and
+ * thread-safe, so one instance per pattern is shared by all conversions of a mapper.
+ */
+public class DateTimeFormatterField extends FormatterField {
+
+    public DateTimeFormatterField(ConversionContext conversionContext) {
+        super(
+            conversionContext.getTypeFactory().getType( JavaTimeConstants.DATE_TIME_FORMATTER_FQN ),
+            "DATE_TIME_FORMATTER",
+            conversionContext.getDateFormat()
+        );
+    }
+}
@@ -15,6 +15,7 @@
 import org.mapstruct.ap.internal.model.TypeConversion;
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.ConversionContext;
+import org.mapstruct.ap.internal.model.common.FieldReference;
 import org.mapstruct.ap.internal.model.common.Type;
 
 import static java.util.Arrays.asList;
@@ -49,18 +50,24 @@ public List<HelperMethod> getRequiredHelperMethods(ConversionContext conversionC
         return Collections.emptyList();
     }
 
-    private String getConversionExpression(ConversionContext conversionContext, String method) {
-        StringBuilder conversionString = new StringBuilder( "new " );
-        conversionString.append( simpleDateFormat( conversionContext ) );
-        conversionString.append( '(' );
+    @Override
+    public List<FieldReference> getRequiredHelperFields(ConversionContext conversionContext) {
+        if ( conversionContext.getDateFormat() != null ) {
+            return Collections.<FieldReference>singletonList( new SimpleDateFormatField( conversionContext ) );
+        }
+        return Collections.emptyList();
+    }
 
+    private String getConversionExpression(ConversionContext conversionContext, String method) {
         if ( conversionContext.getDateFormat() != null ) {
-            conversionString.append( " \"" );
-            conversionString.append( conversionContext.getDateFormat() );
-            conversionString.append( "\" " );
+            // formatters for a given pattern are cached per thread, see SimpleDateFormatField
+            return new SimpleDateFormatField( conversionContext ).getVariableName() + ".get()." + method
+                + "( <SOURCE> )";
         }
 
-        conversionString.append( ")." );
+        StringBuilder conversionString = new StringBuilder( "new " );
+        conversionString.append( simpleDateFormat( conversionContext ) );
+        conversionString.append( "()." );
         conversionString.append( method );
         conversionString.append( "( <SOURCE> )" );
 
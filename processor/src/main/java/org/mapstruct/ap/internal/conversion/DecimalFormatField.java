@@ -0,0 +1,35 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.conversion;
+
+import java.text.DecimalFormat;
+
+import org.mapstruct.ap.internal.model.common.ConversionContext;
+
+/**
+ * A {@code static final ThreadLocal<java.text.DecimalFormat>} constant. {@code DecimalFormat} is not thread-safe, so
+ * each thread gets its own instance which is then reused by all conversions of a mapper sharing the number format.
+ */
+public class DecimalFormatField extends FormatterField {
+
+    private final boolean parseBigDecimal;
+
+    public DecimalFormatField(ConversionContext conversionContext, boolean parseBigDecimal) {
+        super(
+            conversionContext.getTypeFactory().getType( DecimalFormat.class ),
+            parseBigDecimal ? "BIG_DECIMAL_FORMAT" : "DECIMAL_FORMAT",
+            conversionContext.getNumberFormat()
+        );
+        this.parseBigDecimal = parseBigDecimal;
+    }
+
+    /**
+     * @return whether the formatter should parse into {@link java.math.BigDecimal}
+     */
+    public boolean isParseBigDecimal() {
+        return parseBigDecimal;
+    }
+}
@@ -5,8 +5,11 @@
  */
 package org.mapstruct.ap.internal.conversion;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
+import org.mapstruct.ap.internal.model.HelperMethod;
 import org.mapstruct.ap.internal.model.common.ConversionContext;
 import org.mapstruct.ap.internal.model.common.Type;
 
@@ -14,6 +17,9 @@
 
 /**
  * Conversion between {@link String} and {@link Enum} types.
+ * <p>
+ * String to enum goes through a generated {@link StringToEnum} helper method looking up the constant by its name
+ * in a static map rather than through {@code Enum.valueOf()}.
  *
  * @author Gunnar Morling
  */
@@ -26,8 +32,7 @@ public String getToExpression(ConversionContext conversionContext) {
 
     @Override
     public String getFromExpression(ConversionContext conversionContext) {
-        return "Enum.valueOf( " + conversionContext.getTargetType().getReferenceName()
-            + ".class, <SOURCE> )";
+        return new StringToEnum( conversionContext ).getName() + "( <SOURCE> )";
     }
 
     @Override
@@ -36,4 +41,12 @@ protected Set<Type> getFromConversionImportTypes(ConversionContext conversionCon
             conversionContext.getTargetType()
         );
     }
+
+    @Override
+    public List<HelperMethod> getRequiredHelperMethods(ConversionContext conversionContext) {
+        if ( conversionContext.getTargetType().isEnumType() ) {
+            return Collections.singletonList( new StringToEnum( conversionContext ) );
+        }
+        return Collections.emptyList();
+    }
 }
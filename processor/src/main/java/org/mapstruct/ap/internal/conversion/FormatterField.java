@@ -0,0 +1,67 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.conversion;
+
+import org.mapstruct.ap.internal.model.common.FieldReference;
+import org.mapstruct.ap.internal.model.common.Type;
+
+/**
+ * A constant holding a formatter for a given pattern. Conversions sharing the same pattern refer to the same constant,
+ * so the formatter is created once per mapper class rather than once per conversion invocation.
+ */
+public abstract class FormatterField implements FieldReference {
+
+    private final Type type;
+    private final String pattern;
+    private final String variableName;
+
+    protected FormatterField(Type type, String variableNamePrefix, String pattern) {
+        this.type = type;
+        this.pattern = pattern;
+        this.variableName = variableName( variableNamePrefix, pattern );
+    }
+
+    @Override
+    public String getVariableName() {
+        return variableName;
+    }
+
+    @Override
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the pattern the formatter is created with
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Creates a constant name for the given pattern, e.g. {@code DATE_TIME_FORMATTER_dd_MM_yyyy_7147a660} for
+     * {@code dd.MM.yyyy}. The hash suffix keeps patterns apart which only differ in characters that are not allowed in
+     * Java identifiers.
+     */
+    private static String variableName(String prefix, String pattern) {
+        StringBuilder name = new StringBuilder( prefix );
+        boolean separated = true;
+        for ( char c : pattern.toCharArray() ) {
+            if ( Character.isJavaIdentifierPart( c ) && c != '$' ) {
+                if ( separated ) {
+                    name.append( '_' );
+                    separated = false;
+                }
+                name.append( c );
+            }
+            else {
+                separated = true;
+            }
+        }
+        name.append( '_' ).append( Integer.toHexString( pattern.hashCode() ) );
+        return name.toString();
+    }
+}
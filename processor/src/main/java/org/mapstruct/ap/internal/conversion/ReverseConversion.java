@@ -5,11 +5,11 @@
  */
 package org.mapstruct.ap.internal.conversion;
 
-import java.util.Collections;
 import java.util.List;
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.ConversionContext;
 import org.mapstruct.ap.internal.model.HelperMethod;
+import org.mapstruct.ap.internal.model.common.FieldReference;
 
 /**
  * A {@link ConversionProvider} which creates the reversed conversions for a
@@ -41,7 +41,12 @@ public Assignment from(ConversionContext conversionContext) {
 
     @Override
     public List<HelperMethod> getRequiredHelperMethods(ConversionContext conversionContext) {
-        return Collections.emptyList();
+        return conversionProvider.getRequiredHelperMethods( conversionContext );
+    }
+
+    @Override
+    public List<FieldReference> getRequiredHelperFields(ConversionContext conversionContext) {
+        return conversionProvider.getRequiredHelperFields( conversionContext );
     }
 
 }
@@ -13,6 +13,7 @@
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.ConversionContext;
 import org.mapstruct.ap.internal.model.HelperMethod;
+import org.mapstruct.ap.internal.model.common.FieldReference;
 import org.mapstruct.ap.internal.model.common.Type;
 
 /**
@@ -45,6 +46,10 @@ public List<HelperMethod> getRequiredHelperMethods(ConversionContext conversionC
         return Collections.emptyList();
     }
 
+    @Override
+    public List<FieldReference> getRequiredHelperFields(ConversionContext conversionContext) {
+        return Collections.emptyList();
+    }
 
     /**
      * Returns the conversion string from source to target. The placeholder {@code <SOURCE>} can be used to represent a
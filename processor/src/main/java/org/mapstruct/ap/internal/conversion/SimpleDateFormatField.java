@@ -0,0 +1,29 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.conversion;
+
+import java.text.SimpleDateFormat;
+
+import org.mapstruct.ap.internal.model.common.ConversionContext;
+
+/**
+ * A {@code static final ThreadLocal<java.text.SimpleDateFormat>} constant. {@code SimpleDateFormat} is not
+ * thread-safe, so each thread gets its own instance which is then reused by all conversions of a mapper sharing the
+ * pattern.
+ * <p>
+ * The formatter of a thread keeps the default {@code TimeZone} and {@code Locale} at the time it was created, so
+ * changes of the defaults afterwards don't apply to it.
+ */
+public class SimpleDateFormatField extends FormatterField {
+
+    public SimpleDateFormatField(ConversionContext conversionContext) {
+        super(
+            conversionContext.getTypeFactory().getType( SimpleDateFormat.class ),
+            "SIMPLE_DATE_FORMAT",
+            conversionContext.getDateFormat()
+        );
+    }
+}
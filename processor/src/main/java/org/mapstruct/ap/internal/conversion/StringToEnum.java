@@ -0,0 +1,80 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.conversion;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.HelperMethod;
+import org.mapstruct.ap.internal.model.StringLookupTableField;
+import org.mapstruct.ap.internal.model.common.ConversionContext;
+import org.mapstruct.ap.internal.model.common.FieldReference;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.MappingOptions;
+import org.mapstruct.ap.internal.util.Strings;
+
+/**
+ * HelperMethod that converts a {@link String} into a constant of a given enum type by looking it up in a
+ * {@link StringLookupTableField} of the constant names, as alternative to
+ * {@code Enum.valueOf( EnumType.class, value )}. Unknown values raise an {@link IllegalArgumentException}, just like
+ * {@link Enum#valueOf(Class, String)} does.
+ *
+ * One method is generated per enum type, named after the fully qualified name of that type, e.g.
+ * {@code stringToComExampleOrderType}, so enum types with the same simple name get different methods.
+ */
+public class StringToEnum extends HelperMethod {
+
+    private final String name;
+    private final Parameter parameter;
+    private final Type returnType;
+    private final StringLookupTableField constants;
+    private final Set<Type> importTypes;
+
+    public StringToEnum(ConversionContext conversionContext) {
+        this.parameter = new Parameter( "value", conversionContext.getTypeFactory().getType( String.class ) );
+        this.returnType = conversionContext.getTargetType();
+        String qualifiedName = Strings.capitalize( Strings.joinAndCamelize(
+            Arrays.asList( returnType.getFullyQualifiedName().split( "\\." ) ) ) );
+        this.name = "stringTo" + qualifiedName;
+        this.constants = StringLookupTableField.forEnumConstants(
+            conversionContext.getTypeFactory(),
+            returnType,
+            qualifiedName
+        );
+        this.importTypes = constants.getImportTypes();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public FieldReference getFieldReference() {
+        return constants;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return importTypes;
+    }
+
+    @Override
+    public Parameter getParameter() {
+        return parameter;
+    }
+
+    @Override
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    @Override
+    public MappingOptions getMappingOptions() {
+        return MappingOptions.empty();
+    }
+}
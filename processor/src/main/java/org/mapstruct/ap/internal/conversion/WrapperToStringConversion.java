@@ -14,8 +14,6 @@
 import org.mapstruct.ap.internal.util.NativeTypes;
 import org.mapstruct.ap.internal.util.Strings;
 
-import static org.mapstruct.ap.internal.conversion.ConversionUtils.decimalFormat;
-
 /**
  * Conversion between wrapper types such as {@link Integer} and {@link String}.
  *
@@ -88,16 +86,6 @@ protected Set<Type> getFromConversionImportTypes(ConversionContext conversionCon
     }
 
     private void appendDecimalFormatter(StringBuilder sb, ConversionContext conversionContext) {
-        sb.append( "new " );
-        sb.append( decimalFormat( conversionContext ) );
-        sb.append( "( " );
-
-        if ( conversionContext.getNumberFormat() != null ) {
-            sb.append( "\"" );
-            sb.append( conversionContext.getNumberFormat() );
-            sb.append( "\"" );
-        }
-
-        sb.append( " )" );
+        sb.append( decimalFormatter( conversionContext ) );
     }
 }
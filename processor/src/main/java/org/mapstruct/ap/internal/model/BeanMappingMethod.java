@@ -65,6 +65,8 @@ public class BeanMappingMethod extends NormalTypeMappingMethod {
     private final List<PropertyMapping> constantMappings;
     private final Type resultType;
     private final MethodReference finalizerMethod;
+    private final List<PropertyMappingGroup> propertyMappingGroups;
+    private final List<Parameter> propertyMappingGroupParameters;
 
     public static class Builder {
 
@@ -245,6 +247,16 @@ else if ( !method.isUpdateMethod() &&
             MethodReference finalizeMethod = getFinalizerMethod(
                 resultType == null ? method.getReturnType() : resultType );
 
+            Integer methodSizeLimit = ctx.getOptions().getMappingMethodSizeLimit();
+            List<PropertyMappingGroup> propertyMappingGroups = PropertyMappingGroup.split(
+                method.getName(),
+                ctx.getMethodNames(),
+                method.getSourceParameters(),
+                propertyMappings,
+                methodSizeLimit != null ? methodSizeLimit : PropertyMappingGroup.HUGE_METHOD_LIMIT
+            );
+            ctx.addPropertyMappingGroups( propertyMappingGroups );
+
             return new BeanMappingMethod(
                 method,
                 existingVariableNames,
@@ -254,7 +266,8 @@ else if ( !method.isUpdateMethod() &&
                 resultType,
                 beforeMappingMethods,
                 afterMappingMethods,
-                finalizeMethod
+                finalizeMethod,
+                propertyMappingGroups
             );
         }
 
@@ -478,6 +491,7 @@ else if ( mapping.getSourceName() != null ) {
                         .defaultValue( mapping.getDefaultValue() )
                         .defaultJavaExpression( mapping.getDefaultJavaExpression() )
                         .nullValueCheckStrategyPrism( mapping.getNullValueCheckStrategy() )
+                        .collectionCopyStrategyPrism( mapping.getCollectionCopyStrategy() )
                         .build();
                     handledTargets.add( propertyName );
                     unprocessedSourceParameters.remove( sourceRef.getParameter() );
@@ -596,6 +610,8 @@ private void applyPropertyNameBasedMapping() {
                                 .forgeMethodWithMappingOptions( extractAdditionalOptions( targetPropertyName, false ) )
                                 .nullValueCheckStrategyPrism( mapping != null ? mapping.getNullValueCheckStrategy()
                                     : null )
+                                .collectionCopyStrategyPrism( mapping != null ? mapping.getCollectionCopyStrategy()
+                                    : null )
                                 .build();
 
                             unprocessedSourceParameters.remove( sourceParameter );
@@ -660,6 +676,7 @@ private void applyParameterNameBasedMapping() {
                             .dependsOn( mapping != null ? mapping.getDependsOn() : Collections.<String>emptyList() )
                             .forgeMethodWithMappingOptions( extractAdditionalOptions( targetProperty.getKey(), false ) )
                             .nullValueCheckStrategyPrism( mapping != null ? mapping.getNullValueCheckStrategy() : null )
+                            .collectionCopyStrategyPrism( mapping != null ? mapping.getCollectionCopyStrategy() : null )
                             .build();
 
                         propertyMappings.add( propertyMapping );
@@ -813,7 +830,8 @@ private BeanMappingMethod(Method method,
                               Type resultType,
                               List<LifecycleCallbackMethodReference> beforeMappingReferences,
                               List<LifecycleCallbackMethodReference> afterMappingReferences,
-                              MethodReference finalizerMethod) {
+                              MethodReference finalizerMethod,
+                              List<PropertyMappingGroup> propertyMappingGroups) {
         super(
             method,
             existingVariableNames,
@@ -841,6 +859,13 @@ private BeanMappingMethod(Method method,
             }
         }
         this.resultType = resultType;
+        this.propertyMappingGroups = propertyMappingGroups;
+
+        // the methods of the groups receive all parameters, and the target bean unless it is a parameter itself
+        this.propertyMappingGroupParameters = new ArrayList<>( getParameters() );
+        if ( !isExistingInstanceMapping() ) {
+            propertyMappingGroupParameters.add( new Parameter( getResultName(), getResultType().getEffectiveType() ) );
+        }
     }
 
     public List<PropertyMapping> getPropertyMappings() {
@@ -870,6 +895,18 @@ public MethodReference getFinalizerMethod() {
         return finalizerMethod;
     }
 
+    /**
+     * @return the groups of property mappings carried out by separate methods, empty if all property mappings are
+     * carried out by this method
+     */
+    public List<PropertyMappingGroup> getPropertyMappingGroups() {
+        return propertyMappingGroups;
+    }
+
+    public List<Parameter> getPropertyMappingGroupParameters() {
+        return propertyMappingGroupParameters;
+    }
+
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> types = super.getImportTypes();
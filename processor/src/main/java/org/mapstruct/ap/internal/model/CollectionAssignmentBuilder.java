@@ -15,6 +15,7 @@
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.Method;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
+import org.mapstruct.ap.internal.prism.CollectionCopyStrategyPrism;
 import org.mapstruct.ap.internal.prism.CollectionMappingStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValueCheckStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValueMappingStrategyPrism;
@@ -58,6 +59,7 @@ public class CollectionAssignmentBuilder {
     private Assignment assignment;
     private SourceRHS sourceRHS;
     private NullValueCheckStrategyPrism nullValueCheckStrategy;
+    private CollectionCopyStrategyPrism collectionCopyStrategy;
 
     public CollectionAssignmentBuilder mappingBuilderContext(MappingBuilderContext ctx) {
         this.ctx = ctx;
@@ -114,6 +116,11 @@ public CollectionAssignmentBuilder nullValueCheckStrategy( NullValueCheckStrateg
         return this;
     }
 
+    public CollectionAssignmentBuilder collectionCopyStrategy( CollectionCopyStrategyPrism collectionCopyStrategy ) {
+        this.collectionCopyStrategy = collectionCopyStrategy;
+        return this;
+    }
+
     public Assignment build() {
         Assignment result = assignment;
 
@@ -167,7 +174,8 @@ else if ( result.getType() == Assignment.AssignmentType.DIRECT ||
                     targetType,
                     ctx.getTypeFactory(),
                     PropertyMapping.TargetWriteAccessorType.isFieldAssignment( targetAccessorType ),
-                    mapNullToDefault()
+                    mapNullToDefault(),
+                    collectionCopyStrategy
                 );
             }
             else {
@@ -19,6 +19,7 @@
 import org.mapstruct.ap.internal.model.source.ForgedMethod;
 import org.mapstruct.ap.internal.model.source.Method;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
+import org.mapstruct.ap.internal.prism.ElementUpdateStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValueMappingStrategyPrism;
 import org.mapstruct.ap.internal.util.Strings;
 
@@ -38,6 +39,10 @@
     private NullValueMappingStrategyPrism nullValueMappingStrategy;
     private String errorMessagePart;
     private String callingContextTargetPropertyName;
+    private Integer parallelThreshold;
+    private boolean lazy;
+    private ElementUpdateStrategyPrism elementUpdateStrategy;
+    private String elementKey;
 
     ContainerMappingMethodBuilder(Class<B> selfType, String errorMessagePart) {
         super( selfType );
@@ -64,6 +69,42 @@ public B callingContextTargetPropertyName(String callingContextTargetPropertyNam
         return myself;
     }
 
+    public B parallelThreshold(Integer parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+        return myself;
+    }
+
+    protected Integer getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public B lazy(boolean lazy) {
+        this.lazy = lazy;
+        return myself;
+    }
+
+    protected boolean isLazy() {
+        return lazy;
+    }
+
+    public B elementUpdateStrategy(ElementUpdateStrategyPrism elementUpdateStrategy) {
+        this.elementUpdateStrategy = elementUpdateStrategy;
+        return myself;
+    }
+
+    protected ElementUpdateStrategyPrism getElementUpdateStrategy() {
+        return elementUpdateStrategy;
+    }
+
+    public B elementKey(String elementKey) {
+        this.elementKey = elementKey;
+        return myself;
+    }
+
+    protected String getElementKey() {
+        return elementKey;
+    }
+
     @Override
     public final M build() {
         Type sourceParameterType = first( method.getSourceParameters() ).getType();
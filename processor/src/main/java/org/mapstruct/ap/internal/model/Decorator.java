@@ -149,7 +149,8 @@ private Decorator(TypeFactory typeFactory, String packageName, String name, Type
             versionInformation,
             accessibility,
             extraImports,
-            decoratorConstructor
+            decoratorConstructor,
+            false
         );
 
         this.decoratorType = decoratorType;
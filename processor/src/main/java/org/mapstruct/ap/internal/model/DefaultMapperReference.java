@@ -5,35 +5,56 @@
  */
 package org.mapstruct.ap.internal.model;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
-import org.mapstruct.ap.internal.util.Collections;
 import org.mapstruct.ap.internal.util.Strings;
 
 /**
  * Mapper reference which is retrieved via the {@code Mappers#getMapper()} method. Used by default if no other component
  * model is specified via {@code Mapper#uses()}.
+ * <p>
+ * If lazy references are requested, the referenced mapper is obtained upon first use and held by a static nested
+ * holder class, so it is shared by all instances of the referencing mapper. Generated mappers are retrieved via
+ * {@code Mappers#getSharedMapper()} then, so they are shared by all referencing mappers.
+ * <p>
+ * If final mapper implementations are requested, generated mappers are referenced by the exact type of their
+ * implementation, so invocations of their methods can be bound statically.
  *
  * @author Gunnar Morling
  */
 public class DefaultMapperReference extends MapperReference {
 
     private final boolean isAnnotatedMapper;
+    private final boolean lazy;
+    private final String implementationName;
     private final Set<Type> importTypes;
 
-    private DefaultMapperReference(Type type, boolean isAnnotatedMapper, Set<Type> importTypes, String variableName) {
+    private DefaultMapperReference(Type type, boolean isAnnotatedMapper, boolean lazy, String implementationName,
+                                   Set<Type> importTypes, String variableName) {
         super( type, variableName );
         this.isAnnotatedMapper = isAnnotatedMapper;
+        this.lazy = lazy;
+        this.implementationName = implementationName;
         this.importTypes = importTypes;
     }
 
-    public static DefaultMapperReference getInstance(Type type, boolean isAnnotatedMapper, TypeFactory typeFactory,
+    /**
+     * @param implementationName the name by which the final implementation of the referenced mapper is referenced
+     * directly, {@code null} if it is to be referenced via the mapper type
+     */
+    public static DefaultMapperReference getInstance(Type type, boolean isAnnotatedMapper, boolean lazy,
+                                                     String implementationName, TypeFactory typeFactory,
                                                      List<String> otherMapperReferences) {
-        Set<Type> importTypes = Collections.asSet( type );
-        if ( isAnnotatedMapper ) {
+        Set<Type> importTypes = new HashSet<>();
+        // the mapper type is required unless its implementation is instantiated directly
+        if ( implementationName == null || lazy ) {
+            importTypes.add( type );
+        }
+        if ( isAnnotatedMapper && ( implementationName == null || lazy ) ) {
             importTypes.add( typeFactory.getType( "org.mapstruct.factory.Mappers" ) );
         }
 
@@ -42,7 +63,14 @@ public static DefaultMapperReference getInstance(Type type, boolean isAnnotatedM
             otherMapperReferences
         );
 
-        return new DefaultMapperReference( type, isAnnotatedMapper, importTypes, variableName );
+        return new DefaultMapperReference(
+            type,
+            isAnnotatedMapper,
+            lazy,
+            implementationName,
+            importTypes,
+            variableName
+        );
     }
 
     @Override
@@ -50,7 +78,27 @@ public Set<Type> getImportTypes() {
         return importTypes;
     }
 
+    @Override
+    public String getInstanceReference() {
+        return lazy ? getHolderName() + ".INSTANCE" : getVariableName();
+    }
+
     public boolean isAnnotatedMapper() {
         return isAnnotatedMapper;
     }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    public String getImplementationName() {
+        return implementationName;
+    }
+
+    /**
+     * @return the name of the nested class holding the referenced mapper if it is referenced lazily
+     */
+    public String getHolderName() {
+        return Strings.capitalize( getVariableName() ) + "Holder";
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.ValueMappingMethod.MappingEntry;
+import org.mapstruct.ap.internal.model.common.FieldReference;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+
+/**
+ * A {@code static final} array of target enum constants, indexed by the ordinal of the source enum constants, which
+ * implements an enum-to-enum {@link ValueMappingMethod} with a single array access.
+ * <p>
+ * The array is populated in a static initializer by means of {@code Source.CONSTANT.ordinal()}, so it stays correct
+ * if the source enum is recompiled with constants in a different order. Source constants without a mapping are
+ * assigned the default target if there is one, and are {@code null} otherwise.
+ */
+public class EnumLookupTableField implements FieldReference {
+
+    private final String variableName;
+    private final Type type;
+    private final Type sourceType;
+    private final Type targetType;
+    private final List<MappingEntry> entries;
+    private final String defaultTarget;
+    private final Set<Type> importTypes;
+
+    public EnumLookupTableField(TypeFactory typeFactory, Type type, Type sourceType, Type targetType,
+                                List<MappingEntry> entries, String defaultTarget,
+                                Collection<String> existingFieldNames) {
+        this.type = type;
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.entries = entries;
+        this.defaultTarget = defaultTarget;
+        this.variableName = getSafeConstantName(
+            toConstantName( sourceType.getName() ) + "_TO_" + toConstantName( targetType.getName() ),
+            existingFieldNames
+        );
+        this.importTypes = defaultTarget != null ?
+            Collections.singleton( typeFactory.getType( Arrays.class ) ) :
+            Collections.<Type>emptySet();
+    }
+
+    static String toConstantName(String name) {
+        return name.replaceAll( "([a-z0-9])([A-Z])", "$1_$2" ).toUpperCase( Locale.ROOT );
+    }
+
+    static String getSafeConstantName(String name, Collection<String> existingFieldNames) {
+        String result = name;
+        int c = 1;
+        while ( existingFieldNames.contains( result ) ) {
+            result = name + "_" + c++;
+        }
+        return result;
+    }
+
+    @Override
+    public String getVariableName() {
+        return variableName;
+    }
+
+    @Override
+    public Type getType() {
+        return type;
+    }
+
+    public Type getSourceType() {
+        return sourceType;
+    }
+
+    public Type getTargetType() {
+        return targetType;
+    }
+
+    public List<MappingEntry> getEntries() {
+        return entries;
+    }
+
+    public String getDefaultTarget() {
+        return defaultTarget;
+    }
+
+    /**
+     * @return the types required by the static initializer of the table
+     */
+    public Set<Type> getImportTypes() {
+        return importTypes;
+    }
+}
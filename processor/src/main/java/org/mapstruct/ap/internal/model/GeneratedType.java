@@ -44,6 +44,7 @@ public abstract class GeneratedType extends ModelElement {
     private final boolean suppressGeneratorVersionComment;
     private final VersionInformation versionInformation;
     private final Accessibility accessibility;
+    private final boolean finalClass;
     private List<Field> fields;
     private Constructor constructor;
 
@@ -57,7 +58,8 @@ public abstract class GeneratedType extends ModelElement {
     protected GeneratedType(TypeFactory typeFactory, String packageName, String name, String superClassName,
                             String interfacePackage, String interfaceName, List<MappingMethod> methods,
                             List<Field> fields, Options options, VersionInformation versionInformation,
-                            Accessibility accessibility, SortedSet<Type> extraImportedTypes, Constructor constructor) {
+                            Accessibility accessibility, SortedSet<Type> extraImportedTypes, Constructor constructor,
+                            boolean finalClass) {
         this.packageName = packageName;
         this.name = name;
         this.superClassName = superClassName;
@@ -73,6 +75,7 @@ protected GeneratedType(TypeFactory typeFactory, String packageName, String name
         this.suppressGeneratorVersionComment = options.isSuppressGeneratorVersionComment();
         this.versionInformation = versionInformation;
         this.accessibility = accessibility;
+        this.finalClass = finalClass;
 
         if ( versionInformation.isSourceVersionAtLeast9() &&
             typeFactory.isTypeAvailable( "javax.annotation.processing.Generated" ) ) {
@@ -157,6 +160,10 @@ public Accessibility getAccessibility() {
         return accessibility;
     }
 
+    public boolean isFinalClass() {
+        return finalClass;
+    }
+
     public void setConstructor(Constructor constructor) {
         this.constructor = constructor;
     }
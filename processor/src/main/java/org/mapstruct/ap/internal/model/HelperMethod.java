@@ -15,6 +15,7 @@
 
 import org.mapstruct.ap.internal.model.common.Accessibility;
 import org.mapstruct.ap.internal.model.common.ConversionContext;
+import org.mapstruct.ap.internal.model.common.FieldReference;
 import org.mapstruct.ap.internal.model.common.Parameter;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.Method;
@@ -25,11 +26,9 @@
 /**
  * A non mapping method to be generated.
  *
- * Can be called from for instance conversions or built-in methods as shared helper method.
- *
- * One example of such method is the creation of a decimal formatter
- * {@link org.mapstruct.ap.internal.conversion.CreateDecimalFormat}, which is used in 2 conversions
- * (BigInteger to String and BigDecimal to String)
+ * Can be called from for instance conversions or built-in methods as shared helper method. State which should be
+ * shared rather than re-created on each invocation (such as formatters) is better contributed as field, see
+ * {@link org.mapstruct.ap.internal.conversion.ConversionProvider#getRequiredHelperFields}.
  *
  * @author Sjaak Derksen
  */
@@ -55,6 +54,16 @@ public Set<Type> getImportTypes() {
         return Collections.<Type>emptySet();
     }
 
+    /**
+     * Returns a field used by this method, which is added to the generated mapper along with the method. Defaults to
+     * {@code null}.
+     *
+     * @return the field used by this method, or {@code null} if it doesn't use any
+     */
+    public FieldReference getFieldReference() {
+        return null;
+    }
+
     /**
      * {@inheritDoc}
      * <p>
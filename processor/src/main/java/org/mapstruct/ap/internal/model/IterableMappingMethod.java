@@ -7,15 +7,37 @@
 
 import static org.mapstruct.ap.internal.util.Collections.first;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.lang.model.type.DeclaredType;
 
+import org.mapstruct.ap.internal.model.assignment.InPlaceUpdateWrapper;
+import org.mapstruct.ap.internal.model.assignment.Java8FunctionWrapper;
 import org.mapstruct.ap.internal.model.assignment.LocalVarWrapper;
 import org.mapstruct.ap.internal.model.assignment.SetterWrapper;
 import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.SourceRHS;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.Method;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
+import org.mapstruct.ap.internal.prism.ElementUpdateStrategyPrism;
+import org.mapstruct.ap.internal.util.JavaStreamConstants;
+import org.mapstruct.ap.internal.util.Message;
+import org.mapstruct.ap.internal.util.Strings;
+import org.mapstruct.ap.internal.util.ValueProvider;
+import org.mapstruct.ap.internal.util.accessor.Accessor;
 
 /**
  * A {@link MappingMethod} implemented by a {@link Mapper} class which maps one iterable type to another. The collection
@@ -25,14 +47,27 @@
  */
 public class IterableMappingMethod extends ContainerMappingMethod {
 
+    private final ResultPopulation resultPopulation;
+    private final String resultElementName;
+    private final String elementsByKeyName;
+    private final String targetIteratorName;
+    private final String mappedElementsName;
+
     public static class Builder extends ContainerMappingMethodBuilder<Builder, IterableMappingMethod> {
 
+        private Assignment parallelElementAssignment;
+        private Assignment elementCreationAssignment;
+        private boolean lazyView;
+
         public Builder() {
             super( Builder.class, "collection element" );
         }
 
         @Override
         protected Type getElementType(Type parameterType) {
+            if ( parameterType.isIteratorType() || parameterType.isConsumerType() ) {
+                return getSinkOrIteratorElementType( parameterType );
+            }
             return parameterType.isArrayType() ? parameterType.getComponentType() : first(
                 parameterType.determineTypeArguments( Iterable.class ) ).getTypeBound();
         }
@@ -40,20 +75,258 @@ protected Type getElementType(Type parameterType) {
         @Override
         protected Assignment getWrapper(Assignment assignment, Method method) {
             Type resultType = method.getResultType();
+            if ( isLazy() ) {
+                lazyView = isLazyViewApplicable( method );
+                if ( !lazyView ) {
+                    ctx.getMessager().printMessage(
+                        method.getExecutable(),
+                        Message.ITERABLEMAPPING_LAZY_NOT_APPLICABLE
+                    );
+                }
+            }
+
             // target accessor is setter, so decorate assignment as setter
             if ( resultType.isArrayType() ) {
                 return new LocalVarWrapper( assignment, method.getThrownTypes(), resultType, false );
             }
+            else if ( resultType.isIteratorInterfaceType() || lazyView ) {
+                // Iterator#next() and List#get() can't throw any checked exceptions, so all of them need to be wrapped
+                return new LocalVarWrapper( assignment, Collections.<Type>emptyList(), resultType, false );
+            }
+            else if ( resultType.isConsumerType() ) {
+                return new SetterWrapper( assignment, method.getThrownTypes(), false );
+            }
             else {
+                if ( isElementUpdateRequested() ) {
+                    elementCreationAssignment = assignment;
+                }
+                else if ( isParallelMappingApplicable( assignment, method ) ) {
+                    parallelElementAssignment = new Java8FunctionWrapper( assignment );
+                }
                 return new SetterWrapper( assignment, method.getThrownTypes(), false );
             }
         }
 
+        /**
+         * Elements can be mapped in parallel (using a parallel stream) if requested via
+         * {@code IterableMapping#parallelThreshold()}, the source is a collection and there's an actual mapping of the
+         * elements which doesn't throw any checked exceptions.
+         */
+        private boolean isParallelMappingApplicable(Assignment assignment, Method method) {
+            return getParallelThreshold() != null
+                && assignment != null
+                && assignment.getType() != Assignment.AssignmentType.DIRECT
+                && assignment.getThrownTypes().isEmpty()
+                && first( method.getSourceParameters() ).getType().isCollectionType()
+                && ctx.getTypeFactory().isTypeAvailable( JavaStreamConstants.STREAM_FQN );
+        }
+
+        private boolean isElementUpdateRequested() {
+            return getElementUpdateStrategy() != null
+                && getElementUpdateStrategy() != ElementUpdateStrategyPrism.REPLACE;
+        }
+
+        /**
+         * Determines how the elements of the target collection are updated in place, if requested via
+         * {@code IterableMapping#elementUpdateStrategy()}. The matched target elements are updated by an update method
+         * for the element types, the elements assigned by the regular element mapping are only created for source
+         * elements without a matching target element.
+         *
+         * @return the element update, or {@code null} if the elements are replaced or an error has been reported
+         */
+        private ElementUpdate getElementUpdate(Method method, String loopVariableName,
+            SelectionParameters selectionParameters) {
+            if ( !isElementUpdateRequested() ) {
+                return null;
+            }
+
+            Type sourceType = first( method.getSourceParameters() ).getType();
+            Type resultType = method.getResultType();
+            if ( !method.isUpdateMethod() || !resultType.isCollectionType() || sourceType.isIteratorType() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    Message.ITERABLEMAPPING_ELEMENT_UPDATE_NOT_APPLICABLE
+                );
+                return null;
+            }
+
+            boolean byKey = getElementUpdateStrategy() == ElementUpdateStrategyPrism.UPDATE_BY_KEY;
+            Type listType = ctx.getTypeFactory().getType( List.class ).erasure();
+            if ( !byKey && !resultType.erasure().isAssignableTo( listType ) ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    Message.ITERABLEMAPPING_ELEMENT_UPDATE_BY_POSITION_REQUIRES_LIST
+                );
+                return null;
+            }
+
+            if ( elementCreationAssignment == null ) {
+                // the elements can't be mapped at all, which has been reported already
+                return null;
+            }
+
+            Type sourceElementType = getElementType( sourceType );
+            Type targetElementType = getElementType( resultType );
+
+            String sourceKey = null;
+            String targetKey = null;
+            Type keyType = null;
+            if ( byKey ) {
+                String elementKey = getElementKey();
+                if ( elementKey == null ) {
+                    ctx.getMessager().printMessage(
+                        method.getExecutable(),
+                        Message.ITERABLEMAPPING_ELEMENT_KEY_MISSING
+                    );
+                    return null;
+                }
+
+                Accessor sourceKeyAccessor = getKeyAccessor( sourceElementType, elementKey );
+                if ( sourceKeyAccessor == null ) {
+                    ctx.getMessager().printMessage(
+                        method.getExecutable(),
+                        Message.ITERABLEMAPPING_ELEMENT_KEY_UNKNOWN,
+                        elementKey,
+                        "source",
+                        sourceElementType
+                    );
+                    return null;
+                }
+                Accessor targetKeyAccessor = getKeyAccessor( targetElementType, elementKey );
+                if ( targetKeyAccessor == null ) {
+                    ctx.getMessager().printMessage(
+                        method.getExecutable(),
+                        Message.ITERABLEMAPPING_ELEMENT_KEY_UNKNOWN,
+                        elementKey,
+                        "target",
+                        targetElementType
+                    );
+                    return null;
+                }
+
+                Type sourceKeyType = getKeyType( sourceElementType, sourceKeyAccessor );
+                keyType = getKeyType( targetElementType, targetKeyAccessor );
+                if ( !sourceKeyType.equals( keyType ) ) {
+                    ctx.getMessager().printMessage(
+                        method.getExecutable(),
+                        Message.ITERABLEMAPPING_ELEMENT_KEY_TYPE_MISMATCH,
+                        elementKey,
+                        sourceKeyType,
+                        keyType
+                    );
+                    return null;
+                }
+                sourceKey = ValueProvider.of( sourceKeyAccessor ).getValue();
+                targetKey = ValueProvider.of( targetKeyAccessor ).getValue();
+            }
+
+            SourceRHS sourceRHS = new SourceRHS(
+                loopVariableName,
+                sourceElementType,
+                new HashSet<>(),
+                "collection element"
+            );
+            Assignment updateAssignment = ctx.getMappingResolver().getTargetAssignment(
+                method,
+                targetElementType,
+                null,
+                null,
+                selectionParameters,
+                sourceRHS,
+                true
+            );
+            if ( updateAssignment == null || !updateAssignment.isCallingUpdateMethod() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    Message.ITERABLEMAPPING_ELEMENT_UPDATE_METHOD_NOT_FOUND,
+                    sourceElementType,
+                    targetElementType
+                );
+                return null;
+            }
+
+            Set<Type> helperImports = new HashSet<>();
+            if ( byKey ) {
+                helperImports.add( ctx.getTypeFactory().getType( Map.class ) );
+                helperImports.add( ctx.getTypeFactory().getType( HashMap.class ) );
+                helperImports.add( ctx.getTypeFactory().getType( Iterator.class ) );
+                helperImports.add( keyType );
+            }
+
+            return new ElementUpdate(
+                byKey,
+                new InPlaceUpdateWrapper( updateAssignment, method.getThrownTypes() ),
+                new LocalVarWrapper( elementCreationAssignment, method.getThrownTypes(), targetElementType, false ),
+                sourceKey,
+                targetKey,
+                keyType,
+                helperImports
+            );
+        }
+
+        private Accessor getKeyAccessor(Type elementType, String elementKey) {
+            if ( !( elementType.getTypeMirror() instanceof DeclaredType ) ) {
+                return null;
+            }
+            return elementType.getPropertyReadAccessors().get( elementKey );
+        }
+
+        private Type getKeyType(Type elementType, Accessor keyAccessor) {
+            return ctx.getTypeFactory().getWrappedType(
+                ctx.getTypeFactory().getReturnType( (DeclaredType) elementType.getTypeMirror(), keyAccessor )
+            );
+        }
+
+        /**
+         * A lazy view can be returned if the source is a list and the result type is a super-type of list.
+         */
+        private boolean isLazyViewApplicable(Method method) {
+            Type listType = ctx.getTypeFactory().getType( List.class ).erasure();
+            return !method.isUpdateMethod()
+                && first( method.getSourceParameters() ).getType().erasure().isAssignableTo( listType )
+                && listType.isAssignableTo( method.getResultType().erasure() );
+        }
+
+        private Parameter getForkJoinPoolParameter(Method method) {
+            Type forkJoinPoolType = ctx.getTypeFactory().getType( ForkJoinPool.class );
+            for ( Parameter parameter : method.getContextParameters() ) {
+                if ( parameter.getType().isAssignableTo( forkJoinPoolType ) ) {
+                    return parameter;
+                }
+            }
+            return null;
+        }
+
         @Override
         protected IterableMappingMethod instantiateMappingMethod(Method method, Collection<String> existingVariables,
             Assignment assignment, MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
             List<LifecycleCallbackMethodReference> beforeMappingMethods,
             List<LifecycleCallbackMethodReference> afterMappingMethods, SelectionParameters selectionParameters) {
+            ElementUpdate elementUpdate = getElementUpdate( method, loopVariableName, selectionParameters );
+
+            ParallelMapping parallelMapping = null;
+            if ( parallelElementAssignment != null ) {
+                parallelMapping = new ParallelMapping(
+                    getParallelThreshold(),
+                    parallelElementAssignment,
+                    getForkJoinPoolParameter( method ),
+                    ctx.getTypeFactory().getType( Collectors.class )
+                );
+            }
+
+            Set<Type> helperImports = new HashSet<>();
+            if ( mapNullToDefault && method.getResultType().isIteratorInterfaceType() ) {
+                helperImports.add( ctx.getTypeFactory().getType( Collections.class ) );
+            }
+            if ( lazyView ) {
+                helperImports.add( ctx.getTypeFactory().getType( AbstractList.class ) );
+            }
+            boolean bulkAddition = isBulkAdditionApplicable( method, assignment, elementUpdate );
+            if ( bulkAddition ) {
+                helperImports.add( ctx.getTypeFactory().getType( List.class ) );
+                helperImports.add( ctx.getTypeFactory().getType( ArrayList.class ) );
+            }
+
             return new IterableMappingMethod(
                 method,
                 existingVariables,
@@ -63,16 +336,151 @@ protected IterableMappingMethod instantiateMappingMethod(Method method, Collecti
                 loopVariableName,
                 beforeMappingMethods,
                 afterMappingMethods,
-                selectionParameters
+                selectionParameters,
+                new ResultPopulation( parallelMapping, elementUpdate, lazyView, bulkAddition, helperImports )
             );
         }
+
+        /**
+         * The mapped elements are collected and added to the result at once if adding them one by one is expensive
+         * for the result type, as for copy-on-write collections.
+         */
+        private boolean isBulkAdditionApplicable(Method method, Assignment assignment, ElementUpdate elementUpdate) {
+            Type resultType = method.getResultType();
+            return assignment != null
+                && elementUpdate == null
+                && !lazyView
+                && resultType.isCollectionType()
+                && resultType.getImplementation() != null
+                && resultType.getImplementation().isBulkAddition();
+        }
+    }
+
+    /**
+     * Describes how the elements of large source collections are mapped in parallel.
+     */
+    public static class ParallelMapping {
+
+        private final int threshold;
+        private final Assignment elementAssignment;
+        private final Parameter forkJoinPool;
+        private final Type collectorsType;
+
+        ParallelMapping(int threshold, Assignment elementAssignment, Parameter forkJoinPool, Type collectorsType) {
+            this.threshold = threshold;
+            this.elementAssignment = elementAssignment;
+            this.forkJoinPool = forkJoinPool;
+            this.collectorsType = collectorsType;
+        }
+
+        /**
+         * @return the number of source elements from which on the elements are mapped in parallel
+         */
+        public int getThreshold() {
+            return threshold;
+        }
+
+        /**
+         * @return the element assignment in form of a function applicable to the elements of a parallel stream
+         */
+        public Assignment getElementAssignment() {
+            return elementAssignment;
+        }
+
+        /**
+         * @return the context parameter providing the pool to map the elements in, may be {@code null}
+         */
+        public Parameter getForkJoinPool() {
+            return forkJoinPool;
+        }
+
+        public Set<Type> getImportTypes() {
+            Set<Type> importTypes = new HashSet<>( elementAssignment.getImportTypes() );
+            importTypes.add( collectorsType );
+            return importTypes;
+        }
+    }
+
+    /**
+     * Describes how the elements of an existing target collection are updated in place rather than being replaced.
+     */
+    public static class ElementUpdate {
+
+        private final boolean byKey;
+        private final Assignment updateAssignment;
+        private final Assignment creationAssignment;
+        private final String sourceKey;
+        private final String targetKey;
+        private final Type keyType;
+        private final Set<Type> helperImports;
+
+        ElementUpdate(boolean byKey, Assignment updateAssignment, Assignment creationAssignment, String sourceKey,
+            String targetKey, Type keyType, Set<Type> helperImports) {
+            this.byKey = byKey;
+            this.updateAssignment = updateAssignment;
+            this.creationAssignment = creationAssignment;
+            this.sourceKey = sourceKey;
+            this.targetKey = targetKey;
+            this.keyType = keyType;
+            this.helperImports = helperImports;
+        }
+
+        /**
+         * @return {@code true} if source and target elements are matched by key, {@code false} if they are matched by
+         * position
+         */
+        public boolean isByKey() {
+            return byKey;
+        }
+
+        /**
+         * @return the invocation of the update method updating a matched target element
+         */
+        public Assignment getUpdateAssignment() {
+            return updateAssignment;
+        }
+
+        /**
+         * @return the assignment creating a target element for a source element without a matching target element
+         */
+        public Assignment getCreationAssignment() {
+            return creationAssignment;
+        }
+
+        /**
+         * @return the read accessor of the key on the source elements, {@code null} if matched by position
+         */
+        public String getSourceKey() {
+            return sourceKey;
+        }
+
+        /**
+         * @return the read accessor of the key on the target elements, {@code null} if matched by position
+         */
+        public String getTargetKey() {
+            return targetKey;
+        }
+
+        /**
+         * @return the (boxed) type of the key, {@code null} if matched by position
+         */
+        public Type getKeyType() {
+            return keyType;
+        }
+
+        public Set<Type> getImportTypes() {
+            Set<Type> importTypes = new HashSet<>( helperImports );
+            importTypes.addAll( updateAssignment.getImportTypes() );
+            importTypes.addAll( creationAssignment.getImportTypes() );
+            return importTypes;
+        }
     }
 
     private IterableMappingMethod(Method method, Collection<String> existingVariables, Assignment parameterAssignment,
                                   MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
                                   List<LifecycleCallbackMethodReference> beforeMappingReferences,
                                   List<LifecycleCallbackMethodReference> afterMappingReferences,
-        SelectionParameters selectionParameters) {
+        SelectionParameters selectionParameters, ResultPopulation resultPopulation) {
         super(
             method,
             existingVariables,
@@ -84,6 +492,40 @@ private IterableMappingMethod(Method method, Collection<String> existingVariable
             afterMappingReferences,
             selectionParameters
         );
+        this.resultPopulation = resultPopulation;
+
+        Set<String> variableNames = new HashSet<>( existingVariables );
+        variableNames.add( loopVariableName );
+        this.resultElementName = Strings.getSafeVariableName( getResultElementType().getName(), variableNames );
+        variableNames.add( resultElementName );
+        this.elementsByKeyName = Strings.getSafeVariableName( resultElementName + "ByKey", variableNames );
+        variableNames.add( elementsByKeyName );
+        this.targetIteratorName = Strings.getSafeVariableName( "targetIterator", variableNames );
+        this.mappedElementsName = Strings.getSafeVariableName( "mappedElements", variableNames );
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> types = super.getImportTypes();
+        types.addAll( resultPopulation.helperImports );
+        if ( resultPopulation.parallelMapping != null ) {
+            types.addAll( resultPopulation.parallelMapping.getImportTypes() );
+        }
+        if ( resultPopulation.elementUpdate != null ) {
+            types.addAll( resultPopulation.elementUpdate.getImportTypes() );
+        }
+        return types;
+    }
+
+    public ParallelMapping getParallelMapping() {
+        return resultPopulation.parallelMapping;
+    }
+
+    /**
+     * @return how the elements of the target collection are updated in place, {@code null} if they are replaced
+     */
+    public ElementUpdate getElementUpdate() {
+        return resultPopulation.elementUpdate;
     }
 
     public Type getSourceElementType() {
@@ -92,18 +534,126 @@ public Type getSourceElementType() {
         if ( sourceParameterType.isArrayType() ) {
             return sourceParameterType.getComponentType();
         }
+        else if ( sourceParameterType.isIteratorType() ) {
+            return getSinkOrIteratorElementType( sourceParameterType );
+        }
         else {
             return first( sourceParameterType.determineTypeArguments( Iterable.class ) ).getTypeBound();
         }
     }
 
+    /**
+     * @return {@code true} if source and result are arrays of the same primitive type and the elements are assigned
+     * as they are, in which case the elements are copied via {@link System#arraycopy} rather than one by one
+     */
+    public boolean isArrayCopy() {
+        Type sourceElementType = getSourceElementType();
+        return getSourceParameter().getType().isArrayType()
+            && getResultType().isArrayType()
+            && sourceElementType.isPrimitive()
+            && sourceElementType.equals( getResultElementType() )
+            && getElementAssignment() != null
+            && getElementAssignment().getType().isDirect();
+    }
+
+    /**
+     * @return {@code true} if the mapped elements are passed to a {@code java.util.function.Consumer} given as mapping
+     * target rather than being collected
+     */
+    public boolean isSinkMapping() {
+        return getResultType().isConsumerType();
+    }
+
+    /**
+     * @return {@code true} if an {@link Iterator} is returned which maps the elements of the source iterator as they
+     * are requested
+     */
+    public boolean isIteratorMapping() {
+        return getResultType().isIteratorInterfaceType();
+    }
+
+    /**
+     * @return {@code true} if a list is returned which maps the elements of the source list when they are accessed for
+     * the first time
+     */
+    public boolean isLazyView() {
+        return resultPopulation.lazyView;
+    }
+
+    /**
+     * @return {@code true} if the mapped elements are collected in a list and added to the result at once rather than
+     * one by one
+     */
+    public boolean isBulkAddition() {
+        return resultPopulation.bulkAddition;
+    }
+
+    /**
+     * @return name of the list collecting the mapped elements if they are added to the result at once
+     */
+    public String getMappedElementsName() {
+        return mappedElementsName;
+    }
+
+    /**
+     * @return name of the variable holding a mapped element within the returned iterator or lazy view
+     */
+    public String getResultElementName() {
+        return resultElementName;
+    }
+
+    /**
+     * @return name of the map holding the target elements by their key when updating the elements by key
+     */
+    public String getElementsByKeyName() {
+        return elementsByKeyName;
+    }
+
+    /**
+     * @return name of the iterator removing the target elements without a matching source element when updating the
+     * elements by key
+     */
+    public String getTargetIteratorName() {
+        return targetIteratorName;
+    }
+
     @Override
     public Type getResultElementType() {
         if ( getResultType().isArrayType() ) {
             return getResultType().getComponentType();
         }
+        else if ( isSinkMapping() || isIteratorMapping() ) {
+            return getSinkOrIteratorElementType( getResultType() );
+        }
         else {
             return first( getResultType().determineTypeArguments( Iterable.class ) );
         }
     }
+
+    private static Type getSinkOrIteratorElementType(Type type) {
+        Class<?> superclass = type.isIteratorType() ? Iterator.class : Consumer.class;
+        return first( type.determineTypeArguments( superclass ) ).getTypeBound();
+    }
+
+    /**
+     * Describes how the result is populated with the mapped elements: in parallel, by updating the existing target
+     * elements, lazily on access or by adding them at once, together with the helper types this requires.
+     */
+    private static class ResultPopulation {
+
+        private final ParallelMapping parallelMapping;
+        private final ElementUpdate elementUpdate;
+        private final boolean lazyView;
+        private final boolean bulkAddition;
+        private final Set<Type> helperImports;
+
+        ResultPopulation(ParallelMapping parallelMapping, ElementUpdate elementUpdate, boolean lazyView,
+            boolean bulkAddition, Set<Type> helperImports) {
+            this.parallelMapping = parallelMapping;
+            this.elementUpdate = elementUpdate;
+            this.lazyView = lazyView;
+            this.bulkAddition = bulkAddition;
+            this.helperImports = helperImports;
+        }
+    }
 }
@@ -19,6 +19,7 @@
 import org.mapstruct.ap.internal.model.source.selector.MethodSelectors;
 import org.mapstruct.ap.internal.model.source.selector.SelectedMethod;
 import org.mapstruct.ap.internal.model.source.selector.SelectionCriteria;
+import org.mapstruct.ap.internal.util.Message;
 
 /**
  * Factory for creating lists of appropriate {@link LifecycleCallbackMethodReference}s
@@ -106,6 +107,12 @@ Collections.<Type> emptyList(),
             targetType,
             SelectionCriteria.forLifecycleMethods( selectionParameters ) );
 
+        if ( targetType != method.getResultType() ) {
+            // the target is created via a builder, so a value returned by a callback generic in the target type
+            // would be a builder as well and can't be returned by the mapping method
+            matchingMethods = withAssignableReturnValue( method, matchingMethods, targetType, ctx );
+        }
+
         return toLifecycleCallbackMethodRefs(
             method,
             matchingMethods,
@@ -145,6 +152,33 @@ private static List<LifecycleCallbackMethodReference> toLifecycleCallbackMethodR
         return result;
     }
 
+    /**
+     * Returns the given callback methods which either return nothing or a value assignable to the result type of the
+     * given method. The other callback methods are reported, as they are not invoked.
+     */
+    private static List<SelectedMethod<SourceMethod>> withAssignableReturnValue(Method method,
+            List<SelectedMethod<SourceMethod>> callbackMethods, Type builderType, MappingBuilderContext ctx) {
+        List<SelectedMethod<SourceMethod>> result = new ArrayList<>();
+        for ( SelectedMethod<SourceMethod> callbackMethod : callbackMethods ) {
+            Type returnType = callbackMethod.getMethod().getReturnType();
+            if ( returnType.isVoid() || returnType.isAssignableTo( method.getResultType() ) ) {
+                result.add( callbackMethod );
+            }
+            else {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    Message.BUILDER_LIFECYCLE_METHOD_NOT_INVOKED,
+                    callbackMethod.getMethod().getName(),
+                    method.getResultType(),
+                    builderType,
+                    method.getResultType()
+                );
+            }
+        }
+
+        return result;
+    }
+
     private static List<SourceMethod> filterBeforeMappingMethods(List<SourceMethod> methods) {
         List<SourceMethod> result = new ArrayList<>();
         for ( SourceMethod method : methods ) {
@@ -8,11 +8,13 @@
 import static org.mapstruct.ap.internal.util.Collections.first;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.mapstruct.ap.internal.model.assignment.InPlaceUpdateWrapper;
 import org.mapstruct.ap.internal.model.assignment.LocalVarWrapper;
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
@@ -22,7 +24,9 @@
 import org.mapstruct.ap.internal.model.source.ForgedMethod;
 import org.mapstruct.ap.internal.model.source.Method;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
+import org.mapstruct.ap.internal.prism.ElementUpdateStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValueMappingStrategyPrism;
+import org.mapstruct.ap.internal.util.Message;
 import org.mapstruct.ap.internal.util.Strings;
 
 /**
@@ -35,6 +39,8 @@ public class MapMappingMethod extends NormalTypeMappingMethod {
 
     private final Assignment keyAssignment;
     private final Assignment valueAssignment;
+    private final MergeByKey mergeByKey;
+    private final String mappedKeysName;
     private IterableCreation iterableCreation;
 
     public static class Builder extends AbstractMappingMethodBuilder<Builder, MapMappingMethod> {
@@ -44,6 +50,8 @@ public static class Builder extends AbstractMappingMethodBuilder<Builder, MapMap
         private NullValueMappingStrategyPrism nullValueMappingStrategy;
         private SelectionParameters keySelectionParameters;
         private SelectionParameters valueSelectionParameters;
+        private ElementUpdateStrategyPrism valueUpdateStrategy;
+        private boolean removeMissingKeys = true;
 
         public Builder() {
             super( Builder.class );
@@ -74,6 +82,16 @@ public Builder nullValueMappingStrategy(NullValueMappingStrategyPrism nullValueM
             return this;
         }
 
+        public Builder valueUpdateStrategy(ElementUpdateStrategyPrism valueUpdateStrategy) {
+            this.valueUpdateStrategy = valueUpdateStrategy;
+            return this;
+        }
+
+        public Builder removeMissingKeys(boolean removeMissingKeys) {
+            this.removeMissingKeys = removeMissingKeys;
+            return this;
+        }
+
         public MapMappingMethod build() {
 
             List<Type> sourceTypeParams =
@@ -182,6 +200,8 @@ public MapMappingMethod build() {
                     .getFactoryMethod( method, method.getResultType(), null, ctx );
             }
 
+            MergeByKey mergeByKey = getMergeByKey( keyAssignment, valueSourceType, valueTargetType );
+
             keyAssignment = new LocalVarWrapper( keyAssignment, method.getThrownTypes(), keyTargetType, false );
             valueAssignment = new LocalVarWrapper( valueAssignment, method.getThrownTypes(), valueTargetType, false );
 
@@ -199,8 +219,64 @@ public MapMappingMethod build() {
                 factoryMethod,
                 mapNullToDefault,
                 beforeMappingMethods,
-                afterMappingMethods
+                afterMappingMethods,
+                mergeByKey
+            );
+        }
+
+        /**
+         * @return how the source entries are merged into the existing target map by their keys, or {@code null} if
+         * the entries of the target map are replaced
+         */
+        private MergeByKey getMergeByKey(Assignment keyAssignment, Type valueSourceType, Type valueTargetType) {
+            if ( valueUpdateStrategy == null || valueUpdateStrategy == ElementUpdateStrategyPrism.REPLACE ) {
+                return null;
+            }
+
+            if ( valueUpdateStrategy != ElementUpdateStrategyPrism.UPDATE_BY_KEY || !method.isUpdateMethod() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    Message.MAPMAPPING_VALUE_UPDATE_NOT_APPLICABLE
+                );
+                return null;
+            }
+
+            Set<Type> helperImports = Collections.emptySet();
+            if ( removeMissingKeys && keyAssignment != null && !keyAssignment.getType().isDirect() ) {
+                // the mapped keys need to be collected, as they can't be looked up in the source map
+                helperImports = new HashSet<>();
+                helperImports.add( ctx.getTypeFactory().getType( Set.class ) );
+                helperImports.add( ctx.getTypeFactory().getType( HashSet.class ) );
+            }
+
+            return new MergeByKey(
+                getValueUpdateAssignment( valueSourceType, valueTargetType ),
+                removeMissingKeys,
+                helperImports
+            );
+        }
+
+        /**
+         * @return the invocation of an update method updating an existing target value in place when merging the
+         * source entries by key, or {@code null} if there is none, in which case existing target values are replaced
+         */
+        private Assignment getValueUpdateAssignment(Type valueSourceType, Type valueTargetType) {
+            SourceRHS valueSourceRHS = new SourceRHS( "entry.getValue()", valueSourceType, new HashSet<>(),
+                "map value" );
+            Assignment valueUpdateAssignment = ctx.getMappingResolver().getTargetAssignment(
+                method,
+                valueTargetType,
+                null, // there is no targetPropertyName
+                null,
+                valueSelectionParameters,
+                valueSourceRHS,
+                true
             );
+
+            if ( valueUpdateAssignment == null || !valueUpdateAssignment.isCallingUpdateMethod() ) {
+                return null;
+            }
+            return new InPlaceUpdateWrapper( valueUpdateAssignment, method.getThrownTypes() );
         }
 
         @Override
@@ -212,12 +288,16 @@ protected boolean shouldUsePropertyNamesInHistory() {
     private MapMappingMethod(Method method, Collection<String> existingVariableNames, Assignment keyAssignment,
                              Assignment valueAssignment, MethodReference factoryMethod, boolean mapNullToDefault,
                              List<LifecycleCallbackMethodReference> beforeMappingReferences,
-                             List<LifecycleCallbackMethodReference> afterMappingReferences) {
+                             List<LifecycleCallbackMethodReference> afterMappingReferences,
+                             MergeByKey mergeByKey) {
         super( method, existingVariableNames, factoryMethod, mapNullToDefault, beforeMappingReferences,
             afterMappingReferences );
 
         this.keyAssignment = keyAssignment;
         this.valueAssignment = valueAssignment;
+        this.mergeByKey = mergeByKey;
+        this.mappedKeysName = mergeByKey == null || mergeByKey.helperImports.isEmpty() ? null :
+            Strings.getSafeVariableName( "mappedKeys", getParameterNames() );
     }
 
     public Parameter getSourceParameter() {
@@ -247,6 +327,37 @@ public Assignment getValueAssignment() {
         return valueAssignment;
     }
 
+    /**
+     * @return {@code true} if the source entries are merged into the existing target map by their keys rather than
+     * replacing its entries
+     */
+    public boolean isMergeValues() {
+        return mergeByKey != null;
+    }
+
+    /**
+     * @return the invocation of the update method updating the value of a key contained in the source and the target
+     * map, {@code null} if such values are replaced
+     */
+    public Assignment getValueUpdateAssignment() {
+        return mergeByKey != null ? mergeByKey.valueUpdateAssignment : null;
+    }
+
+    /**
+     * @return {@code true} if target entries without a source entry are removed after merging the source entries
+     */
+    public boolean isRemoveMissingKeys() {
+        return mergeByKey != null && mergeByKey.removeMissingKeys;
+    }
+
+    /**
+     * @return name of the set collecting the mapped keys of the source entries if they are needed for removing the
+     * target entries without a source entry, {@code null} if the keys can be looked up in the source map
+     */
+    public String getMappedKeysName() {
+        return mappedKeysName;
+    }
+
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> types = super.getImportTypes();
@@ -257,6 +368,12 @@ public Set<Type> getImportTypes() {
         if ( valueAssignment != null ) {
             types.addAll( valueAssignment.getImportTypes() );
         }
+        if ( mergeByKey != null ) {
+            if ( mergeByKey.valueUpdateAssignment != null ) {
+                types.addAll( mergeByKey.valueUpdateAssignment.getImportTypes() );
+            }
+            types.addAll( mergeByKey.helperImports );
+        }
 
         if ( iterableCreation != null ) {
             types.addAll( iterableCreation.getImportTypes() );
@@ -292,4 +409,22 @@ public IterableCreation getIterableCreation() {
         }
         return iterableCreation;
     }
+
+    /**
+     * Describes how the source entries are merged into the existing target map by their keys: the update method
+     * updating existing target values in place, whether target entries without a source entry are removed and the
+     * helper types needed for collecting the mapped keys.
+     */
+    private static class MergeByKey {
+
+        private final Assignment valueUpdateAssignment;
+        private final boolean removeMissingKeys;
+        private final Set<Type> helperImports;
+
+        MergeByKey(Assignment valueUpdateAssignment, boolean removeMissingKeys, Set<Type> helperImports) {
+            this.valueUpdateAssignment = valueUpdateAssignment;
+            this.removeMissingKeys = removeMissingKeys;
+            this.helperImports = helperImports;
+        }
+    }
 }
@@ -42,7 +42,7 @@ private Mapper(TypeFactory typeFactory, String packageName, String name, String
                    String interfacePackage, String interfaceName, boolean customPackage, boolean customImplName,
                    List<MappingMethod> methods, Options options, VersionInformation versionInformation,
                    Accessibility accessibility, List<Field> fields, Constructor constructor,
-                   Decorator decorator, SortedSet<Type> extraImportedTypes ) {
+                   Decorator decorator, SortedSet<Type> extraImportedTypes, boolean finalClass ) {
 
         super(
             typeFactory,
@@ -57,7 +57,8 @@ private Mapper(TypeFactory typeFactory, String packageName, String name, String
             versionInformation,
             accessibility,
             extraImportedTypes,
-            constructor
+            constructor,
+            finalClass
         );
         this.customPackage = customPackage;
         this.customImplName = customImplName;
@@ -82,6 +83,7 @@ public static class Builder {
         private boolean customName;
         private String implPackage;
         private boolean customPackage;
+        private boolean finalImplementation;
 
         public Builder element(TypeElement element) {
             this.element = element;
@@ -145,12 +147,17 @@ public Builder implPackage(String implPackage) {
             return this;
         }
 
+        public Builder finalImplementation(boolean finalImplementation) {
+            this.finalImplementation = finalImplementation;
+            return this;
+        }
+
         public Mapper build() {
-            String implementationName = implName.replace( CLASS_NAME_PLACEHOLDER, getFlatName( element ) ) +
+            String implementationName = getImplementationName( implName, element ) +
                     ( decorator == null ? "" : "_" );
 
             String elementPackage = elementUtils.getPackageOf( element ).getQualifiedName().toString();
-            String packageName = implPackage.replace( PACKAGE_NAME_PLACEHOLDER, elementPackage );
+            String packageName = getImplementationPackage( implPackage, elementPackage );
             Constructor constructor = null;
             if ( !fragments.isEmpty() ) {
                 constructor = new NoArgumentConstructor( implementationName, fragments );
@@ -171,7 +178,8 @@ public Mapper build() {
                 fields,
                 constructor,
                 decorator,
-                extraImportedTypes
+                extraImportedTypes,
+                finalImplementation
             );
         }
 
@@ -194,6 +202,30 @@ protected String getTemplateName() {
         return getTemplateNameForClass( GeneratedType.class );
     }
 
+    /**
+     * Returns the name of the type implementing the given mapper, not taking a decorator into account.
+     *
+     * @param implName the implementation name as configured via {@code Mapper#implementationName()}
+     * @param element the mapper type
+     *
+     * @return the name of the implementation type
+     */
+    public static String getImplementationName(String implName, TypeElement element) {
+        return implName.replace( CLASS_NAME_PLACEHOLDER, getFlatName( element ) );
+    }
+
+    /**
+     * Returns the package of the type implementing a mapper.
+     *
+     * @param implPackage the implementation package as configured via {@code Mapper#implementationPackage()}
+     * @param elementPackage the package of the mapper type
+     *
+     * @return the package of the implementation type
+     */
+    public static String getImplementationPackage(String implPackage, String elementPackage) {
+        return implPackage.replace( PACKAGE_NAME_PLACEHOLDER, elementPackage );
+    }
+
     /**
      * Returns the same as {@link Class#getName()} but without the package declaration.
      */
@@ -0,0 +1,559 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.mapstruct.ap.internal.model.assignment.AssignmentWrapper;
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+
+/**
+ * A machine-readable report of the estimated costs of the methods of a generated type, written for each mapper if
+ * the {@code mapstruct.costReport} option is set. For each method it lists the estimated bytecode size, the number of
+ * boxing conversions and the heavyweight helper objects allocated on each invocation (formatters, factories and
+ * defensive collection copies), flagging the methods which are too large to be inlined or compiled by the JIT
+ * compiler.
+ * <p>
+ * The bytecode sizes of the methods carrying out property mappings are estimated from these mappings, just as when
+ * deciding whether to split them up into {@link PropertyMappingGroup}s. The sizes of all other methods are estimated
+ * from the tokens of the generated source, erring on the high side. The boxing conversions are those of the direct
+ * assignments of property and element values.
+ */
+public class MapperCostReport extends ModelElement {
+
+    private static final String FILE_NAME_SUFFIX = "-cost-report.json";
+
+    private static final Set<String> HEAVYWEIGHT_TYPES = new HashSet<>( Arrays.asList(
+        "SimpleDateFormat",
+        "DecimalFormat"
+    ) );
+
+    private static final Map<String, String> HEAVYWEIGHT_FACTORY_METHODS = new HashMap<>();
+
+    static {
+        HEAVYWEIGHT_FACTORY_METHODS.put( "DatatypeFactory", "newInstance" );
+        HEAVYWEIGHT_FACTORY_METHODS.put( "DateTimeFormatter", "ofPattern" );
+    }
+
+    private static final Pattern COLLECTION_TYPE = Pattern.compile( "\\w*(Collection|List|Set|Map|Queue|Deque)" );
+
+    // coarse estimates of the bytecode sizes of keywords, all other keywords are assumed to produce no bytecode
+    private static final Map<String, Integer> KEYWORD_SIZES = new HashMap<>();
+
+    static {
+        KEYWORD_SIZES.put( "new", 4 );
+        KEYWORD_SIZES.put( "if", 3 );
+        KEYWORD_SIZES.put( "while", 3 );
+        KEYWORD_SIZES.put( "do", 3 );
+        KEYWORD_SIZES.put( "for", 12 );
+        KEYWORD_SIZES.put( "switch", 16 );
+        KEYWORD_SIZES.put( "case", 8 );
+        KEYWORD_SIZES.put( "break", 3 );
+        KEYWORD_SIZES.put( "continue", 3 );
+        KEYWORD_SIZES.put( "instanceof", 3 );
+        KEYWORD_SIZES.put( "catch", 4 );
+        KEYWORD_SIZES.put( "return", 1 );
+        KEYWORD_SIZES.put( "throw", 1 );
+        KEYWORD_SIZES.put( "null", 1 );
+        KEYWORD_SIZES.put( "true", 1 );
+        KEYWORD_SIZES.put( "false", 1 );
+        KEYWORD_SIZES.put( "this", 1 );
+        KEYWORD_SIZES.put( "super", 1 );
+        KEYWORD_SIZES.put( "class", 2 );
+        for ( String keyword : Arrays.asList( "else", "try", "finally", "default", "final", "boolean", "byte", "char",
+            "short", "int", "long", "float", "double", "void" ) ) {
+            KEYWORD_SIZES.put( keyword, 0 );
+        }
+    }
+
+    private static final int IDENTIFIER_SIZE = 2;
+    private static final int INVOCATION_SIZE = 3;
+    private static final int LITERAL_SIZE = 2;
+    private static final int BRANCH_SIZE = 3;
+
+    private final String packageName;
+    private final String name;
+    private final List<MethodCost> methods;
+
+    private MapperCostReport(String packageName, String name, List<MethodCost> methods) {
+        this.packageName = packageName;
+        this.name = name;
+        this.methods = methods;
+    }
+
+    /**
+     * Creates the report for the given generated type.
+     *
+     * @param generatedType the generated type
+     * @param source the source code the generated type has been rendered to
+     *
+     * @return the report
+     */
+    public static MapperCostReport forGeneratedType(GeneratedType generatedType, String source) {
+        Map<String, List<ModelCosts>> modelCosts = new HashMap<>();
+        for ( MappingMethod method : generatedType.getMethods() ) {
+            collectModelCosts( method, modelCosts );
+        }
+
+        return new MapperCostReport(
+            generatedType.getPackageName(),
+            generatedType.getName(),
+            analyze( tokenize( source ), modelCosts )
+        );
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return Collections.emptySet();
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the name of the report file, relative to the package of the generated type
+     */
+    public String getFileName() {
+        return name + FILE_NAME_SUFFIX;
+    }
+
+    public String getQualifiedName() {
+        return packageName.isEmpty() ? name : packageName + "." + name;
+    }
+
+    public int getFreqInlineSize() {
+        return PropertyMappingGroup.FREQ_INLINE_SIZE;
+    }
+
+    public int getHugeMethodLimit() {
+        return PropertyMappingGroup.HUGE_METHOD_LIMIT;
+    }
+
+    public List<MethodCost> getMethods() {
+        return methods;
+    }
+
+    /**
+     * Collects the costs of the given method which are determined from the model by the name of the generated method
+     * carrying them out, in the order the methods are generated.
+     */
+    private static void collectModelCosts(MappingMethod method, Map<String, List<ModelCosts>> modelCosts) {
+        if ( method instanceof BeanMappingMethod ) {
+            BeanMappingMethod beanMappingMethod = (BeanMappingMethod) method;
+            if ( beanMappingMethod.getPropertyMappingGroups().isEmpty() ) {
+                addModelCosts( modelCosts, method.getName(), beanMappingMethod.getPropertyMappings() );
+                return;
+            }
+
+            // the bean mapping method itself only invokes the methods of the groups
+            addModelCosts( modelCosts, method.getName(), new ModelCosts( 0, null ) );
+            for ( PropertyMappingGroup group : beanMappingMethod.getPropertyMappingGroups() ) {
+                List<PropertyMapping> propertyMappings = new ArrayList<>( group.getConstantMappings() );
+                for ( Parameter sourceParameter : method.getSourceParameters() ) {
+                    propertyMappings.addAll( group.propertyMappingsByParameter( sourceParameter ) );
+                }
+                addModelCosts( modelCosts, group.getName(), propertyMappings );
+            }
+        }
+        else if ( method instanceof IterableMappingMethod ) {
+            IterableMappingMethod iterableMappingMethod = (IterableMappingMethod) method;
+            boolean boxingConversion = isBoxingConversion(
+                iterableMappingMethod.getElementAssignment(),
+                iterableMappingMethod.getResultElementType()
+            );
+            addModelCosts( modelCosts, method.getName(), new ModelCosts( boxingConversion ? 1 : 0, null ) );
+        }
+        else {
+            addModelCosts( modelCosts, method.getName(), new ModelCosts( 0, null ) );
+        }
+    }
+
+    private static void addModelCosts(Map<String, List<ModelCosts>> modelCosts, String methodName,
+                                      List<PropertyMapping> propertyMappings) {
+        addModelCosts(
+            modelCosts,
+            methodName,
+            new ModelCosts(
+                countBoxingConversions( propertyMappings ),
+                PropertyMappingGroup.estimateBytecodeSize( propertyMappings )
+            )
+        );
+    }
+
+    private static void addModelCosts(Map<String, List<ModelCosts>> modelCosts, String methodName,
+                                      ModelCosts costs) {
+        List<ModelCosts> costsOfMethods = modelCosts.get( methodName );
+        if ( costsOfMethods == null ) {
+            costsOfMethods = new LinkedList<>();
+            modelCosts.put( methodName, costsOfMethods );
+        }
+        costsOfMethods.add( costs );
+    }
+
+    private static int countBoxingConversions(List<PropertyMapping> propertyMappings) {
+        int count = 0;
+        for ( PropertyMapping propertyMapping : propertyMappings ) {
+            if ( isBoxingConversion( propertyMapping.getAssignment(), propertyMapping.getTargetType() ) ) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Whether the given assignment directly assigns a primitive value to a non-primitive target or vice versa.
+     */
+    private static boolean isBoxingConversion(Assignment assignment, Type targetType) {
+        while ( assignment instanceof AssignmentWrapper ) {
+            assignment = ( (AssignmentWrapper) assignment ).getAssignment();
+        }
+
+        return assignment != null && targetType != null && assignment.getSourceType() != null
+            && assignment.getType() == Assignment.AssignmentType.DIRECT
+            && assignment.getSourceType().isPrimitive() != targetType.isPrimitive();
+    }
+
+    private static List<Token> tokenize(String source) {
+        List<Token> tokens = new ArrayList<>();
+
+        int i = 0;
+        while ( i < source.length() ) {
+            char c = source.charAt( i );
+            int end = i + 1;
+
+            if ( Character.isWhitespace( c ) ) {
+                i = end;
+                continue;
+            }
+            else if ( source.startsWith( "//", i ) ) {
+                end = source.indexOf( '\n', i );
+                i = end < 0 ? source.length() : end;
+                continue;
+            }
+            else if ( source.startsWith( "/*", i ) ) {
+                end = source.indexOf( "*/", i + 2 );
+                i = end < 0 ? source.length() : end + 2;
+                continue;
+            }
+            else if ( c == '"' || c == '\'' ) {
+                while ( end < source.length() && source.charAt( end ) != c ) {
+                    end += source.charAt( end ) == '\\' ? 2 : 1;
+                }
+                end = Math.min( end + 1, source.length() );
+                tokens.add( new Token( TokenKind.LITERAL, source.substring( i, end ) ) );
+            }
+            else if ( Character.isJavaIdentifierStart( c ) ) {
+                while ( end < source.length() && Character.isJavaIdentifierPart( source.charAt( end ) ) ) {
+                    end++;
+                }
+                tokens.add( new Token( TokenKind.IDENTIFIER, source.substring( i, end ) ) );
+            }
+            else if ( Character.isDigit( c ) ) {
+                while ( end < source.length()
+                    && ( Character.isLetterOrDigit( source.charAt( end ) ) || source.charAt( end ) == '.' ) ) {
+                    end++;
+                }
+                tokens.add( new Token( TokenKind.NUMBER, source.substring( i, end ) ) );
+            }
+            else if ( ( c == '&' || c == '|' ) && end < source.length() && source.charAt( end ) == c ) {
+                end++;
+                tokens.add( new Token( TokenKind.SYMBOL, source.substring( i, end ) ) );
+            }
+            else {
+                tokens.add( new Token( TokenKind.SYMBOL, String.valueOf( c ) ) );
+            }
+
+            i = end;
+        }
+
+        return tokens;
+    }
+
+    /**
+     * Determines the costs of the methods declared directly within the generated type, i.e. not of the methods of
+     * nested or anonymous classes.
+     */
+    private static List<MethodCost> analyze(List<Token> tokens, Map<String, List<ModelCosts>> modelCosts) {
+        List<MethodCost> methods = new ArrayList<>();
+
+        int depth = 0;
+        int memberStart = 0;
+        MethodCost method = null;
+        for ( int i = 0; i < tokens.size(); i++ ) {
+            Token token = tokens.get( i );
+
+            if ( token.is( "{" ) ) {
+                depth++;
+                if ( depth == 1 ) {
+                    memberStart = i + 1;
+                }
+                else if ( depth == 2 ) {
+                    String methodName = getMethodName( tokens, memberStart, i );
+                    if ( methodName != null ) {
+                        List<ModelCosts> costsOfMethods = modelCosts.get( methodName );
+                        method = new MethodCost(
+                            methodName,
+                            costsOfMethods != null && !costsOfMethods.isEmpty() ?
+                                costsOfMethods.remove( 0 ) :
+                                new ModelCosts( 0, null )
+                        );
+                    }
+                }
+            }
+            else if ( token.is( "}" ) ) {
+                depth--;
+                if ( depth == 1 ) {
+                    if ( method != null ) {
+                        methods.add( method );
+                        method = null;
+                    }
+                    memberStart = i + 1;
+                }
+            }
+            else if ( token.is( ";" ) && depth == 1 ) {
+                memberStart = i + 1;
+            }
+            else if ( method != null ) {
+                method.add( tokens, i );
+            }
+        }
+
+        return methods;
+    }
+
+    /**
+     * Returns the name of the method declared by the given member header, {@code null} if it doesn't declare a method
+     * (but e.g. a field with an anonymous class, a nested class or an initializer).
+     */
+    private static String getMethodName(List<Token> tokens, int from, int to) {
+        for ( int i = from; i < to; i++ ) {
+            Token token = tokens.get( i );
+            if ( token.is( "=" ) ) {
+                return null;
+            }
+            else if ( token.is( "(" ) && i > from && tokens.get( i - 1 ).kind == TokenKind.IDENTIFIER ) {
+                if ( i - 2 < from || !tokens.get( i - 2 ).is( "@" ) ) {
+                    return tokens.get( i - 1 ).text;
+                }
+                // skip the members of annotations
+                i = getClosingParenthesis( tokens, i );
+            }
+        }
+        return null;
+    }
+
+    private static int getClosingParenthesis(List<Token> tokens, int openingParenthesis) {
+        int depth = 0;
+        for ( int i = openingParenthesis; i < tokens.size(); i++ ) {
+            if ( tokens.get( i ).is( "(" ) ) {
+                depth++;
+            }
+            else if ( tokens.get( i ).is( ")" ) && --depth == 0 ) {
+                return i;
+            }
+        }
+        return tokens.size() - 1;
+    }
+
+    /**
+     * The estimated costs of one generated method.
+     */
+    public static class MethodCost {
+
+        private final String name;
+        private final ModelCosts modelCosts;
+        private final List<String> heavyweightAllocations = new ArrayList<>();
+        private int tokenBytecodeSize = 1;
+
+        private MethodCost(String name, ModelCosts modelCosts) {
+            this.name = name;
+            this.modelCosts = modelCosts;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getEstimatedBytecodeSize() {
+            return modelCosts.estimatedBytecodeSize != null ? modelCosts.estimatedBytecodeSize : tokenBytecodeSize;
+        }
+
+        public int getBoxingConversions() {
+            return modelCosts.boxingConversions;
+        }
+
+        /**
+         * @return the simple names of the heavyweight helper types instantiated on each invocation, suffixed with
+         * " copy" for defensive copies of collections
+         */
+        public List<String> getHeavyweightAllocations() {
+            return heavyweightAllocations;
+        }
+
+        public boolean isExceedsFreqInlineSize() {
+            return getEstimatedBytecodeSize() > PropertyMappingGroup.FREQ_INLINE_SIZE;
+        }
+
+        public boolean isExceedsHugeMethodLimit() {
+            return getEstimatedBytecodeSize() > PropertyMappingGroup.HUGE_METHOD_LIMIT;
+        }
+
+        private void add(List<Token> tokens, int index) {
+            Token token = tokens.get( index );
+            Token next = index + 1 < tokens.size() ? tokens.get( index + 1 ) : null;
+
+            switch ( token.kind ) {
+                case LITERAL:
+                case NUMBER:
+                    tokenBytecodeSize += LITERAL_SIZE;
+                    break;
+                case IDENTIFIER:
+                    Integer keywordSize = KEYWORD_SIZES.get( token.text );
+                    if ( keywordSize != null ) {
+                        tokenBytecodeSize += keywordSize;
+                    }
+                    else if ( next != null && next.is( "(" ) ) {
+                        tokenBytecodeSize += INVOCATION_SIZE;
+                    }
+                    else if ( next == null || next.kind != TokenKind.IDENTIFIER ) {
+                        // identifiers followed by another identifier are the types of local variables
+                        tokenBytecodeSize += IDENTIFIER_SIZE;
+                    }
+                    addHeavyweightAllocation( tokens, index );
+                    break;
+                default:
+                    if ( token.is( "=" ) || token.is( "[" ) ) {
+                        tokenBytecodeSize++;
+                    }
+                    else if ( token.is( "?" ) || token.is( "&&" ) || token.is( "||" ) ) {
+                        tokenBytecodeSize += BRANCH_SIZE;
+                    }
+            }
+        }
+
+        private void addHeavyweightAllocation(List<Token> tokens, int index) {
+            String text = tokens.get( index ).text;
+
+            String factoryMethod = HEAVYWEIGHT_FACTORY_METHODS.get( text );
+            if ( factoryMethod != null ) {
+                if ( index + 3 < tokens.size() && tokens.get( index + 1 ).is( "." )
+                    && tokens.get( index + 2 ).is( factoryMethod ) && tokens.get( index + 3 ).is( "(" ) ) {
+                    heavyweightAllocations.add( text );
+                }
+                return;
+            }
+
+            if ( !text.equals( "new" ) ) {
+                return;
+            }
+
+            // the simple name of the instantiated type
+            int i = index + 1;
+            while ( i + 2 < tokens.size() && tokens.get( i + 1 ).is( "." ) ) {
+                i += 2;
+            }
+            if ( i >= tokens.size() || tokens.get( i ).kind != TokenKind.IDENTIFIER ) {
+                return;
+            }
+            String typeName = tokens.get( i ).text;
+
+            // skip the type arguments
+            i++;
+            if ( i < tokens.size() && tokens.get( i ).is( "<" ) ) {
+                int depth = 0;
+                for ( ; i < tokens.size(); i++ ) {
+                    if ( tokens.get( i ).is( "<" ) ) {
+                        depth++;
+                    }
+                    else if ( tokens.get( i ).is( ">" ) && --depth == 0 ) {
+                        i++;
+                        break;
+                    }
+                }
+            }
+            if ( i >= tokens.size() || !tokens.get( i ).is( "(" ) ) {
+                return;
+            }
+
+            if ( HEAVYWEIGHT_TYPES.contains( typeName ) ) {
+                heavyweightAllocations.add( typeName );
+            }
+            else if ( COLLECTION_TYPE.matcher( typeName ).matches()
+                && isCopyConstructorInvocation( tokens, i, getClosingParenthesis( tokens, i ) ) ) {
+                heavyweightAllocations.add( typeName + " copy" );
+            }
+        }
+
+        /**
+         * Whether the given constructor arguments are another collection rather than nothing or an initial capacity.
+         */
+        private static boolean isCopyConstructorInvocation(List<Token> tokens, int openingParenthesis,
+                                                           int closingParenthesis) {
+            if ( closingParenthesis == openingParenthesis + 1 ) {
+                return false;
+            }
+
+            for ( int i = openingParenthesis + 1; i < closingParenthesis; i++ ) {
+                Token token = tokens.get( i );
+                if ( token.kind == TokenKind.NUMBER || token.is( "size" ) || token.is( "length" )
+                    || token.is( "Math" ) ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The costs of a generated method which are determined from the model rather than from the generated source.
+     */
+    private static class ModelCosts {
+
+        private final int boxingConversions;
+        private final Integer estimatedBytecodeSize;
+
+        private ModelCosts(int boxingConversions, Integer estimatedBytecodeSize) {
+            this.boxingConversions = boxingConversions;
+            this.estimatedBytecodeSize = estimatedBytecodeSize;
+        }
+    }
+
+    private enum TokenKind {
+        IDENTIFIER, NUMBER, LITERAL, SYMBOL
+    }
+
+    private static class Token {
+
+        private final TokenKind kind;
+        private final String text;
+
+        private Token(TokenKind kind, String text) {
+            this.kind = kind;
+            this.text = text;
+        }
+
+        private boolean is(String text) {
+            return this.text.equals( text );
+        }
+    }
+}
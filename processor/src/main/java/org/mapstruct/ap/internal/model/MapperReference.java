@@ -24,6 +24,13 @@ public MapperReference(Type type, String variableName, boolean isUsed) {
         super( type, variableName, isUsed );
     }
 
+    /**
+     * @return the expression by which generated methods refer to the instance of the referenced mapper
+     */
+    public String getInstanceReference() {
+        return getVariableName();
+    }
+
     public static MapperReference findMapperReference(List<MapperReference> mapperReferences, SourceMethod method) {
         for ( MapperReference ref : mapperReferences ) {
             if ( ref.getType().equals( method.getDeclaringMapper() ) ) {
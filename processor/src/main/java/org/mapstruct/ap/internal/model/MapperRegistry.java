@@ -0,0 +1,123 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import javax.lang.model.element.TypeElement;
+
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Type;
+
+/**
+ * Represents the registry of the mapper implementations of one package, implementing
+ * {@code org.mapstruct.factory.MapperRegistry}. It is used by {@code Mappers} for instantiating the mappers of that
+ * package without reflection.
+ * <p>
+ * All types are referenced by their fully qualified names, so the registry doesn't need any imports.
+ */
+public class MapperRegistry extends ModelElement {
+
+    public static final String NAME = "MapperRegistryImpl";
+
+    private static final Comparator<Entry> ENTRY_ORDER = new Comparator<Entry>() {
+
+        @Override
+        public int compare(Entry entry1, Entry entry2) {
+            return entry1.getMapperName().compareTo( entry2.getMapperName() );
+        }
+    };
+
+    private final String packageName;
+    private final String generatedTypeName;
+    private final List<Entry> entries = new ArrayList<>();
+    private final List<TypeElement> originatingElements = new ArrayList<>();
+
+    public MapperRegistry(String packageName, String generatedTypeName) {
+        this.packageName = packageName;
+        this.generatedTypeName = generatedTypeName;
+    }
+
+    /**
+     * Registers the given mapper type with its implementation.
+     *
+     * @param mapperElement the mapper type
+     * @param implementation the generated implementation of the mapper type, i.e. the mapper itself or its decorator
+     */
+    public void addEntry(TypeElement mapperElement, GeneratedType implementation) {
+        String implementationName = implementation.hasPackageName() ?
+            implementation.getPackageName() + "." + implementation.getName() :
+            implementation.getName();
+
+        entries.add( new Entry( mapperElement.getQualifiedName().toString(), implementationName ) );
+        originatingElements.add( mapperElement );
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return Collections.emptySet();
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * @return the fully qualified name of the registry
+     */
+    public String getQualifiedName() {
+        return packageName.isEmpty() ? NAME : packageName + "." + NAME;
+    }
+
+    public String getGeneratedTypeName() {
+        return generatedTypeName;
+    }
+
+    /**
+     * @return the registered mappers, ordered by name so the generated source doesn't depend on the processing order
+     */
+    public List<Entry> getEntries() {
+        List<Entry> sortedEntries = new ArrayList<>( entries );
+        Collections.sort( sortedEntries, ENTRY_ORDER );
+        return sortedEntries;
+    }
+
+    /**
+     * @return the mapper types of the registered mappers, as the registry is derived from them
+     */
+    public TypeElement[] getOriginatingElements() {
+        return originatingElements.toArray( new TypeElement[originatingElements.size()] );
+    }
+
+    /**
+     * A mapper type together with the type to instantiate for it.
+     */
+    public static class Entry {
+
+        private final String mapperName;
+        private final String implementationName;
+
+        Entry(String mapperName, String implementationName) {
+            this.mapperName = mapperName;
+            this.implementationName = implementationName;
+        }
+
+        public String getMapperName() {
+            return mapperName;
+        }
+
+        public String getImplementationName() {
+            return implementationName;
+        }
+    }
+}
@@ -7,6 +7,7 @@
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -95,6 +96,8 @@ Assignment getTargetAssignment(Method mappingMethod, Type targetType, String tar
                                        boolean preferUpdateMethods);
 
         Set<SupportingMappingMethod> getUsedSupportedMappings();
+
+        Set<Field> getUsedSupportedFields();
     }
 
     private final TypeFactory typeFactory;
@@ -108,6 +111,7 @@ Assignment getTargetAssignment(Method mappingMethod, Type targetType, String tar
     private final List<MapperReference> mapperReferences;
     private final MappingResolver mappingResolver;
     private final List<MappingMethod> mappingsToGenerate = new ArrayList<>();
+    private final Set<String> namesOfPropertyMappingGroups = new HashSet<>();
     private final Map<ForgedMethod, ForgedMethod> forgedMethodsUnderCreation =
         new HashMap<>();
 
@@ -190,14 +194,42 @@ public List<MappingMethod> getMappingsToGenerate() {
         return mappingsToGenerate;
     }
 
+    /**
+     * @return the names of the methods generated so far: the forged mapping methods and the methods carrying out
+     * {@link PropertyMappingGroup}s
+     */
     public List<String> getNamesOfMappingsToGenerate() {
         List<String> nameList = new ArrayList<>();
         for ( MappingMethod method : mappingsToGenerate ) {
             nameList.add( method.getName() );
         }
+        nameList.addAll( namesOfPropertyMappingGroups );
         return nameList;
     }
 
+    /**
+     * @return the names of all methods of the mapper known so far: the methods of the source model and the generated
+     * methods
+     */
+    public Set<String> getMethodNames() {
+        Set<String> methodNames = new HashSet<>( getNamesOfMappingsToGenerate() );
+        for ( SourceMethod sourceMethod : sourceModel ) {
+            methodNames.add( sourceMethod.getName() );
+        }
+        return methodNames;
+    }
+
+    /**
+     * Registers the methods of the given groups as generated methods.
+     *
+     * @param propertyMappingGroups the property mapping groups of a bean mapping method
+     */
+    public void addPropertyMappingGroups(List<PropertyMappingGroup> propertyMappingGroups) {
+        for ( PropertyMappingGroup propertyMappingGroup : propertyMappingGroups ) {
+            namesOfPropertyMappingGroups.add( propertyMappingGroup.getName() );
+        }
+    }
+
     public MappingMethod getExistingMappingMethod(MappingMethod newMappingMethod) {
         MappingMethod existingMappingMethod = null;
         for ( MappingMethod mappingMethod : mappingsToGenerate ) {
@@ -213,6 +245,10 @@ public Set<SupportingMappingMethod> getUsedSupportedMappings() {
         return mappingResolver.getUsedSupportedMappings();
     }
 
+    public Set<Field> getUsedSupportedFields() {
+        return mappingResolver.getUsedSupportedFields();
+    }
+
     /**
      * @param sourceType from which an automatic sub-mapping needs to be generated
      * @param targetType to which an automatic sub-mapping needs to be generated
@@ -36,6 +36,7 @@
 import org.mapstruct.ap.internal.model.source.PropertyEntry;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
 import org.mapstruct.ap.internal.model.source.SourceReference;
+import org.mapstruct.ap.internal.prism.CollectionCopyStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValueCheckStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValueMappingStrategyPrism;
 import org.mapstruct.ap.internal.util.AccessorNamingUtils;
@@ -145,11 +146,7 @@ T mirror(AnnotationMirror mirror) {
 
         private Type determineTargetType() {
             // This is a bean mapping method, so we know the result is a declared type
-            Type mappingType = method.getResultType();
-            if ( !method.isUpdateMethod() ) {
-                mappingType = mappingType.getEffectiveType();
-            }
-            DeclaredType resultType = (DeclaredType) mappingType.getTypeMirror();
+            DeclaredType resultType = (DeclaredType) getMappingType().getTypeMirror();
 
             switch ( targetWriteAccessorType ) {
                 case ADDER:
@@ -165,6 +162,17 @@ private Type determineTargetType() {
             }
         }
 
+        /**
+         * @return the type declaring the target property, i.e. the builder type if the result is created via a builder
+         */
+        protected Type getMappingType() {
+            Type mappingType = method.getResultType();
+            if ( !method.isUpdateMethod() ) {
+                mappingType = mappingType.getEffectiveType();
+            }
+            return mappingType;
+        }
+
         public T targetPropertyName(String targetPropertyName) {
             this.targetPropertyName = targetPropertyName;
             return (T) this;
@@ -198,6 +206,7 @@ public static class PropertyMappingBuilder extends MappingBuilderBase<PropertyMa
         private boolean forceUpdateMethod;
         private boolean forgedNamedBased = true;
         private NullValueCheckStrategyPrism nullValueCheckStrategyPrism;
+        private CollectionCopyStrategyPrism collectionCopyStrategyPrism;
 
         PropertyMappingBuilder() {
             super( PropertyMappingBuilder.class );
@@ -260,6 +269,12 @@ public PropertyMappingBuilder nullValueCheckStrategyPrism(
             return this;
         }
 
+        public PropertyMappingBuilder collectionCopyStrategyPrism(
+            CollectionCopyStrategyPrism collectionCopyStrategyPrism) {
+            this.collectionCopyStrategyPrism = collectionCopyStrategyPrism;
+            return this;
+        }
+
         public PropertyMapping build() {
             // handle source
             this.rightHandSide = getSourceRHS( sourceReference );
@@ -444,12 +459,32 @@ private NullValueCheckStrategyPrism getNvcs() {
             return method.getMapperConfiguration().getNullValueCheckStrategy( nvcsBean, nullValueCheckStrategyPrism );
         }
 
+        private CollectionCopyStrategyPrism getCollectionCopyStrategy() {
+            return method.getMapperConfiguration().getCollectionCopyStrategy( collectionCopyStrategyPrism );
+        }
+
         private Assignment assignToPlainViaAdder( Assignment rightHandSide) {
 
             Assignment result = rightHandSide;
 
             if ( result.getSourceType().isCollectionType() ) {
-                result = new AdderWrapper( result, method.getThrownTypes(), isFieldAssignment(), targetPropertyName );
+                Accessor bulkAdder = null;
+                if ( targetWriteAccessorType == TargetWriteAccessorType.ADDER ) {
+                    bulkAdder = getMappingType().getBulkAdderForAdder(
+                        targetWriteAccessor,
+                        targetPropertyName,
+                        targetType
+                    );
+                }
+                result = new AdderWrapper(
+                    result,
+                    method.getThrownTypes(),
+                    isFieldAssignment(),
+                    targetPropertyName,
+                    bulkAdder != null ? bulkAdder.getSimpleName().toString() : null,
+                    targetType,
+                    ctx.getTypeFactory()
+                );
             }
             else if ( result.getSourceType().isStreamType() ) {
                 result = new StreamAdderWrapper(
@@ -474,11 +509,23 @@ private Assignment assignToCollection(Type targetType, TargetWriteAccessorType t
                 .rightHandSide( rightHandSide )
                 .assignment( rhs )
                 .nullValueCheckStrategy( getNvcs() )
+                .collectionCopyStrategy( getCollectionCopyStrategy() )
                 .build();
         }
 
         private Assignment assignToArray(Type targetType, Assignment rightHandSide) {
 
+            if ( getCollectionCopyStrategy() == CollectionCopyStrategyPrism.SHARE ) {
+                // the array is owned by the mapping, so it's not copied
+                return new SetterWrapper(
+                    rightHandSide,
+                    method.getThrownTypes(),
+                    getNvcs(),
+                    isFieldAssignment(),
+                    targetType
+                );
+            }
+
             Type arrayType = ctx.getTypeFactory().getType( Arrays.class );
             Assignment assignment = new ArrayCopyWrapper(
                 rightHandSide,
@@ -0,0 +1,216 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.assignment.AssignmentWrapper;
+import org.mapstruct.ap.internal.model.assignment.WrapperForCollectionsAndMaps;
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.util.Strings;
+
+/**
+ * A group of the property mappings of a {@link BeanMappingMethod} which is carried out by a separate private method.
+ * Bean mapping methods with many property mappings are split up into such groups, so that neither the bean mapping
+ * method nor the methods of the groups exceed the size up to which the JIT compiler compiles or inlines methods.
+ */
+public class PropertyMappingGroup {
+
+    /**
+     * The bytecode size from which on HotSpot doesn't compile methods ({@code -XX:HugeMethodLimit}).
+     */
+    public static final int HUGE_METHOD_LIMIT = 8000;
+
+    /**
+     * The bytecode size up to which HotSpot inlines frequently invoked methods ({@code -XX:FreqInlineSize}).
+     */
+    public static final int FREQ_INLINE_SIZE = 325;
+
+    // coarse estimates of the bytecode sizes, erring on the high side
+    private static final int PROPERTY_MAPPING_SIZE = 12;
+    private static final int MAPPING_STEP_SIZE = 10;
+    private static final int WRAPPER_SIZE = 8;
+    private static final int COLLECTION_WRAPPER_SIZE = 40;
+    private static final int PRESENCE_CHECK_SIZE = 8;
+
+    private final String name;
+    private final Map<String, List<PropertyMapping>> mappingsByParameter = new HashMap<>();
+    private final List<PropertyMapping> constantMappings = new ArrayList<>();
+
+    private PropertyMappingGroup(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Splits the given property mappings into groups if their estimated bytecode size exceeds the given limit. The
+     * order of the property mappings is retained per source parameter: the mappings of the non-primitive source
+     * parameters come first, followed by the mappings of the primitive source parameters and the constant mappings.
+     *
+     * @param methodName the name of the bean mapping method, used as prefix for the names of the group methods
+     * @param existingMethodNames the names of the other methods of the mapper, which the names of the group methods
+     * must not conflict with
+     * @param sourceParameters the source parameters of the bean mapping method
+     * @param propertyMappings the property mappings of the bean mapping method
+     * @param sizeLimit the estimated bytecode size from which on the property mappings are split, not splitting them
+     * at all if {@code 0}
+     *
+     * @return the groups, empty if the property mappings are not to be split
+     */
+    public static List<PropertyMappingGroup> split(String methodName, Collection<String> existingMethodNames,
+                                                   List<Parameter> sourceParameters,
+                                                   List<PropertyMapping> propertyMappings, int sizeLimit) {
+        if ( sizeLimit <= 0 || estimateBytecodeSize( propertyMappings ) <= sizeLimit ) {
+            return Collections.emptyList();
+        }
+
+        List<Parameter> orderedParameters = new ArrayList<>( sourceParameters.size() );
+        for ( Parameter sourceParameter : sourceParameters ) {
+            if ( !sourceParameter.getType().isPrimitive() ) {
+                orderedParameters.add( sourceParameter );
+            }
+        }
+        for ( Parameter sourceParameter : sourceParameters ) {
+            if ( sourceParameter.getType().isPrimitive() ) {
+                orderedParameters.add( sourceParameter );
+            }
+        }
+
+        GroupCollector collector =
+            new GroupCollector( methodName, existingMethodNames, Math.min( FREQ_INLINE_SIZE, sizeLimit ) );
+        List<PropertyMapping> constantMappings = new ArrayList<>( propertyMappings );
+        for ( Parameter sourceParameter : orderedParameters ) {
+            for ( PropertyMapping propertyMapping : propertyMappings ) {
+                if ( sourceParameter.getName().equals( propertyMapping.getSourceBeanName() ) ) {
+                    collector.add( sourceParameter, propertyMapping );
+                    constantMappings.remove( propertyMapping );
+                }
+            }
+        }
+        for ( PropertyMapping constantMapping : constantMappings ) {
+            collector.add( null, constantMapping );
+        }
+
+        return collector.groups;
+    }
+
+    /**
+     * Estimates the size of the bytecode generated for the given property mappings.
+     *
+     * @see #estimateBytecodeSize(PropertyMapping)
+     */
+    static int estimateBytecodeSize(List<PropertyMapping> propertyMappings) {
+        int size = 0;
+        for ( PropertyMapping propertyMapping : propertyMappings ) {
+            size += estimateBytecodeSize( propertyMapping );
+        }
+        return size;
+    }
+
+    /**
+     * Estimates the size of the bytecode generated for the given property mapping: reading the source and writing
+     * the target value, plus the null checks, local variables and collection copies of the assignment wrappers and
+     * the invocations of conversions and mapping methods.
+     */
+    static int estimateBytecodeSize(PropertyMapping propertyMapping) {
+        int size = PROPERTY_MAPPING_SIZE;
+        if ( propertyMapping.getDefaultValueAssignment() != null ) {
+            size += PROPERTY_MAPPING_SIZE;
+        }
+
+        Assignment assignment = propertyMapping.getAssignment();
+        while ( assignment instanceof AssignmentWrapper ) {
+            size += assignment instanceof WrapperForCollectionsAndMaps ? COLLECTION_WRAPPER_SIZE : WRAPPER_SIZE;
+            assignment = ( (AssignmentWrapper) assignment ).getAssignment();
+        }
+
+        if ( assignment != null ) {
+            if ( assignment.getSourcePresenceCheckerReference() != null ) {
+                size += PRESENCE_CHECK_SIZE;
+            }
+            switch ( assignment.getType() ) {
+                case DIRECT:
+                    break;
+                case TYPE_CONVERTED:
+                case MAPPED:
+                    size += MAPPING_STEP_SIZE;
+                    break;
+                default:
+                    size += 2 * MAPPING_STEP_SIZE;
+            }
+        }
+
+        return size;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<PropertyMapping> propertyMappingsByParameter(Parameter parameter) {
+        List<PropertyMapping> propertyMappings = mappingsByParameter.get( parameter.getName() );
+        return propertyMappings != null ? propertyMappings : Collections.<PropertyMapping>emptyList();
+    }
+
+    public List<PropertyMapping> getConstantMappings() {
+        return constantMappings;
+    }
+
+    private void add(Parameter sourceParameter, PropertyMapping propertyMapping) {
+        if ( sourceParameter == null ) {
+            constantMappings.add( propertyMapping );
+            return;
+        }
+
+        List<PropertyMapping> propertyMappings = mappingsByParameter.get( sourceParameter.getName() );
+        if ( propertyMappings == null ) {
+            propertyMappings = new ArrayList<>();
+            mappingsByParameter.put( sourceParameter.getName(), propertyMappings );
+        }
+        propertyMappings.add( propertyMapping );
+    }
+
+    /**
+     * Fills groups up to the given size in order.
+     */
+    private static class GroupCollector {
+
+        private final String methodName;
+        private final Set<String> methodNames;
+        private final int groupSizeLimit;
+        private final List<PropertyMappingGroup> groups = new ArrayList<>();
+        private PropertyMappingGroup group;
+        private int groupSize;
+
+        private GroupCollector(String methodName, Collection<String> existingMethodNames, int groupSizeLimit) {
+            this.methodName = methodName;
+            this.methodNames = new HashSet<>( existingMethodNames );
+            this.groupSizeLimit = groupSizeLimit;
+        }
+
+        private void add(Parameter sourceParameter, PropertyMapping propertyMapping) {
+            int size = estimateBytecodeSize( propertyMapping );
+            if ( group == null || ( groupSize > 0 && groupSize + size > groupSizeLimit ) ) {
+                String name =
+                    Strings.getSafeVariableName( methodName + "Properties" + ( groups.size() + 1 ), methodNames );
+                methodNames.add( name );
+                group = new PropertyMappingGroup( name );
+                groups.add( group );
+                groupSize = 0;
+            }
+
+            group.add( sourceParameter, propertyMapping );
+            groupSize += size;
+        }
+    }
+}
@@ -29,7 +29,7 @@
  */
 public class StreamMappingMethod extends ContainerMappingMethod {
 
-    private final Set<Type> helperImports;
+    private final Pipeline pipeline;
 
     public static class Builder extends ContainerMappingMethodBuilder<Builder, StreamMappingMethod> {
 
@@ -64,6 +64,12 @@ protected StreamMappingMethod instantiateMappingMethod(Method method, Collection
                 helperImports.add( ctx.getTypeFactory().getType( StreamSupport.class ) );
             }
 
+            // the size of the source is only known upfront for collections
+            Integer parallelThreshold = null;
+            if ( sourceParameterType.isCollectionType() && method.getResultType().isStreamType() ) {
+                parallelThreshold = getParallelThreshold();
+            }
+
             return new StreamMappingMethod(
                 method,
                 existingVariables,
@@ -74,7 +80,7 @@ protected StreamMappingMethod instantiateMappingMethod(Method method, Collection
                 beforeMappingMethods,
                 afterMappingMethods,
                 selectionParameters,
-                helperImports
+                new Pipeline( helperImports, parallelThreshold )
             );
         }
     }
@@ -83,7 +89,7 @@ private StreamMappingMethod(Method method, Collection<String> existingVariables,
                                 MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
                                 List<LifecycleCallbackMethodReference> beforeMappingReferences,
                                 List<LifecycleCallbackMethodReference> afterMappingReferences,
-        SelectionParameters selectionParameters, Set<Type> helperImports) {
+        SelectionParameters selectionParameters, Pipeline pipeline) {
         super(
             method,
             existingVariables,
@@ -95,18 +101,34 @@ private StreamMappingMethod(Method method, Collection<String> existingVariables,
             afterMappingReferences,
             selectionParameters
         );
-        this.helperImports = helperImports;
+        this.pipeline = pipeline;
     }
 
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> types = super.getImportTypes();
 
-        types.addAll( helperImports );
+        types.addAll( pipeline.helperImports );
 
         return types;
     }
 
+    /**
+     * @return the number of source elements from which on a parallel stream is returned, or {@code null} if a
+     * sequential stream is always returned
+     */
+    public Integer getParallelThreshold() {
+        return pipeline.parallelThreshold;
+    }
+
+    /**
+     * @return {@code true} if the mapped elements are collected in a list and added to the resulting collection at
+     * once, as adding them one by one is expensive for the result type
+     */
+    public boolean isBulkAddition() {
+        return getResultType().getImplementation() != null && getResultType().getImplementation().isBulkAddition();
+    }
+
     public Type getSourceElementType() {
         return getElementType( getSourceParameter().getType() );
     }
@@ -128,4 +150,19 @@ else if ( parameterType.isStreamType() ) {
 
         throw new IllegalArgumentException( "Could not get the element type" );
     }
+
+    /**
+     * Describes how the stream of the mapping method is set up: the helper types needed to create and collect it and
+     * whether it is made parallel.
+     */
+    private static class Pipeline {
+
+        private final Set<Type> helperImports;
+        private final Integer parallelThreshold;
+
+        Pipeline(Set<Type> helperImports, Integer parallelThreshold) {
+            this.helperImports = helperImports;
+            this.parallelThreshold = parallelThreshold;
+        }
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.ValueMappingMethod.MappingEntry;
+import org.mapstruct.ap.internal.model.common.FieldReference;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+
+import static org.mapstruct.ap.internal.util.Collections.asSet;
+
+/**
+ * A {@code static final Map<String, Target>} of target enum constants by source strings, which implements a string to
+ * enum mapping with a single hash lookup. The map is populated in a static initializer.
+ * <p>
+ * Entries may map a string to {@code null}, so callers have to check via {@code containsKey()} whether a {@code null}
+ * value stems from such an entry or from an unknown string if {@link #isContainsNullTargets()} is {@code true}.
+ */
+public class StringLookupTableField implements FieldReference {
+
+    private final String variableName;
+    private final Type type;
+    private final Type targetType;
+    private final List<MappingEntry> entries;
+    private final boolean containsNullTargets;
+    private final Set<Type> importTypes;
+
+    private StringLookupTableField(TypeFactory typeFactory, Type targetType, List<MappingEntry> entries,
+                                   String variableName) {
+        this.variableName = variableName;
+        this.type = typeFactory.getType( Map.class );
+        this.targetType = targetType;
+        this.entries = entries;
+        boolean containsNullTargets = false;
+        for ( MappingEntry entry : entries ) {
+            if ( entry.getTarget() == null ) {
+                containsNullTargets = true;
+            }
+        }
+        this.containsNullTargets = containsNullTargets;
+        this.importTypes = asSet( type, typeFactory.getType( HashMap.class ), targetType );
+    }
+
+    /**
+     * Creates a table for a string to enum {@link ValueMappingMethod}.
+     *
+     * @param typeFactory the type factory
+     * @param targetType the target enum type
+     * @param entries the mapped strings and their target constants
+     * @param existingFieldNames the names of the fields already existing in the mapper
+     *
+     * @return the table
+     */
+    public static StringLookupTableField forValueMapping(TypeFactory typeFactory, Type targetType,
+                                                         List<MappingEntry> entries,
+                                                         Collection<String> existingFieldNames) {
+        String variableName = EnumLookupTableField.getSafeConstantName(
+            "STRING_TO_" + EnumLookupTableField.toConstantName( targetType.getName() ),
+            existingFieldNames
+        );
+        return new StringLookupTableField( typeFactory, targetType, entries, variableName );
+    }
+
+    /**
+     * Creates a table mapping the names of the constants of the given enum type to the constants.
+     *
+     * @param typeFactory the type factory
+     * @param enumType the enum type
+     * @param name a camel case name unique for the enum type, the name of the table is derived from it
+     *
+     * @return the table
+     */
+    public static StringLookupTableField forEnumConstants(TypeFactory typeFactory, Type enumType, String name) {
+        List<MappingEntry> entries = new ArrayList<>();
+        for ( String constant : enumType.getEnumConstants() ) {
+            entries.add( new MappingEntry( constant, constant ) );
+        }
+        String variableName = EnumLookupTableField.toConstantName( name ) + "_BY_NAME";
+        return new StringLookupTableField( typeFactory, enumType, entries, variableName );
+    }
+
+    @Override
+    public String getVariableName() {
+        return variableName;
+    }
+
+    @Override
+    public Type getType() {
+        return type;
+    }
+
+    public Type getTargetType() {
+        return targetType;
+    }
+
+    public List<MappingEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * @return whether there are strings mapped to {@code null}
+     */
+    public boolean isContainsNullTargets() {
+        return containsNullTargets;
+    }
+
+    /**
+     * @return the types required by the declaration of the table and its static initializer
+     */
+    public Set<Type> getImportTypes() {
+        return importTypes;
+    }
+}
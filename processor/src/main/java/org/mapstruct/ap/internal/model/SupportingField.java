@@ -7,6 +7,7 @@
 
 import java.util.Set;
 
+import org.mapstruct.ap.internal.model.common.FieldReference;
 import org.mapstruct.ap.internal.model.source.builtin.BuiltInFieldReference;
 
 /**
@@ -18,11 +19,26 @@ public class SupportingField extends Field {
 
     private final String templateName;
     private final SupportingMappingMethod definingMethod;
+    private final FieldReference fieldReference;
 
     public SupportingField(SupportingMappingMethod definingMethod, BuiltInFieldReference fieldReference, String name) {
         super( fieldReference.getType(), name, true );
         this.templateName = getTemplateNameForClass( fieldReference.getClass() );
         this.definingMethod = definingMethod;
+        this.fieldReference = fieldReference;
+    }
+
+    /**
+     * Creates a field which is not tied to a {@link SupportingMappingMethod}, e.g. a formatter required by a
+     * conversion.
+     *
+     * @param fieldReference the reference describing the field
+     */
+    public SupportingField(FieldReference fieldReference) {
+        super( fieldReference.getType(), fieldReference.getVariableName(), true );
+        this.templateName = getTemplateNameForClass( fieldReference.getClass() );
+        this.definingMethod = null;
+        this.fieldReference = fieldReference;
     }
 
     @Override
@@ -34,11 +50,16 @@ public SupportingMappingMethod getDefiningMethod() {
         return definingMethod;
     }
 
+    public FieldReference getFieldReference() {
+        return fieldReference;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
         int result = 1;
         result = prime * result + ( ( templateName == null ) ? 0 : templateName.hashCode() );
+        result = prime * result + ( ( getVariableName() == null ) ? 0 : getVariableName().hashCode() );
         return result;
     }
 
@@ -62,6 +83,14 @@ public boolean equals(Object obj) {
         else if ( !templateName.equals( other.templateName ) ) {
             return false;
         }
+        if ( getVariableName() == null ) {
+            if ( other.getVariableName() != null ) {
+                return false;
+            }
+        }
+        else if ( !getVariableName().equals( other.getVariableName() ) ) {
+            return false;
+        }
         return true;
     }
 
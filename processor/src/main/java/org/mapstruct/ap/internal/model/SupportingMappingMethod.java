@@ -10,7 +10,6 @@
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.builtin.BuiltInFieldReference;
 import org.mapstruct.ap.internal.model.source.builtin.BuiltInMethod;
-import org.mapstruct.ap.internal.model.source.builtin.NewDatatypeFactoryConstructorFragment;
 import org.mapstruct.ap.internal.util.Strings;
 
 /**
@@ -20,8 +19,7 @@
  * Specific templates all point to this class, for instance:
  * {@link org.mapstruct.ap.internal.model.source.builtin.XmlGregorianCalendarToCalendar},
  * but also used fields and constructor elements, e.g.
- * {@link org.mapstruct.ap.internal.model.source.builtin.FinalField} and
- * {@link NewDatatypeFactoryConstructorFragment}
+ * {@link org.mapstruct.ap.internal.model.source.builtin.DatatypeFactoryField}
  *
  * @author Gunnar Morling
  */
@@ -79,7 +77,9 @@ public SupportingMappingMethod(HelperMethod method) {
         super( method );
         this.importTypes = method.getImportTypes();
         this.templateName = getTemplateNameForClass( method.getClass() );
-        this.supportingField = null;
+        this.supportingField = method.getFieldReference() != null ?
+            new SupportingField( method.getFieldReference() ) :
+            null;
         this.supportingConstructorFragment = null;
     }
 
@@ -129,6 +129,7 @@ public int hashCode() {
         final int prime = 31;
         int result = 1;
         result = prime * result + ( ( templateName == null ) ? 0 : templateName.hashCode() );
+        result = prime * result + getName().hashCode();
         return result;
     }
 
@@ -152,6 +153,6 @@ public boolean equals(Object obj) {
         else if ( !templateName.equals( other.templateName ) ) {
             return false;
         }
-        return true;
+        return getName().equals( other.getName() );
     }
 }
@@ -16,8 +16,10 @@
 import javax.lang.model.util.Types;
 
 import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.ForgedMethod;
 import org.mapstruct.ap.internal.model.source.ForgedMethodHistory;
+import org.mapstruct.ap.internal.model.source.MappingMethodUtils;
 import org.mapstruct.ap.internal.model.source.Method;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
 import org.mapstruct.ap.internal.model.source.ValueMapping;
@@ -28,7 +30,13 @@
 
 /**
  * A {@link ValueMappingMethod} which maps one value type to another, optionally configured by one or more
- * {@link ValueMapping}s. For now, only enum-to-enum mapping is supported.
+ * {@link ValueMapping}s. For now, only enum-to-enum and string-to-enum mapping is supported.
+ * <p>
+ * For string-to-enum mappings the source values of the {@link ValueMapping}s are string literals. Strings equal to
+ * the name of a target constant are mapped to that constant unless {@code <ANY_UNMAPPED>} is used, any other string
+ * is mapped to the {@code <ANY_REMAINING>} / {@code <ANY_UNMAPPED>} target if given, otherwise an
+ * {@link IllegalArgumentException} is raised, as with {@link Enum#valueOf(Class, String)}. The strings are looked up
+ * in a {@link StringLookupTableField}.
  *
  * @author Sjaak Derksen
  */
@@ -39,6 +47,8 @@ public class ValueMappingMethod extends MappingMethod {
     private final String nullTarget;
     private final boolean throwIllegalArgumentException;
     private final boolean overridden;
+    private final EnumLookupTableField lookupTable;
+    private final StringLookupTableField stringLookupTable;
 
     public static class Builder {
 
@@ -85,10 +95,14 @@ public ValueMappingMethod build( ) {
             String nullTarget = null;
             String defaultTarget = null;
             boolean throwIllegalArgumentException = false;
+            EnumLookupTableField lookupTable = null;
+            StringLookupTableField stringLookupTable = null;
 
-            // for now, we're only dealing with enum mappings, populate relevant parameters based on enum-2-enum
-            if ( first( method.getSourceParameters() ).getType().isEnumType() && method.getResultType().isEnumType() ) {
-                mappingEntries.addAll( enumToEnumMapping( method ) );
+            // for now, we're only dealing with mappings to enums, populate relevant parameters based on enum-2-enum
+            // or string-2-enum
+            boolean enumToEnum = MappingMethodUtils.isEnumMapping( method );
+            if ( enumToEnum || MappingMethodUtils.isStringToEnumMapping( method ) ) {
+                mappingEntries.addAll( enumToEnum ? enumToEnumMapping( method ) : stringToEnumMapping( method ) );
 
                 if ( (nullTargetValue != null) && !MappingConstantsPrism.NULL.equals( nullTargetValue.getTarget() ) ) {
                     // absense nulltargetvalue reverts to null. Or it could be a deliberate choice to return null
@@ -103,6 +117,28 @@ public ValueMappingMethod build( ) {
                     throwIllegalArgumentException = true;
                 }
 
+                if ( enumToEnum && isLookupTableApplicable( mappingEntries, throwIllegalArgumentException ) ) {
+                    lookupTable = new EnumLookupTableField(
+                        ctx.getTypeFactory(),
+                        ctx.getTypeFactory().getType( ctx.getTypeUtils().getArrayType(
+                            method.getResultType().getTypeMirror() ) ),
+                        first( method.getSourceParameters() ).getType(),
+                        method.getResultType(),
+                        mappingEntries,
+                        defaultTarget,
+                        Field.getFieldNames( ctx.getUsedSupportedFields() )
+                    );
+                    ctx.getUsedSupportedFields().add( new SupportingField( lookupTable ) );
+                }
+                else if ( !enumToEnum ) {
+                    stringLookupTable = StringLookupTableField.forValueMapping(
+                        ctx.getTypeFactory(),
+                        method.getResultType(),
+                        mappingEntries,
+                        Field.getFieldNames( ctx.getUsedSupportedFields() )
+                    );
+                    ctx.getUsedSupportedFields().add( new SupportingField( stringLookupTable ) );
+                }
             }
 
             // do before / after lifecycle mappings
@@ -115,7 +151,30 @@ public ValueMappingMethod build( ) {
 
             // finally return a mapping
             return new ValueMappingMethod( method, mappingEntries, nullTarget, defaultTarget,
-                throwIllegalArgumentException, beforeMappingMethods, afterMappingMethods );
+                throwIllegalArgumentException, lookupTable, stringLookupTable, beforeMappingMethods,
+                afterMappingMethods );
+        }
+
+        /**
+         * A lookup table is used when configured via the processor option and the source enum is large enough. The
+         * table can't tell constants mapped to {@code null} from unknown constants, so it is not used when the latter
+         * need to raise an exception.
+         */
+        private boolean isLookupTableApplicable(List<MappingEntry> mappingEntries,
+                                                boolean throwIllegalArgumentException) {
+            Integer threshold = ctx.getOptions().getEnumLookupTableThreshold();
+            if ( threshold == null
+                || first( method.getSourceParameters() ).getType().getEnumConstants().size() < threshold ) {
+                return false;
+            }
+            if ( throwIllegalArgumentException ) {
+                for ( MappingEntry mappingEntry : mappingEntries ) {
+                    if ( mappingEntry.getTarget() == null ) {
+                        return false;
+                    }
+                }
+            }
+            return true;
         }
 
         private List<MappingEntry> enumToEnumMapping(Method method) {
@@ -173,6 +232,34 @@ private List<MappingEntry> enumToEnumMapping(Method method) {
             return mappings;
         }
 
+        private List<MappingEntry> stringToEnumMapping(Method method) {
+
+            List<MappingEntry> mappings = new ArrayList<>();
+
+            if ( !reportErrorIfMappedEnumConstantsDontExist( method ) ) {
+                return mappings;
+            }
+
+            // Start to fill the mappings with the defined valuemappings
+            Set<String> mappedSources = new HashSet<>();
+            for ( ValueMapping valueMapping : trueValueMappings ) {
+                String target =
+                    MappingConstantsPrism.NULL.equals( valueMapping.getTarget() ) ? null : valueMapping.getTarget();
+                mappings.add( new MappingEntry( valueMapping.getSource(), target ) );
+                mappedSources.add( valueMapping.getSource() );
+            }
+
+            // add mappings based on name, every string matching a target constant maps to that constant
+            if ( applyNamebasedMappings ) {
+                for ( String targetConstant : method.getReturnType().getEnumConstants() ) {
+                    if ( mappedSources.add( targetConstant ) ) {
+                        mappings.add( new MappingEntry( targetConstant, targetConstant ) );
+                    }
+                }
+            }
+            return mappings;
+        }
+
         private SelectionParameters getSelectionParameters(Method method, Types typeUtils) {
             BeanMappingPrism beanMappingPrism = BeanMappingPrism.getInstanceOn( method.getExecutable() );
             if ( beanMappingPrism != null ) {
@@ -190,9 +277,11 @@ private boolean reportErrorIfMappedEnumConstantsDontExist(Method method) {
 
             boolean foundIncorrectMapping = false;
 
+            boolean sourceIsEnum = first( method.getSourceParameters() ).getType().isEnumType();
+
             for ( ValueMapping mappedConstant : trueValueMappings ) {
 
-                if ( !sourceEnumConstants.contains( mappedConstant.getSource() ) ) {
+                if ( sourceIsEnum && !sourceEnumConstants.contains( mappedConstant.getSource() ) ) {
                     ctx.getMessager().printMessage( method.getExecutable(),
                         mappedConstant.getMirror(),
                         mappedConstant.getSourceAnnotationValue(),
@@ -244,7 +333,8 @@ private boolean reportErrorIfMappedEnumConstantsDontExist(Method method) {
     }
 
     private ValueMappingMethod(Method method, List<MappingEntry> enumMappings, String nullTarget, String defaultTarget,
-        boolean throwIllegalArgumentException, List<LifecycleCallbackMethodReference> beforeMappingMethods,
+        boolean throwIllegalArgumentException, EnumLookupTableField lookupTable,
+        StringLookupTableField stringLookupTable, List<LifecycleCallbackMethodReference> beforeMappingMethods,
         List<LifecycleCallbackMethodReference> afterMappingMethods) {
         super( method, beforeMappingMethods, afterMappingMethods );
         this.valueMappings = enumMappings;
@@ -252,6 +342,20 @@ private ValueMappingMethod(Method method, List<MappingEntry> enumMappings, Strin
         this.defaultTarget = defaultTarget;
         this.throwIllegalArgumentException = throwIllegalArgumentException;
         this.overridden = method.overridesMethod();
+        this.lookupTable = lookupTable;
+        this.stringLookupTable = stringLookupTable;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> importTypes = super.getImportTypes();
+        if ( lookupTable != null ) {
+            importTypes.addAll( lookupTable.getImportTypes() );
+        }
+        if ( stringLookupTable != null ) {
+            importTypes.addAll( stringLookupTable.getImportTypes() );
+        }
+        return importTypes;
     }
 
     public List<MappingEntry> getValueMappings() {
@@ -278,6 +382,14 @@ public boolean isOverridden() {
         return overridden;
     }
 
+    public EnumLookupTableField getLookupTable() {
+        return lookupTable;
+    }
+
+    public StringLookupTableField getStringLookupTable() {
+        return stringLookupTable;
+    }
+
     public static class MappingEntry {
         private final String source;
         private final String target;
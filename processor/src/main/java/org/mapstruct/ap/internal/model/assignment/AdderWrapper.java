@@ -13,12 +13,18 @@
 
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.util.Nouns;
+import org.mapstruct.ap.internal.util.Strings;
 
 import static org.mapstruct.ap.internal.util.Collections.first;
 
 /**
  * Wraps the assignment in a target setter.
+ * <p>
+ * If the target has a bulk adder for the property (e.g. {@code addAllItems(Iterable<Item>)}), the mapped elements are
+ * collected into a list which is passed to a single invocation of the bulk adder, rather than invoking the adder once
+ * per element.
  *
  * @author Sjaak Derksen
  */
@@ -26,16 +32,37 @@ public class AdderWrapper extends AssignmentWrapper {
 
     private final List<Type> thrownTypesToExclude;
     private final Type adderType;
+    private final String bulkAdderName;
+    private final Type mappedElementType;
+    private final String mappedElementsName;
+    private final Type listType;
+    private final Type arrayListType;
 
     public AdderWrapper( Assignment rhs,
                          List<Type> thrownTypesToExclude,
                          boolean fieldAssignment,
-                         String targetPropertyName ) {
+                         String targetPropertyName,
+                         String bulkAdderName,
+                         Type targetElementType,
+                         TypeFactory typeFactory ) {
         super( rhs, fieldAssignment );
         this.thrownTypesToExclude = thrownTypesToExclude;
         String desiredName = Nouns.singularize( targetPropertyName );
         rhs.setSourceLocalVarName( rhs.createLocalVarName( desiredName ) );
         adderType = first( getSourceType().determineTypeArguments( Collection.class ) );
+        this.bulkAdderName = bulkAdderName;
+        if ( bulkAdderName != null ) {
+            this.mappedElementType = typeFactory.getWrappedType( targetElementType );
+            this.mappedElementsName = rhs.createLocalVarName( "mapped" + Strings.capitalize( targetPropertyName ) );
+            this.listType = typeFactory.getType( List.class );
+            this.arrayListType = typeFactory.getType( ArrayList.class );
+        }
+        else {
+            this.mappedElementType = null;
+            this.mappedElementsName = null;
+            this.listType = null;
+            this.arrayListType = null;
+        }
     }
 
     @Override
@@ -56,11 +83,32 @@ public Type getAdderType() {
         return adderType;
     }
 
+    public boolean isBulkAddition() {
+        return bulkAdderName != null;
+    }
+
+    public String getBulkAdderName() {
+        return bulkAdderName;
+    }
+
+    public Type getMappedElementType() {
+        return mappedElementType;
+    }
+
+    public String getMappedElementsName() {
+        return mappedElementsName;
+    }
+
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> imported = new HashSet<>();
         imported.addAll( super.getImportTypes() );
         imported.add( adderType.getTypeBound() );
+        if ( isBulkAddition() ) {
+            imported.addAll( mappedElementType.getImportTypes() );
+            imported.add( listType );
+            imported.add( arrayListType );
+        }
         return imported;
     }
 
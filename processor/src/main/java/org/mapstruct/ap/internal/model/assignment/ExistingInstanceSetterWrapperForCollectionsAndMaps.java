@@ -12,6 +12,7 @@
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.prism.CollectionCopyStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValueCheckStrategyPrism;
 
 /**
@@ -45,7 +46,8 @@ public ExistingInstanceSetterWrapperForCollectionsAndMaps(Assignment decoratedAs
             targetType,
             typeFactory,
             fieldAssignment,
-            mapNullToDefault
+            mapNullToDefault,
+            CollectionCopyStrategyPrism.COPY
         );
         this.includeSourceNullCheck = ALWAYS == nvms;
     }
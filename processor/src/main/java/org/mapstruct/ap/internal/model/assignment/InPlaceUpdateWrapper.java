@@ -0,0 +1,40 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model.assignment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.Type;
+
+/**
+ * Wraps the invocation of an update method on an existing target instance, e.g. an element of a target collection
+ * which is updated in place. The target bean name passed to the template denotes the instance to be updated.
+ */
+public class InPlaceUpdateWrapper extends AssignmentWrapper {
+
+    private final List<Type> thrownTypesToExclude;
+
+    public InPlaceUpdateWrapper(Assignment decoratedAssignment, List<Type> thrownTypesToExclude) {
+        super( decoratedAssignment, false );
+        this.thrownTypesToExclude = thrownTypesToExclude;
+    }
+
+    @Override
+    public List<Type> getThrownTypes() {
+        List<Type> parentThrownTypes = super.getThrownTypes();
+        List<Type> result = new ArrayList<>( parentThrownTypes );
+        for ( Type thrownTypeToExclude : thrownTypesToExclude ) {
+            for ( Type parentThrownType : parentThrownTypes ) {
+                if ( parentThrownType.isAssignableTo( thrownTypeToExclude ) ) {
+                    result.remove( parentThrownType );
+                }
+            }
+        }
+        return result;
+    }
+}
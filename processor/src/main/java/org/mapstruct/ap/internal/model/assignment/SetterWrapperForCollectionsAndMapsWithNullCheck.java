@@ -7,14 +7,21 @@
 
 import static org.mapstruct.ap.internal.model.common.Assignment.AssignmentType.DIRECT;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
 
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.prism.CollectionCopyStrategyPrism;
 
 /**
  * This wrapper handles the situation where an assignment is done via the setter and a null check is needed.
@@ -24,16 +31,30 @@
  */
 public class SetterWrapperForCollectionsAndMapsWithNullCheck extends WrapperForCollectionsAndMaps {
 
+    private static final Map<String, String> UNMODIFIABLE_VIEW_METHODS = new HashMap<>();
+
+    static {
+        UNMODIFIABLE_VIEW_METHODS.put( Collection.class.getName(), "unmodifiableCollection" );
+        UNMODIFIABLE_VIEW_METHODS.put( List.class.getName(), "unmodifiableList" );
+        UNMODIFIABLE_VIEW_METHODS.put( Set.class.getName(), "unmodifiableSet" );
+        UNMODIFIABLE_VIEW_METHODS.put( SortedSet.class.getName(), "unmodifiableSortedSet" );
+        UNMODIFIABLE_VIEW_METHODS.put( Map.class.getName(), "unmodifiableMap" );
+        UNMODIFIABLE_VIEW_METHODS.put( SortedMap.class.getName(), "unmodifiableSortedMap" );
+    }
+
     private final Type targetType;
     private final TypeFactory typeFactory;
     private final boolean mapNullToDefault;
+    private final boolean shareSource;
+    private final String unmodifiableViewMethodName;
 
     public SetterWrapperForCollectionsAndMapsWithNullCheck(Assignment decoratedAssignment,
         List<Type> thrownTypesToExclude,
         Type targetType,
         TypeFactory typeFactory,
         boolean fieldAssignment,
-        boolean mapNullToDefault) {
+        boolean mapNullToDefault,
+        CollectionCopyStrategyPrism collectionCopyStrategy) {
         super(
             decoratedAssignment,
             thrownTypesToExclude,
@@ -43,12 +64,33 @@ public SetterWrapperForCollectionsAndMapsWithNullCheck(Assignment decoratedAssig
         this.targetType = targetType;
         this.typeFactory = typeFactory;
         this.mapNullToDefault = mapNullToDefault;
+
+        // the source can't be passed on if it's only assignable via the copy constructor of the target type
+        if ( !isDirectAssignment() || collectionCopyStrategy == CollectionCopyStrategyPrism.COPY
+            || !getSourceType().isAssignableTo( targetType ) ) {
+            this.shareSource = false;
+            this.unmodifiableViewMethodName = null;
+        }
+        else if ( collectionCopyStrategy == CollectionCopyStrategyPrism.SHARE
+            || getSourceType().isImmutableCollectionOrMapType() ) {
+            this.shareSource = true;
+            this.unmodifiableViewMethodName = null;
+        }
+        else {
+            this.shareSource = false;
+            this.unmodifiableViewMethodName = UNMODIFIABLE_VIEW_METHODS.get(
+                targetType.erasure().getFullyQualifiedName()
+            );
+        }
     }
 
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> imported = new HashSet<>( super.getImportTypes() );
-        if ( isDirectAssignment() ) {
+        if ( unmodifiableViewMethodName != null ) {
+            imported.add( typeFactory.getType( Collections.class ) );
+        }
+        else if ( isDirectAssignment() && !shareSource ) {
             if ( targetType.getImplementationType() != null ) {
                 imported.addAll( targetType.getImplementationType().getImportTypes() );
             }
@@ -81,4 +123,19 @@ public boolean isMapNullToDefault() {
         return mapNullToDefault;
     }
 
+    /**
+     * @return whether the source collection or map is passed on to the target as is, rather than being copied
+     */
+    public boolean isShareSource() {
+        return shareSource;
+    }
+
+    /**
+     * @return the name of the {@link Collections} method wrapping the source collection or map in an unmodifiable view
+     * before passing it on to the target, or {@code null} if it is not wrapped
+     */
+    public String getUnmodifiableViewMethodName() {
+        return unmodifiableViewMethodName;
+    }
+
 }
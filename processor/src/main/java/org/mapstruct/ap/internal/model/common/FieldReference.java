@@ -0,0 +1,25 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model.common;
+
+/**
+ * Reference to a field which needs to be added to the generated mapper, e.g. by a conversion or a built-in method.
+ */
+public interface FieldReference {
+
+    /**
+     *
+     * @return variable name of the field
+     */
+    String getVariableName();
+
+    /**
+     *
+     * @return type of the field
+     */
+    Type getType();
+
+}
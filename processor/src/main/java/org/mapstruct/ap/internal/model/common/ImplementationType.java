@@ -16,35 +16,42 @@ public class ImplementationType {
     private final Type type;
     private final boolean initialCapacityConstructor;
     private final boolean loadFactorAdjustment;
+    private final boolean bulkAddition;
 
-    private ImplementationType(Type type, boolean initialCapacityConstructor, boolean loadFactorAdjustment) {
+    private ImplementationType(Type type, boolean initialCapacityConstructor, boolean loadFactorAdjustment,
+        boolean bulkAddition) {
         this.type = type;
         this.initialCapacityConstructor = initialCapacityConstructor;
         this.loadFactorAdjustment = loadFactorAdjustment;
+        this.bulkAddition = bulkAddition;
     }
 
     public static ImplementationType withDefaultConstructor(Type type) {
-        return new ImplementationType( type, false, false );
+        return new ImplementationType( type, false, false, false );
     }
 
     public static ImplementationType withInitialCapacity(Type type) {
-        return new ImplementationType( type, true, false );
+        return new ImplementationType( type, true, false, false );
     }
 
     public static ImplementationType withLoadFactorAdjustment(Type type) {
-        return new ImplementationType( type, true, true );
+        return new ImplementationType( type, true, true, false );
+    }
+
+    public static ImplementationType withBulkAddition(Type type) {
+        return new ImplementationType( type, false, false, true );
     }
 
     /**
-     * Creates new {@link ImplementationType} that has the same {@link #initialCapacityConstructor} and
-     * {@link #loadFactorAdjustment}, but a different underlying {@link Type}
+     * Creates new {@link ImplementationType} that has the same {@link #initialCapacityConstructor},
+     * {@link #loadFactorAdjustment} and {@link #bulkAddition}, but a different underlying {@link Type}
      *
      * @param type to be replaced
      *
      * @return a new implementation type with the given {@code type}
      */
     public ImplementationType createNew(Type type) {
-        return new ImplementationType( type, initialCapacityConstructor, loadFactorAdjustment );
+        return new ImplementationType( type, initialCapacityConstructor, loadFactorAdjustment, bulkAddition );
     }
 
     /**
@@ -71,4 +78,12 @@ public boolean hasInitialCapacityConstructor() {
     public boolean isLoadFactorAdjustment() {
         return loadFactorAdjustment;
     }
+
+    /**
+     * @return {@code true} if the elements should be added to the underlying type in one bulk operation, as adding
+     * them one by one is expensive (e.g. as each addition copies all elements), {@code false} otherwise
+     */
+    public boolean isBulkAddition() {
+        return bulkAddition;
+    }
 }
@@ -9,6 +9,7 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,7 +27,6 @@
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.type.WildcardType;
-import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 
@@ -34,8 +34,10 @@
 import org.mapstruct.ap.internal.util.AccessorNamingUtils;
 import org.mapstruct.ap.internal.util.Executables;
 import org.mapstruct.ap.internal.util.Filters;
+import org.mapstruct.ap.internal.util.GuavaConstants;
 import org.mapstruct.ap.internal.util.JavaStreamConstants;
 import org.mapstruct.ap.internal.util.Nouns;
+import org.mapstruct.ap.internal.util.TypeElementMetadata;
 import org.mapstruct.ap.internal.util.accessor.Accessor;
 import org.mapstruct.ap.internal.util.accessor.ExecutableElementAccessor;
 import org.mapstruct.ap.spi.BuilderInfo;
@@ -84,18 +86,10 @@ public class Type extends ModelElement implements Comparable<Type> {
 
     private final List<String> enumConstants;
 
-    private Map<String, Accessor> readAccessors = null;
-    private Map<String, ExecutableElementAccessor> presenceCheckers = null;
-
-    private List<Accessor> allAccessors = null;
-    private List<Accessor> setters = null;
-    private List<Accessor> adders = null;
     private List<Accessor> alternativeTargetAccessors = null;
 
     private Type boundingBase = null;
 
-    private Boolean hasEmptyAccessibleContructor;
-
     //CHECKSTYLE:OFF
     public Type(Types typeUtils, Elements elementUtils, TypeFactory typeFactory,
                 AccessorNamingUtils accessorNaming,
@@ -209,6 +203,10 @@ public boolean isEnumType() {
         return isEnumType;
     }
 
+    public boolean isString() {
+        return String.class.getName().equals( getFullyQualifiedName() );
+    }
+
     public boolean isVoid() {
         return isVoid;
     }
@@ -288,6 +286,59 @@ public boolean isStreamType() {
         return isStream;
     }
 
+    /**
+     * Whether this type is a sub-type of {@link Iterator}.
+     *
+     * @return {@code true} if this type is a sub-type of {@link Iterator}, {@code false} otherwise
+     */
+    public boolean isIteratorType() {
+        return !isPrimitive() && !isArrayType() && isSubType( typeMirror, Iterator.class );
+    }
+
+    /**
+     * Whether this type is {@link Iterator} itself rather than one of its sub-types.
+     *
+     * @return {@code true} if this type is {@link Iterator}, {@code false} otherwise
+     */
+    public boolean isIteratorInterfaceType() {
+        return Iterator.class.getName().equals( qualifiedName );
+    }
+
+    /**
+     * Whether this type is a sub-type of {@code java.util.function.Consumer}.
+     *
+     * @return {@code true} if this type is a sub-type of {@code java.util.function.Consumer}, {@code false}
+     * otherwise
+     */
+    public boolean isConsumerType() {
+        if ( isPrimitive() || isArrayType() ) {
+            return false;
+        }
+        TypeElement consumerTypeElement = elementUtils.getTypeElement( JavaStreamConstants.CONSUMER_FQN );
+        return consumerTypeElement != null
+            && typeUtils.isSubtype( typeMirror, typeUtils.erasure( consumerTypeElement.asType() ) );
+    }
+
+    /**
+     * Whether this type is a sub-type of one of the immutable collection or map types of Guava, e.g.
+     * {@code ImmutableList}.
+     *
+     * @return {@code true} if this type is a sub-type of {@code com.google.common.collect.ImmutableCollection} or
+     * {@code com.google.common.collect.ImmutableMap}, {@code false} otherwise
+     */
+    public boolean isImmutableCollectionOrMapType() {
+        if ( isPrimitive() || isArrayType() ) {
+            return false;
+        }
+        return isSubTypeOfAvailable( GuavaConstants.IMMUTABLE_COLLECTION_FQN )
+            || isSubTypeOfAvailable( GuavaConstants.IMMUTABLE_MAP_FQN );
+    }
+
+    private boolean isSubTypeOfAvailable(String canonicalName) {
+        TypeElement typeElement = elementUtils.getTypeElement( canonicalName );
+        return typeElement != null && typeUtils.isSubtype( typeMirror, typeUtils.erasure( typeElement.asType() ) );
+    }
+
     public boolean isWildCardSuperBound() {
         boolean result = false;
         if ( typeMirror.getKind() == TypeKind.WILDCARD ) {
@@ -461,36 +512,7 @@ public boolean isAssignableTo(Type other) {
      * @return an unmodifiable map of all read accessors (including 'is' for booleans), indexed by property name
      */
     public Map<String, Accessor> getPropertyReadAccessors() {
-        if ( readAccessors == null ) {
-            List<Accessor> getterList = Filters.getterMethodsIn( accessorNaming, getAllAccessors() );
-            Map<String, Accessor> modifiableGetters = new LinkedHashMap<>();
-            for ( Accessor getter : getterList ) {
-                String propertyName = accessorNaming.getPropertyName( getter );
-                if ( modifiableGetters.containsKey( propertyName ) ) {
-                    // In the DefaultAccessorNamingStrategy, this can only be the case for Booleans: isFoo() and
-                    // getFoo(); The latter is preferred.
-                    if ( !getter.getSimpleName().toString().startsWith( "is" ) ) {
-                        modifiableGetters.put( accessorNaming.getPropertyName( getter ), getter );
-                    }
-
-                }
-                else {
-                    modifiableGetters.put( accessorNaming.getPropertyName( getter ), getter );
-                }
-            }
-
-            List<Accessor> fieldsList = Filters.fieldsIn( getAllAccessors() );
-            for ( Accessor field : fieldsList ) {
-                String propertyName = accessorNaming.getPropertyName( field );
-                if ( !modifiableGetters.containsKey( propertyName ) ) {
-                    // If there was no getter or is method for booleans, then resort to the field.
-                    // If a field was already added do not add it again.
-                    modifiableGetters.put( propertyName, field );
-                }
-            }
-            readAccessors = Collections.unmodifiableMap( modifiableGetters );
-        }
-        return readAccessors;
+        return getTypeElementMetadata().getReadAccessors();
     }
 
     /**
@@ -499,18 +521,7 @@ public Map<String, Accessor> getPropertyReadAccessors() {
      * @return an unmodifiable map of all presence checkers, indexed by property name
      */
     public Map<String, ExecutableElementAccessor> getPropertyPresenceCheckers() {
-        if ( presenceCheckers == null ) {
-            List<ExecutableElementAccessor> checkerList = Filters.presenceCheckMethodsIn(
-                accessorNaming,
-                getAllAccessors()
-            );
-            Map<String, ExecutableElementAccessor> modifiableCheckers = new LinkedHashMap<>();
-            for ( ExecutableElementAccessor checker : checkerList ) {
-                modifiableCheckers.put( accessorNaming.getPropertyName( checker ), checker );
-            }
-            presenceCheckers = Collections.unmodifiableMap( modifiableCheckers );
-        }
-        return presenceCheckers;
+        return getTypeElementMetadata().getPresenceCheckers();
     }
 
     /**
@@ -600,11 +611,11 @@ else if ( accessorNaming.isGetterMethod( candidate ) || Executables.isFieldAcces
     }
 
     private List<Accessor> getAllAccessors() {
-        if ( allAccessors == null ) {
-            allAccessors = Executables.getAllEnclosedAccessors( elementUtils, typeElement );
-        }
+        return getTypeElementMetadata().getAllAccessors();
+    }
 
-        return allAccessors;
+    private TypeElementMetadata getTypeElementMetadata() {
+        return typeFactory.getTypeElementMetadata( typeElement );
     }
 
     /**
@@ -687,16 +698,53 @@ private List<Accessor> getAccessorCandidates(Type property, Class<?> superclass)
         return candidateList;
     }
 
+    /**
+     * Tries to find a bulk adder in this type for given adder, i.e. a method adding all elements of a collection at
+     * once, such as {@code addAllItems(Iterable<? extends Item>)} next to {@code addItem(Item)}.
+     * <p>
+     * Matching occurs on:
+     * <ol>
+     * <li>The bulk adder should accept a {@link java.util.List} of the adder's argument type</li>
+     * <li>The property name derived from the bulk adder should either match the given property name, or (as is
+     * possible) the element name of the adder, e.g. {@code addAllItems} matches {@code addItem} and, as generated for
+     * protocol buffers, {@code addItems}</li>
+     * </ol>
+     *
+     * @param adder the adder method of the collection property
+     * @param propertyName the name of the collection property
+     * @param elementType the type of the elements to be added, i.e. the argument type of the adder
+     *
+     * @return corresponding bulk adder for the adder when present, {@code null} otherwise
+     */
+    public Accessor getBulkAdderForAdder(Accessor adder, String propertyName, Type elementType) {
+        TypeMirror elementList = typeUtils.getDeclaredType(
+            elementUtils.getTypeElement( List.class.getCanonicalName() ),
+            typeFactory.getWrappedType( elementType ).getTypeMirror()
+        );
+        String elementName = accessorNaming.getElementNameForAdder( adder );
+
+        for ( Accessor bulkAdder : getBulkAdders() ) {
+            String bulkPropertyName = accessorNaming.getPropertyName( bulkAdder );
+            if ( !bulkPropertyName.equals( propertyName ) && !bulkPropertyName.equals( elementName )
+                && !Nouns.singularize( bulkPropertyName ).equals( elementName ) ) {
+                continue;
+            }
+            Parameter parameter = typeFactory.getSingleParameter( (DeclaredType) typeMirror, bulkAdder );
+            if ( parameter != null && typeUtils.isAssignable( elementList, parameter.getType().getTypeMirror() ) ) {
+                return bulkAdder;
+            }
+        }
+
+        return null;
+    }
+
     /**
      * getSetters
      *
      * @return an unmodifiable list of all setters
      */
     private List<Accessor> getSetters() {
-        if ( setters == null ) {
-            setters = Collections.unmodifiableList( Filters.setterMethodsIn( accessorNaming, getAllAccessors() ) );
-        }
-        return setters;
+        return getTypeElementMetadata().getSetters();
     }
 
     /**
@@ -708,10 +756,11 @@ private List<Accessor> getSetters() {
      * @return an unmodifiable list of all adders
      */
     private List<Accessor> getAdders() {
-        if ( adders == null ) {
-            adders = Collections.unmodifiableList( Filters.adderMethodsIn( accessorNaming, getAllAccessors() ) );
-        }
-        return adders;
+        return getTypeElementMetadata().getAdders();
+    }
+
+    private List<Accessor> getBulkAdders() {
+        return getTypeElementMetadata().getBulkAdders();
     }
 
     /**
@@ -954,19 +1003,7 @@ public Type getTypeBound() {
     }
 
     public boolean hasEmptyAccessibleContructor() {
-
-        if ( this.hasEmptyAccessibleContructor == null ) {
-            hasEmptyAccessibleContructor = false;
-            List<ExecutableElement> constructors = ElementFilter.constructorsIn( typeElement.getEnclosedElements() );
-            for ( ExecutableElement constructor : constructors ) {
-                if ( !constructor.getModifiers().contains( Modifier.PRIVATE )
-                    && constructor.getParameters().isEmpty() ) {
-                    hasEmptyAccessibleContructor = true;
-                    break;
-                }
-            }
-        }
-        return hasEmptyAccessibleContructor;
+        return getTypeElementMetadata().hasEmptyAccessibleConstructor();
     }
 
     /**
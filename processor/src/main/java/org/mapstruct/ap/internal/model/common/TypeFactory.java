@@ -23,6 +23,8 @@
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
@@ -44,16 +46,19 @@
 import org.mapstruct.ap.internal.util.Extractor;
 import org.mapstruct.ap.internal.util.FormattingMessager;
 import org.mapstruct.ap.internal.util.JavaStreamConstants;
+import org.mapstruct.ap.internal.util.LookupMemo;
 import org.mapstruct.ap.internal.util.Message;
 import org.mapstruct.ap.internal.util.NativeTypes;
 import org.mapstruct.ap.internal.util.RoundContext;
 import org.mapstruct.ap.internal.util.Strings;
+import org.mapstruct.ap.internal.util.TypeElementMetadata;
 import org.mapstruct.ap.internal.util.accessor.Accessor;
 import org.mapstruct.ap.spi.AstModifyingAnnotationProcessor;
 import org.mapstruct.ap.spi.BuilderInfo;
 import org.mapstruct.ap.spi.MoreThanOneBuilderCreationMethodException;
 import org.mapstruct.ap.spi.TypeHierarchyErroneousException;
 
+import static org.mapstruct.ap.internal.model.common.ImplementationType.withBulkAddition;
 import static org.mapstruct.ap.internal.model.common.ImplementationType.withDefaultConstructor;
 import static org.mapstruct.ap.internal.model.common.ImplementationType.withInitialCapacity;
 import static org.mapstruct.ap.internal.model.common.ImplementationType.withLoadFactorAdjustment;
@@ -118,6 +123,16 @@ public TypeFactory(Elements elementUtils, Types typeUtils, FormattingMessager me
             ConcurrentNavigableMap.class.getName(),
             withDefaultConstructor( getType( ConcurrentSkipListMap.class ) )
         );
+
+        // copy-on-write collections copy all their elements for each addition, so they're populated in bulk
+        implementationTypes.put(
+            CopyOnWriteArrayList.class.getName(),
+            withBulkAddition( getType( CopyOnWriteArrayList.class ) )
+        );
+        implementationTypes.put(
+            CopyOnWriteArraySet.class.getName(),
+            withBulkAddition( getType( CopyOnWriteArraySet.class ) )
+        );
     }
 
     public Type getTypeForLiteral(Class<?> type) {
@@ -156,6 +171,28 @@ public boolean isTypeAvailable(String canonicalName) {
         return null != elementUtils.getTypeElement( canonicalName );
     }
 
+    /**
+     * Returns the metadata of the given type element, which is shared by all mappers processed in the current round.
+     *
+     * @param typeElement the type element
+     * @return the metadata of the type element
+     */
+    public TypeElementMetadata getTypeElementMetadata(TypeElement typeElement) {
+        return roundContext.getTypeElementMetadata( typeElement );
+    }
+
+    /**
+     * Returns the memo of the lookups with the given name, which is shared by all mappers processed in the current
+     * round.
+     *
+     * @param name the name of the lookup
+     * @param <V> the type of the results of the lookup
+     * @return the memo of the lookups
+     */
+    public <V> LookupMemo<V> getLookupMemo(String name) {
+        return roundContext.getLookupMemo( name );
+    }
+
     public Type getWrappedType(Type type ) {
         Type result = type;
         if ( type.isPrimitive() ) {
@@ -520,6 +557,11 @@ private ImplementationType getImplementationType(TypeMirror mirror) {
 
     private BuilderInfo findBuilder(TypeMirror type) {
         try {
+            if ( type.getKind() == TypeKind.DECLARED ) {
+                return getTypeElementMetadata( (TypeElement) ( (DeclaredType) type ).asElement() )
+                    .getBuilderInfo( type, typeUtils );
+            }
+
             return roundContext.getAnnotationProcessorContext()
                 .getBuilderProvider()
                 .findBuilderInfo( type, elementUtils, typeUtils );
@@ -11,6 +11,7 @@
 import javax.lang.model.util.Types;
 
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
+import org.mapstruct.ap.internal.prism.ElementUpdateStrategyPrism;
 import org.mapstruct.ap.internal.prism.IterableMappingPrism;
 import org.mapstruct.ap.internal.prism.NullValueMappingStrategyPrism;
 import org.mapstruct.ap.internal.util.FormattingMessager;
@@ -27,6 +28,10 @@ public class IterableMapping {
     private final FormattingParameters formattingParameters;
     private final AnnotationMirror mirror;
     private final NullValueMappingStrategyPrism nullValueMappingStrategy;
+    private final Integer parallelThreshold;
+    private final boolean lazy;
+    private final ElementUpdateStrategyPrism elementUpdateStrategy;
+    private final String elementKey;
 
     public static IterableMapping fromPrism(IterableMappingPrism iterableMapping, ExecutableElement method,
         FormattingMessager messager, Types typeUtils) {
@@ -46,7 +51,11 @@ public static IterableMapping fromPrism(IterableMappingPrism iterableMapping, Ex
             && iterableMapping.numberFormat().isEmpty()
             && iterableMapping.qualifiedBy().isEmpty()
             && iterableMapping.qualifiedByName().isEmpty()
-            && ( nullValueMappingStrategy == null ) ) {
+            && ( nullValueMappingStrategy == null )
+            && iterableMapping.values.parallelThreshold() == null
+            && iterableMapping.values.lazy() == null
+            && iterableMapping.values.elementUpdateStrategy() == null
+            && iterableMapping.values.elementKey() == null ) {
 
             messager.printMessage( method, Message.ITERABLEMAPPING_NO_ELEMENTS );
         }
@@ -66,20 +75,33 @@ public static IterableMapping fromPrism(IterableMappingPrism iterableMapping, Ex
             method
         );
 
+        Integer parallelThreshold = iterableMapping.parallelThreshold() >= 0 ?
+            iterableMapping.parallelThreshold() :
+            null;
+
         return new IterableMapping( formatting,
             selection,
             iterableMapping.mirror,
-            nullValueMappingStrategy
+            nullValueMappingStrategy,
+            parallelThreshold,
+            iterableMapping.lazy(),
+            ElementUpdateStrategyPrism.valueOf( iterableMapping.elementUpdateStrategy() ),
+            iterableMapping.elementKey().isEmpty() ? null : iterableMapping.elementKey()
         );
     }
 
     private IterableMapping(FormattingParameters formattingParameters, SelectionParameters selectionParameters,
-        AnnotationMirror mirror, NullValueMappingStrategyPrism nvms) {
+        AnnotationMirror mirror, NullValueMappingStrategyPrism nvms, Integer parallelThreshold, boolean lazy,
+        ElementUpdateStrategyPrism elementUpdateStrategy, String elementKey) {
 
         this.formattingParameters = formattingParameters;
         this.selectionParameters = selectionParameters;
         this.mirror = mirror;
         this.nullValueMappingStrategy = nvms;
+        this.parallelThreshold = parallelThreshold;
+        this.lazy = lazy;
+        this.elementUpdateStrategy = elementUpdateStrategy;
+        this.elementKey = elementKey;
     }
 
     public SelectionParameters getSelectionParameters() {
@@ -97,4 +119,34 @@ public AnnotationMirror getMirror() {
     public NullValueMappingStrategyPrism getNullValueMappingStrategy() {
         return nullValueMappingStrategy;
     }
+
+    /**
+     * @return the number of source elements from which on the elements are mapped in parallel, or {@code null} if
+     * they are always mapped sequentially
+     */
+    public Integer getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * @return whether the result should be a view mapping the elements of the source on first access
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * @return how the elements of an existing target collection are updated
+     */
+    public ElementUpdateStrategyPrism getElementUpdateStrategy() {
+        return elementUpdateStrategy;
+    }
+
+    /**
+     * @return the name of the property identifying the elements when updating them by key, or {@code null} if not
+     * given
+     */
+    public String getElementKey() {
+        return elementKey;
+    }
 }
@@ -11,6 +11,7 @@
 import javax.lang.model.util.Types;
 
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
+import org.mapstruct.ap.internal.prism.ElementUpdateStrategyPrism;
 import org.mapstruct.ap.internal.prism.MapMappingPrism;
 import org.mapstruct.ap.internal.prism.NullValueMappingStrategyPrism;
 import org.mapstruct.ap.internal.util.FormattingMessager;
@@ -29,6 +30,8 @@ public class MapMapping {
     private final FormattingParameters valueFormattingParameters;
     private final AnnotationMirror mirror;
     private final NullValueMappingStrategyPrism nullValueMappingStrategy;
+    private final ElementUpdateStrategyPrism valueUpdateStrategy;
+    private final boolean removeMissingKeys;
 
     public static MapMapping fromPrism(MapMappingPrism mapMapping, ExecutableElement method,
         FormattingMessager messager, Types typeUtils) {
@@ -54,7 +57,9 @@ public static MapMapping fromPrism(MapMappingPrism mapMapping, ExecutableElement
             && mapMapping.valueQualifiedByName().isEmpty()
             && !keyTargetTypeIsDefined
             && !valueTargetTypeIsDefined
-            && ( nullValueMappingStrategy == null ) ) {
+            && ( nullValueMappingStrategy == null )
+            && mapMapping.values.valueUpdateStrategy() == null
+            && mapMapping.values.removeMissingKeys() == null ) {
 
             messager.printMessage( method, Message.MAPMAPPING_NO_ELEMENTS );
         }
@@ -95,19 +100,24 @@ public static MapMapping fromPrism(MapMappingPrism mapMapping, ExecutableElement
             valueFormatting,
             valueSelection,
             mapMapping.mirror,
-            nullValueMappingStrategy
+            nullValueMappingStrategy,
+            ElementUpdateStrategyPrism.valueOf( mapMapping.valueUpdateStrategy() ),
+            mapMapping.removeMissingKeys()
         );
     }
 
     private MapMapping(FormattingParameters keyFormatting, SelectionParameters keySelectionParameters,
         FormattingParameters valueFormatting, SelectionParameters valueSelectionParameters, AnnotationMirror mirror,
-        NullValueMappingStrategyPrism nvms ) {
+        NullValueMappingStrategyPrism nvms, ElementUpdateStrategyPrism valueUpdateStrategy,
+        boolean removeMissingKeys) {
         this.keyFormattingParameters = keyFormatting;
         this.keySelectionParameters = keySelectionParameters;
         this.valueFormattingParameters = valueFormatting;
         this.valueSelectionParameters = valueSelectionParameters;
         this.mirror = mirror;
         this.nullValueMappingStrategy = nvms;
+        this.valueUpdateStrategy = valueUpdateStrategy;
+        this.removeMissingKeys = removeMissingKeys;
     }
 
     public FormattingParameters getKeyFormattingParameters() {
@@ -134,4 +144,18 @@ public NullValueMappingStrategyPrism getNullValueMappingStrategy() {
         return nullValueMappingStrategy;
     }
 
+    /**
+     * @return how the entries of an existing target map are updated
+     */
+    public ElementUpdateStrategyPrism getValueUpdateStrategy() {
+        return valueUpdateStrategy;
+    }
+
+    /**
+     * @return whether target entries without a source entry are removed when merging the source entries by key
+     */
+    public boolean isRemoveMissingKeys() {
+        return removeMissingKeys;
+    }
+
 }
@@ -24,6 +24,7 @@
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
 import org.mapstruct.ap.internal.model.common.Parameter;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.prism.CollectionCopyStrategyPrism;
 import org.mapstruct.ap.internal.prism.MappingPrism;
 import org.mapstruct.ap.internal.prism.MappingsPrism;
 import org.mapstruct.ap.internal.prism.NullValueCheckStrategyPrism;
@@ -58,6 +59,7 @@ public class Mapping {
     private final AnnotationValue targetAnnotationValue;
     private final AnnotationValue dependsOnAnnotationValue;
     private final NullValueCheckStrategyPrism nullValueCheckStrategy;
+    private final CollectionCopyStrategyPrism collectionCopyStrategy;
 
     private SourceReference sourceReference;
     private TargetReference targetReference;
@@ -188,6 +190,11 @@ else if ( mappingPrism.values.defaultValue() != null && mappingPrism.values.defa
                 ? null
                 : NullValueCheckStrategyPrism.valueOf( mappingPrism.nullValueCheckStrategy() );
 
+        CollectionCopyStrategyPrism collectionCopyStrategy =
+            null == mappingPrism.values.collectionCopyStrategy()
+                ? null
+                : CollectionCopyStrategyPrism.valueOf( mappingPrism.collectionCopyStrategy() );
+
         return new Mapping(
             source,
             constant,
@@ -203,7 +210,8 @@ else if ( mappingPrism.values.defaultValue() != null && mappingPrism.values.defa
             selectionParams,
             mappingPrism.values.dependsOn(),
             dependsOn,
-            nullValueCheckStrategy
+            nullValueCheckStrategy,
+            collectionCopyStrategy
         );
     }
 
@@ -223,6 +231,7 @@ public static Mapping forIgnore( String targetName) {
             null,
             null,
             new ArrayList(),
+            null,
             null
         );
     }
@@ -233,7 +242,8 @@ private Mapping( String sourceName, String constant, String javaExpression, Stri
                      AnnotationValue sourceAnnotationValue,  AnnotationValue targetAnnotationValue,
                      FormattingParameters formattingParameters, SelectionParameters selectionParameters,
                      AnnotationValue dependsOnAnnotationValue, List<String> dependsOn,
-                     NullValueCheckStrategyPrism nullValueCheckStrategy ) {
+                     NullValueCheckStrategyPrism nullValueCheckStrategy,
+                     CollectionCopyStrategyPrism collectionCopyStrategy ) {
         this.sourceName = sourceName;
         this.constant = constant;
         this.javaExpression = javaExpression;
@@ -249,6 +259,7 @@ private Mapping( String sourceName, String constant, String javaExpression, Stri
         this.dependsOnAnnotationValue = dependsOnAnnotationValue;
         this.dependsOn = dependsOn;
         this.nullValueCheckStrategy = nullValueCheckStrategy;
+        this.collectionCopyStrategy = collectionCopyStrategy;
     }
 
     private Mapping( Mapping mapping, TargetReference targetReference ) {
@@ -269,6 +280,7 @@ private Mapping( Mapping mapping, TargetReference targetReference ) {
         this.sourceReference = mapping.sourceReference;
         this.targetReference = targetReference;
         this.nullValueCheckStrategy = mapping.nullValueCheckStrategy;
+        this.collectionCopyStrategy = mapping.collectionCopyStrategy;
     }
 
     private Mapping( Mapping mapping, SourceReference sourceReference ) {
@@ -289,6 +301,7 @@ private Mapping( Mapping mapping, SourceReference sourceReference ) {
         this.sourceReference = sourceReference;
         this.targetReference = mapping.targetReference;
         this.nullValueCheckStrategy = mapping.nullValueCheckStrategy;
+        this.collectionCopyStrategy = mapping.collectionCopyStrategy;
     }
 
     private static String getExpression(MappingPrism mappingPrism, ExecutableElement element,
@@ -458,6 +471,10 @@ public NullValueCheckStrategyPrism getNullValueCheckStrategy() {
         return nullValueCheckStrategy;
     }
 
+    public CollectionCopyStrategyPrism getCollectionCopyStrategy() {
+        return collectionCopyStrategy;
+    }
+
     public Mapping popTargetReference() {
         if ( targetReference != null ) {
             TargetReference newTargetReference = targetReference.pop();
@@ -506,7 +523,8 @@ public Mapping reverse(SourceMethod method, FormattingMessager messager, TypeFac
             selectionParameters,
             dependsOnAnnotationValue,
             Collections.<String>emptyList(),
-            nullValueCheckStrategy
+            nullValueCheckStrategy,
+            collectionCopyStrategy
         );
 
         reverse.init(
@@ -548,7 +566,8 @@ public Mapping copyForInheritanceTo(SourceMethod method) {
             selectionParameters,
             dependsOnAnnotationValue,
             dependsOn,
-            nullValueCheckStrategy
+            nullValueCheckStrategy,
+            collectionCopyStrategy
         );
 
         if ( sourceReference != null ) {
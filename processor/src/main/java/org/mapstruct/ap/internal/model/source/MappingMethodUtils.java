@@ -32,4 +32,18 @@ public static boolean isEnumMapping(Method method) {
             && first( method.getSourceParameters() ).getType().isEnumType()
             && method.getResultType().isEnumType();
     }
+
+    /**
+     * Checks if the provided {@code method} maps a {@link String} to an enum type. Such methods are handled as value
+     * mappings, the string values being matched against the enum constant names and the configured value mappings.
+     *
+     * @param method to check
+     *
+     * @return {@code true} if the method maps a string to an enum, {@code false} otherwise
+     */
+    public static boolean isStringToEnumMapping(Method method) {
+        return method.getSourceParameters().size() == 1
+            && first( method.getSourceParameters() ).getType().isString()
+            && method.getResultType().isEnumType();
+    }
 }
@@ -347,9 +347,11 @@ public Parameter getTargetTypeParameter() {
 
     public boolean isIterableMapping() {
         if ( isIterableMapping == null ) {
-            isIterableMapping = getSourceParameters().size() == 1
-                && first( getSourceParameters() ).getType().isIterableType()
-                && getResultType().isIterableType();
+            Type sourceType = getSourceParameters().size() == 1 ? first( getSourceParameters() ).getType() : null;
+            isIterableMapping = sourceType != null
+                && ( sourceType.isIterableType() && getResultType().isIterableType()
+                    || sourceType.isIterableType() && isUpdateMethod() && getResultType().isConsumerType()
+                    || sourceType.isIteratorType() && getResultType().isIteratorInterfaceType() );
         }
         return isIterableMapping;
     }
@@ -383,13 +385,15 @@ public boolean isEnumMapping() {
     /**
      * The default enum mapping (no mappings specified) will from now on be handled as a value mapping. If there
      * are any @Mapping / @Mappings defined on the method, then the deprecated enum behavior should be executed.
+     * String to enum methods are handled as value mappings as well.
      *
      * @return whether (true) or not (false) to execute value mappings
      */
     public boolean isValueMapping() {
 
         if ( isValueMapping == null ) {
-            isValueMapping = isEnumMapping() && mappingOptions.getMappings().isEmpty();
+            isValueMapping = ( isEnumMapping() || MappingMethodUtils.isStringToEnumMapping( this ) )
+                && mappingOptions.getMappings().isEmpty();
         }
         return isValueMapping;
     }
@@ -12,7 +12,6 @@
 
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
-import org.mapstruct.ap.internal.util.Strings;
 
 import static org.mapstruct.ap.internal.util.Collections.asSet;
 
@@ -47,11 +46,6 @@ public Type getReturnType() {
 
     @Override
     public BuiltInFieldReference getFieldReference() {
-        return new FinalField( dataTypeFactoryType, Strings.decapitalize( DatatypeFactory.class.getSimpleName() ) );
-    }
-
-    @Override
-    public BuiltInConstructorFragment getConstructorFragment() {
-        return new NewDatatypeFactoryConstructorFragment( );
+        return new DatatypeFactoryField( dataTypeFactoryType );
     }
 }
@@ -5,23 +5,11 @@
  */
 package org.mapstruct.ap.internal.model.source.builtin;
 
-import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.FieldReference;
 
 /**
  * reference used by BuiltInMethod to create an additional field in the mapper.
  */
-public interface BuiltInFieldReference {
-
-    /**
-     *
-     * @return variable name of the field
-     */
-    String getVariableName();
-
-    /**
-     *
-     * @return type of the field
-     */
-    Type getType();
+public interface BuiltInFieldReference extends FieldReference {
 
 }
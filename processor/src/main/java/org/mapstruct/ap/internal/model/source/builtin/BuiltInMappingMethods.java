@@ -47,6 +47,11 @@ public BuiltInMappingMethods(TypeFactory typeFactory) {
             if ( isXmlGregorianCalendarPresent ) {
                 builtInMethods.add( new XmlGregorianCalendarToLocalDate( typeFactory ) );
                 builtInMethods.add( new LocalDateToXmlGregorianCalendar( typeFactory ) );
+                builtInMethods.add( new XmlGregorianCalendarToZonedDateTime( typeFactory ) );
+                builtInMethods.add( new LocalDateTimeToXmlGregorianCalendar( typeFactory ) );
+                builtInMethods.add( new XmlGregorianCalendarToLocalDateTime( typeFactory ) );
+                builtInMethods.add( new LocalTimeToXmlGregorianCalendar( typeFactory ) );
+                builtInMethods.add( new XmlGregorianCalendarToLocalTime( typeFactory ) );
             }
         }
 
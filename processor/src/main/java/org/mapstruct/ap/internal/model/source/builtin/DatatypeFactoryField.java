@@ -8,23 +8,20 @@
 import org.mapstruct.ap.internal.model.common.Type;
 
 /**
- * A mapper instance field, initialized as null
- *
- * @author Sjaak Derksen
+ * A {@code static final javax.xml.datatype.DatatypeFactory} field, initialized once when the mapper class is
+ * initialized. This avoids the service lookup of {@code DatatypeFactory.newInstance()} for each mapper instance.
  */
-public class FinalField implements BuiltInFieldReference {
+public class DatatypeFactoryField implements BuiltInFieldReference {
 
     private final Type type;
-    private String variableName;
 
-    public FinalField(Type type, String variableName) {
+    public DatatypeFactoryField(Type type) {
         this.type = type;
-        this.variableName = variableName;
     }
 
     @Override
     public String getVariableName() {
-        return variableName;
+        return "DATATYPE_FACTORY";
     }
 
     @Override
@@ -1,12 +0,0 @@
-/*
- * Copyright MapStruct Authors.
- *
- * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
- */
-package org.mapstruct.ap.internal.model.source.builtin;
-
-public class NewDatatypeFactoryConstructorFragment implements BuiltInConstructorFragment {
-
-    public NewDatatypeFactoryConstructorFragment() {
-    }
-}
@@ -6,7 +6,6 @@
 package org.mapstruct.ap.internal.model.source.builtin;
 
 import java.time.ZonedDateTime;
-import java.util.GregorianCalendar;
 import java.util.Set;
 
 import org.mapstruct.ap.internal.model.common.Parameter;
@@ -27,10 +26,7 @@ public ZonedDateTimeToXmlGregorianCalendar(TypeFactory typeFactory) {
         super( typeFactory );
         this.parameter = new Parameter( "zdt ", typeFactory.getType( ZonedDateTime.class ) );
 
-        this.importTypes = asSet(
-            parameter.getType(),
-            typeFactory.getType( GregorianCalendar.class )
-        );
+        this.importTypes = asSet( parameter.getType() );
     }
 
     @Override
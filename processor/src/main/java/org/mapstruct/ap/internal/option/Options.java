@@ -19,15 +19,27 @@ public class Options {
     private final ReportingPolicyPrism unmappedTargetPolicy;
     private final boolean alwaysGenerateSpi;
     private final String defaultComponentModel;
+    private final Integer enumLookupTableThreshold;
+    private final DefaultComponentModelOptions defaultComponentModelOptions;
+    private final Integer mappingMethodSizeLimit;
+    private final boolean costReport;
+    private final boolean lookupStatistics;
 
     public Options(boolean suppressGeneratorTimestamp, boolean suppressGeneratorVersionComment,
                    ReportingPolicyPrism unmappedTargetPolicy,
-                   String defaultComponentModel, boolean alwaysGenerateSpi) {
+                   String defaultComponentModel, boolean alwaysGenerateSpi, Integer enumLookupTableThreshold,
+                   DefaultComponentModelOptions defaultComponentModelOptions, Integer mappingMethodSizeLimit,
+                   boolean costReport, boolean lookupStatistics) {
         this.suppressGeneratorTimestamp = suppressGeneratorTimestamp;
         this.suppressGeneratorVersionComment = suppressGeneratorVersionComment;
         this.unmappedTargetPolicy = unmappedTargetPolicy;
         this.defaultComponentModel = defaultComponentModel;
         this.alwaysGenerateSpi = alwaysGenerateSpi;
+        this.enumLookupTableThreshold = enumLookupTableThreshold;
+        this.defaultComponentModelOptions = defaultComponentModelOptions;
+        this.mappingMethodSizeLimit = mappingMethodSizeLimit;
+        this.costReport = costReport;
+        this.lookupStatistics = lookupStatistics;
     }
 
     public boolean isSuppressGeneratorTimestamp() {
@@ -49,4 +61,78 @@ public String getDefaultComponentModel() {
     public boolean isAlwaysGenerateSpi() {
         return alwaysGenerateSpi;
     }
+
+    /**
+     * @return the number of source enum constants from which on enum-to-enum value mappings are implemented with a
+     * lookup table indexed by the ordinal of the source constant instead of a {@code switch}, {@code null} if
+     * value mappings should always use a {@code switch}
+     */
+    public Integer getEnumLookupTableThreshold() {
+        return enumLookupTableThreshold;
+    }
+
+    /**
+     * @return whether a registry of the mappers with the default component model should be generated per package,
+     * allowing {@code Mappers} to instantiate them without reflection
+     */
+    public boolean isGenerateMapperRegistry() {
+        return defaultComponentModelOptions.generateMapperRegistry;
+    }
+
+    /**
+     * @return whether mappers with the default component model should reference the mappers they use via lazily
+     * initialized, shared instances instead of instantiating them along with themselves
+     */
+    public boolean isLazyUsedMappers() {
+        return defaultComponentModelOptions.lazyUsedMappers;
+    }
+
+    /**
+     * @return whether the implementations of mappers with the default component model should be {@code final}
+     * classes, referenced by their exact type from the mappers using them
+     */
+    public boolean isFinalMapperImplementations() {
+        return defaultComponentModelOptions.finalMapperImplementations;
+    }
+
+    /**
+     * @return the estimated bytecode size from which on the property mappings of bean mapping methods are split into
+     * separate methods, {@code 0} if they should never be split, {@code null} if the default limit should be applied
+     */
+    public Integer getMappingMethodSizeLimit() {
+        return mappingMethodSizeLimit;
+    }
+
+    /**
+     * @return whether a report of the estimated bytecode sizes, boxing conversions and per-call allocations of the
+     * generated methods should be written for each mapper
+     */
+    public boolean isCostReport() {
+        return costReport;
+    }
+
+    /**
+     * @return whether the hit rates of the memoized type and conversion lookups should be reported after each round
+     */
+    public boolean isLookupStatistics() {
+        return lookupStatistics;
+    }
+
+    /**
+     * The options which only apply to mappers with the default component model, i.e. to mappers obtained via
+     * {@code Mappers}.
+     */
+    public static class DefaultComponentModelOptions {
+
+        private final boolean generateMapperRegistry;
+        private final boolean lazyUsedMappers;
+        private final boolean finalMapperImplementations;
+
+        public DefaultComponentModelOptions(boolean generateMapperRegistry, boolean lazyUsedMappers,
+                                            boolean finalMapperImplementations) {
+            this.generateMapperRegistry = generateMapperRegistry;
+            this.lazyUsedMappers = lazyUsedMappers;
+            this.finalMapperImplementations = finalMapperImplementations;
+        }
+    }
 }
@@ -0,0 +1,16 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.prism;
+
+/**
+ * Prism for the enum {@link org.mapstruct.CollectionCopyStrategy}
+ */
+public enum CollectionCopyStrategyPrism {
+
+    COPY,
+    UNMODIFIABLE_VIEW,
+    SHARE;
+}
@@ -5,6 +5,7 @@
  */
 package org.mapstruct.ap.internal.processor;
 
+import java.util.Map;
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
@@ -15,14 +16,15 @@
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
 
+import org.mapstruct.ap.internal.model.MapperRegistry;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.processor.ModelElementProcessor.ProcessorContext;
 import org.mapstruct.ap.internal.util.AccessorNamingUtils;
 import org.mapstruct.ap.internal.util.FormattingMessager;
+import org.mapstruct.ap.internal.util.MemoizingTypesDecorator;
 import org.mapstruct.ap.internal.util.Message;
 import org.mapstruct.ap.internal.util.RoundContext;
-import org.mapstruct.ap.internal.util.workarounds.TypesDecorator;
 import org.mapstruct.ap.internal.version.VersionInformation;
 
 /**
@@ -39,15 +41,16 @@ public class DefaultModelElementProcessorContext implements ProcessorContext {
     private final VersionInformation versionInformation;
     private final Types delegatingTypes;
     private final AccessorNamingUtils accessorNaming;
+    private final Map<String, MapperRegistry> mapperRegistries;
 
     public DefaultModelElementProcessorContext(ProcessingEnvironment processingEnvironment, Options options,
-            RoundContext roundContext) {
+            RoundContext roundContext, Map<String, MapperRegistry> mapperRegistries) {
 
         this.processingEnvironment = processingEnvironment;
         this.messager = new DelegatingMessager( processingEnvironment.getMessager() );
         this.accessorNaming = roundContext.getAnnotationProcessorContext().getAccessorNaming();
         this.versionInformation = DefaultVersionInformation.fromProcessingEnvironment( processingEnvironment );
-        this.delegatingTypes = new TypesDecorator( processingEnvironment, versionInformation );
+        this.delegatingTypes = new MemoizingTypesDecorator( processingEnvironment, versionInformation, roundContext );
         this.typeFactory = new TypeFactory(
             processingEnvironment.getElementUtils(),
             delegatingTypes,
@@ -55,6 +58,7 @@ public DefaultModelElementProcessorContext(ProcessingEnvironment processingEnvir
             roundContext
         );
         this.options = options;
+        this.mapperRegistries = mapperRegistries;
     }
 
     @Override
@@ -97,6 +101,11 @@ public VersionInformation getVersionInformation() {
         return versionInformation;
     }
 
+    @Override
+    public Map<String, MapperRegistry> getMapperRegistries() {
+        return mapperRegistries;
+    }
+
     @Override
     public boolean isErroneous() {
         return messager.isErroneous();
@@ -14,6 +14,7 @@
 import java.util.SortedSet;
 import java.util.TreeSet;
 import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
@@ -47,6 +48,7 @@
 import org.mapstruct.ap.internal.model.source.SourceMethod;
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.prism.DecoratedWithPrism;
+import org.mapstruct.ap.internal.prism.ElementUpdateStrategyPrism;
 import org.mapstruct.ap.internal.prism.InheritConfigurationPrism;
 import org.mapstruct.ap.internal.prism.InheritInverseConfigurationPrism;
 import org.mapstruct.ap.internal.prism.MapperPrism;
@@ -130,9 +132,14 @@ private List<MapperReference> initReferencedMappers(TypeElement element, MapperC
         List<String> variableNames = new LinkedList<>();
 
         for ( TypeMirror usedMapper : mapperConfig.uses() ) {
+            TypeElement usedMapperElement = (TypeElement) typeUtils.asElement( usedMapper );
+            boolean isAnnotatedMapper = MapperPrism.getInstanceOn( usedMapperElement ) != null;
+
             DefaultMapperReference mapperReference = DefaultMapperReference.getInstance(
                 typeFactory.getType( usedMapper ),
-                MapperPrism.getInstanceOn( typeUtils.asElement( usedMapper ) ) != null,
+                isAnnotatedMapper,
+                options.isLazyUsedMappers(),
+                isAnnotatedMapper ? getFinalImplementationReference( element, mapperConfig, usedMapperElement ) : null,
                 typeFactory,
                 variableNames
             );
@@ -154,6 +161,7 @@ private Mapper getMapper(TypeElement element, MapperConfiguration mapperConfig,
         List<Field> fields = new ArrayList<>( mappingContext.getMapperReferences() );
         Set<Field> supportingFieldSet = new LinkedHashSet<>();
         addAllFieldsIn( mappingContext.getUsedSupportedMappings(), supportingFieldSet );
+        supportingFieldSet.addAll( mappingContext.getUsedSupportedFields() );
         fields.addAll( supportingFieldSet );
 
         // handle constructorfragments
@@ -174,6 +182,7 @@ private Mapper getMapper(TypeElement element, MapperConfiguration mapperConfig,
             .extraImports( getExtraImports( element ) )
             .implName( mapperConfig.implementationName() )
             .implPackage( mapperConfig.implementationPackage() )
+            .finalImplementation( isFinalImplementation( mapperConfig ) )
             .build();
 
         if ( !mappingContext.getForgedMethodsUnderCreation().isEmpty() ) {
@@ -184,6 +193,56 @@ private Mapper getMapper(TypeElement element, MapperConfiguration mapperConfig,
         return mapper;
     }
 
+    /**
+     * Returns the name by which the implementation of the given used mapper can be referenced from the implementation
+     * of the given mapper, if it is referenced by its exact type. That's the case if final mapper implementations are
+     * requested and the used mapper is an undecorated mapper with the default component model.
+     *
+     * @return the simple name of the implementation of the used mapper if it resides in the same package as the
+     * implementation of the given mapper, its qualified name if it is public, {@code null} otherwise
+     */
+    private String getFinalImplementationReference(TypeElement element, MapperConfiguration mapperConfig,
+                                                   TypeElement usedMapper) {
+        if ( !options.isFinalMapperImplementations() ) {
+            return null;
+        }
+
+        MapperConfiguration usedMapperConfig = MapperConfiguration.getInstanceOn( usedMapper );
+        if ( !isFinalImplementation( usedMapperConfig ) || DecoratedWithPrism.getInstanceOn( usedMapper ) != null
+            || usedMapper.getModifiers().contains( Modifier.PRIVATE ) ) {
+            return null;
+        }
+
+        String implementationName = Mapper.getImplementationName( usedMapperConfig.implementationName(), usedMapper );
+        String implementationPackage = Mapper.getImplementationPackage(
+            usedMapperConfig.implementationPackage(),
+            elementUtils.getPackageOf( usedMapper ).getQualifiedName().toString()
+        );
+        String qualifiedName = implementationPackage.isEmpty() ? implementationName :
+            implementationPackage + "." + implementationName;
+
+        // @DecoratedWith is not retained in class files, so an implementation compiled before is only referenced if
+        // it is final, i.e. neither a decorator nor compiled without final mapper implementations
+        TypeElement implementation = elementUtils.getTypeElement( qualifiedName );
+        if ( implementation != null && !implementation.getModifiers().contains( Modifier.FINAL ) ) {
+            return null;
+        }
+
+        String packageName = Mapper.getImplementationPackage(
+            mapperConfig.implementationPackage(),
+            elementUtils.getPackageOf( element ).getQualifiedName().toString()
+        );
+        if ( packageName.equals( implementationPackage ) ) {
+            return implementationName;
+        }
+
+        return usedMapper.getModifiers().contains( Modifier.PUBLIC ) ? qualifiedName : null;
+    }
+
+    private boolean isFinalImplementation(MapperConfiguration mapperConfig) {
+        return options.isFinalMapperImplementations() && "default".equals( mapperConfig.componentModel( options ) );
+    }
+
     private Decorator getDecorator(TypeElement element, List<SourceMethod> methods, String implName,
                                    String implPackage) {
         DecoratedWithPrism decoratorPrism = DecoratedWithPrism.getInstanceOn( element );
@@ -292,7 +351,10 @@ private List<MappingMethod> getMappingMethods(MapperConfiguration mapperConfig,
                     new IterableMappingMethod.Builder()
                 );
 
-                hasFactoryMethod = iterableMappingMethod.getFactoryMethod() != null;
+                // iterators are created by the mapping method itself, sinks are passed in
+                hasFactoryMethod = iterableMappingMethod.getFactoryMethod() != null
+                    || iterableMappingMethod.isIteratorMapping()
+                    || iterableMappingMethod.isSinkMapping();
                 mappingMethods.add( iterableMappingMethod );
             }
             else if ( method.isMapMapping() ) {
@@ -304,6 +366,8 @@ else if ( method.isMapMapping() ) {
                 SelectionParameters valueSelectionParameters = null;
                 FormattingParameters valueFormattingParameters = null;
                 NullValueMappingStrategyPrism nullValueMappingStrategy = null;
+                ElementUpdateStrategyPrism valueUpdateStrategy = null;
+                boolean removeMissingKeys = true;
 
                 if ( mappingOptions.getMapMapping() != null ) {
                     keySelectionParameters = mappingOptions.getMapMapping().getKeySelectionParameters();
@@ -311,6 +375,8 @@ else if ( method.isMapMapping() ) {
                     valueSelectionParameters = mappingOptions.getMapMapping().getValueSelectionParameters();
                     valueFormattingParameters = mappingOptions.getMapMapping().getValueFormattingParameters();
                     nullValueMappingStrategy = mappingOptions.getMapMapping().getNullValueMappingStrategy();
+                    valueUpdateStrategy = mappingOptions.getMapMapping().getValueUpdateStrategy();
+                    removeMissingKeys = mappingOptions.getMapMapping().isRemoveMissingKeys();
                 }
 
                 MapMappingMethod mapMappingMethod = builder
@@ -321,6 +387,8 @@ else if ( method.isMapMapping() ) {
                     .valueFormattingParameters( valueFormattingParameters )
                     .valueSelectionParameters( valueSelectionParameters )
                     .nullValueMappingStrategy( nullValueMappingStrategy )
+                    .valueUpdateStrategy( valueUpdateStrategy )
+                    .removeMissingKeys( removeMissingKeys )
                     .build();
 
                 hasFactoryMethod = mapMappingMethod.getFactoryMethod() != null;
@@ -396,11 +464,19 @@ private <M extends ContainerMappingMethod> M createWithElementMappingMethod(Sour
         FormattingParameters formattingParameters = null;
         SelectionParameters selectionParameters = null;
         NullValueMappingStrategyPrism nullValueMappingStrategy = null;
+        Integer parallelThreshold = null;
+        boolean lazy = false;
+        ElementUpdateStrategyPrism elementUpdateStrategy = null;
+        String elementKey = null;
 
         if ( mappingOptions.getIterableMapping() != null ) {
             formattingParameters = mappingOptions.getIterableMapping().getFormattingParameters();
             selectionParameters = mappingOptions.getIterableMapping().getSelectionParameters();
             nullValueMappingStrategy = mappingOptions.getIterableMapping().getNullValueMappingStrategy();
+            parallelThreshold = mappingOptions.getIterableMapping().getParallelThreshold();
+            lazy = mappingOptions.getIterableMapping().isLazy();
+            elementUpdateStrategy = mappingOptions.getIterableMapping().getElementUpdateStrategy();
+            elementKey = mappingOptions.getIterableMapping().getElementKey();
         }
 
         return builder
@@ -409,6 +485,10 @@ private <M extends ContainerMappingMethod> M createWithElementMappingMethod(Sour
             .formattingParameters( formattingParameters )
             .selectionParameters( selectionParameters )
             .nullValueMappingStrategy( nullValueMappingStrategy )
+            .parallelThreshold( parallelThreshold )
+            .lazy( lazy )
+            .elementUpdateStrategy( elementUpdateStrategy )
+            .elementKey( elementKey )
             .build();
     }
 
@@ -6,18 +6,24 @@
 package org.mapstruct.ap.internal.processor;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 
 import javax.annotation.processing.Filer;
 import javax.lang.model.element.TypeElement;
+import javax.tools.FileObject;
 import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
 
 import org.mapstruct.ap.internal.model.GeneratedType;
 import org.mapstruct.ap.internal.model.Mapper;
+import org.mapstruct.ap.internal.model.MapperCostReport;
 import org.mapstruct.ap.internal.writer.ModelWriter;
 
 /**
  * A {@link ModelElementProcessor} which creates a Java source file representing
- * the given {@link Mapper} object, unless the given mapper type is erroneous.
+ * the given {@link Mapper} object, unless the given mapper type is erroneous. If the {@code mapstruct.costReport}
+ * option is set, a {@link MapperCostReport} is written next to each source file.
  *
  * @author Gunnar Morling
  */
@@ -26,25 +32,25 @@ public class MapperRenderingProcessor implements ModelElementProcessor<Mapper, M
     @Override
     public Mapper process(ProcessorContext context, TypeElement mapperTypeElement, Mapper mapper) {
         if ( !context.isErroneous() ) {
-            writeToSourceFile( context.getFiler(), mapper, mapperTypeElement );
+            writeToSourceFile( context.getFiler(), mapper, mapperTypeElement, context.getOptions().isCostReport() );
             return mapper;
         }
 
         return null;
     }
 
-    private void writeToSourceFile(Filer filer, Mapper model, TypeElement originatingElement) {
+    private void writeToSourceFile(Filer filer, Mapper model, TypeElement originatingElement, boolean costReport) {
         ModelWriter modelWriter = new ModelWriter();
 
-        createSourceFile( model, modelWriter, filer, originatingElement );
+        createSourceFile( model, modelWriter, filer, originatingElement, costReport );
 
         if ( model.getDecorator() != null ) {
-            createSourceFile( model.getDecorator(), modelWriter, filer, originatingElement );
+            createSourceFile( model.getDecorator(), modelWriter, filer, originatingElement, costReport );
         }
     }
 
     private void createSourceFile(GeneratedType model, ModelWriter modelWriter, Filer filer,
-                                  TypeElement originatingElement) {
+                                  TypeElement originatingElement, boolean costReport) {
         String fileName = "";
         if ( model.hasPackageName() ) {
             fileName += model.getPackageName() + ".";
@@ -59,7 +65,53 @@ private void createSourceFile(GeneratedType model, ModelWriter modelWriter, File
             throw new RuntimeException( e );
         }
 
-        modelWriter.writeModel( sourceFile, model );
+        if ( !costReport ) {
+            modelWriter.writeModel( sourceFile, model );
+            return;
+        }
+
+        // render the source only once, for writing it as well as for estimating the costs of its methods
+        StringWriter source = new StringWriter();
+        modelWriter.writeModel( source, model );
+
+        try {
+            Writer writer = sourceFile.openWriter();
+            try {
+                writer.write( source.toString() );
+            }
+            finally {
+                writer.close();
+            }
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+
+        createCostReport(
+            MapperCostReport.forGeneratedType( model, source.toString() ),
+            modelWriter,
+            filer,
+            originatingElement
+        );
+    }
+
+    private void createCostReport(MapperCostReport costReport, ModelWriter modelWriter, Filer filer,
+                                  TypeElement originatingElement) {
+        FileObject reportFile;
+        try {
+            // written to the source output, so that the report doesn't end up in the packaged classes
+            reportFile = filer.createResource(
+                StandardLocation.SOURCE_OUTPUT,
+                costReport.getPackageName(),
+                costReport.getFileName(),
+                originatingElement
+            );
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+
+        modelWriter.writeResource( reportFile, costReport );
     }
 
     @Override
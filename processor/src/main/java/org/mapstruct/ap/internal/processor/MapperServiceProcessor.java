@@ -8,13 +8,17 @@
 import java.io.IOException;
 
 import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
 
 import org.mapstruct.ap.internal.model.GeneratedType;
 import org.mapstruct.ap.internal.model.Mapper;
+import org.mapstruct.ap.internal.model.MapperRegistry;
 import org.mapstruct.ap.internal.model.ServicesEntry;
+import org.mapstruct.ap.internal.model.common.Accessibility;
 import org.mapstruct.ap.internal.util.MapperConfiguration;
 import org.mapstruct.ap.internal.writer.ModelWriter;
 
@@ -24,6 +28,9 @@
  *
  * Service files will only be generated for mappers with the default component model
  * unless force using the {@code mapstruct.alwaysGenerateServicesFile} option.
+ * <p>
+ * If the {@code mapstruct.generateMapperRegistry} option is set, mappers with the default component model are also
+ * added to the {@link MapperRegistry} of their package, which is written at the end of the processing round.
  *
  * @author Christophe Labouisse on 12/07/2015.
  */
@@ -31,19 +38,66 @@ public class MapperServiceProcessor  implements ModelElementProcessor<Mapper, Vo
     @Override
     public Void process(ProcessorContext context, TypeElement mapperTypeElement, Mapper mapper) {
         boolean spiGenerationNeeded;
+        boolean defaultComponentModel = "default".equals(
+            MapperConfiguration.getInstanceOn( mapperTypeElement ).componentModel( context.getOptions() )
+        );
 
         if ( context.getOptions().isAlwaysGenerateSpi() ) {
             spiGenerationNeeded = true;
         }
         else {
-            String componentModel =
-                MapperConfiguration.getInstanceOn( mapperTypeElement ).componentModel( context.getOptions() );
-
-            spiGenerationNeeded = "default".equals( componentModel );
+            spiGenerationNeeded = defaultComponentModel;
         }
 
         if ( !context.isErroneous() && spiGenerationNeeded && mapper.hasCustomImplementation() ) {
-            writeToSourceFile( context.getFiler(), mapper );
+            writeToSourceFile( context.getFiler(), mapper, mapperTypeElement );
+        }
+
+        if ( !context.isErroneous() && defaultComponentModel && context.getOptions().isGenerateMapperRegistry() ) {
+            addToMapperRegistry( context, mapperTypeElement, mapper );
+        }
+        return null;
+    }
+
+    private void addToMapperRegistry(ProcessorContext context, TypeElement mapperTypeElement, Mapper mapper) {
+        GeneratedType implementation = mapper.getDecorator() == null ? mapper : mapper.getDecorator();
+
+        if ( !isAccessibleFromRegistry( mapperTypeElement, implementation ) ) {
+            return;
+        }
+
+        String packageName = implementation.getInterfacePackage();
+        MapperRegistry mapperRegistry = context.getMapperRegistries().get( packageName );
+        if ( mapperRegistry == null ) {
+            mapperRegistry = new MapperRegistry( packageName, getGeneratedTypeName( context ) );
+            context.getMapperRegistries().put( packageName, mapperRegistry );
+        }
+        mapperRegistry.addEntry( mapperTypeElement, implementation );
+    }
+
+    /**
+     * The registry resides in the package of the mapper type, so neither the mapper type (or any of its enclosing
+     * types) may be private, nor may the implementation be package-private if it resides in another package.
+     */
+    private boolean isAccessibleFromRegistry(TypeElement mapperTypeElement, GeneratedType implementation) {
+        for ( Element element = mapperTypeElement; element instanceof TypeElement;
+            element = element.getEnclosingElement() ) {
+            if ( element.getModifiers().contains( Modifier.PRIVATE ) ) {
+                return false;
+            }
+        }
+
+        return implementation.getPackageName().equals( implementation.getInterfacePackage() )
+            || implementation.getAccessibility() == Accessibility.PUBLIC;
+    }
+
+    private String getGeneratedTypeName(ProcessorContext context) {
+        if ( context.getVersionInformation().isSourceVersionAtLeast9() &&
+            context.getTypeFactory().isTypeAvailable( "javax.annotation.processing.Generated" ) ) {
+            return "javax.annotation.processing.Generated";
+        }
+        else if ( context.getTypeFactory().isTypeAvailable( "javax.annotation.Generated" ) ) {
+            return "javax.annotation.Generated";
         }
         return null;
     }
@@ -53,11 +107,11 @@ public int getPriority() {
         return 10000;
     }
 
-    private void writeToSourceFile(Filer filer, Mapper model) {
+    private void writeToSourceFile(Filer filer, Mapper model, TypeElement originatingElement) {
         ModelWriter modelWriter = new ModelWriter();
         ServicesEntry servicesEntry = getServicesEntry( model.getDecorator() == null ? model : model.getDecorator() );
 
-        createSourceFile( servicesEntry, modelWriter, filer );
+        createSourceFile( servicesEntry, modelWriter, filer, originatingElement );
     }
 
     private ServicesEntry getServicesEntry(GeneratedType model) {
@@ -67,12 +121,18 @@ private ServicesEntry getServicesEntry(GeneratedType model) {
                                  model.getPackageName(), model.getName());
     }
 
-    private void createSourceFile(ServicesEntry model, ModelWriter modelWriter, Filer filer) {
+    private void createSourceFile(ServicesEntry model, ModelWriter modelWriter, Filer filer,
+                                  TypeElement originatingElement) {
         String fileName = model.getPackageName() + "." + model.getName();
 
         FileObject sourceFile;
         try {
-            sourceFile = filer.createResource( StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + fileName );
+            sourceFile = filer.createResource(
+                StandardLocation.CLASS_OUTPUT,
+                "",
+                "META-INF/services/" + fileName,
+                originatingElement
+            );
         }
         catch ( IOException e ) {
             throw new RuntimeException( e );
@@ -428,7 +428,10 @@ private boolean checkParameterAndReturnType(ExecutableElement method, List<Param
 
         Type parameterType = sourceParameters.get( 0 ).getType();
 
-        if ( parameterType.isIterableOrStreamType() && !resultType.isIterableOrStreamType() ) {
+        boolean isSinkMapping = parameterType.isIterableType() && targetParameter != null
+            && resultType.isConsumerType();
+
+        if ( parameterType.isIterableOrStreamType() && !resultType.isIterableOrStreamType() && !isSinkMapping ) {
             messager.printMessage( method, Message.RETRIEVAL_ITERABLE_TO_NON_ITERABLE );
             return false;
         }
@@ -458,7 +461,7 @@ private boolean checkParameterAndReturnType(ExecutableElement method, List<Param
             return false;
         }
 
-        if ( !parameterType.isEnumType() && resultType.isEnumType() ) {
+        if ( !parameterType.isEnumType() && !parameterType.isString() && resultType.isEnumType() ) {
             messager.printMessage( method, Message.RETRIEVAL_NON_ENUM_TO_ENUM );
             return false;
         }
@@ -5,12 +5,14 @@
  */
 package org.mapstruct.ap.internal.processor;
 
+import java.util.Map;
 import javax.annotation.processing.Filer;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
 
+import org.mapstruct.ap.internal.model.MapperRegistry;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.util.AccessorNamingUtils;
@@ -55,6 +57,14 @@ public interface ProcessorContext {
 
         VersionInformation getVersionInformation();
 
+        /**
+         * Returns the registries of the mappers generated in the current processing round, by package name. They are
+         * written once all mappers of the round have been processed.
+         *
+         * @return the mapper registries of the current round
+         */
+        Map<String, MapperRegistry> getMapperRegistries();
+
         /**
          * Whether the currently processed mapper type is erroneous which is the
          * case if at least one diagnostic with {@link Kind#ERROR} is reported
@@ -10,6 +10,7 @@
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -35,6 +36,7 @@
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.ConversionContext;
 import org.mapstruct.ap.internal.model.common.DefaultConversionContext;
+import org.mapstruct.ap.internal.model.common.FieldReference;
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
 import org.mapstruct.ap.internal.model.common.SourceRHS;
 import org.mapstruct.ap.internal.model.common.Type;
@@ -64,19 +66,30 @@ public class MappingResolverImpl implements MappingResolver {
     private final Types typeUtils;
     private final TypeFactory typeFactory;
 
-    private final List<Method> sourceModel;
     private final List<MapperReference> mapperReferences;
 
     private final Conversions conversions;
-    private final BuiltInMappingMethods builtInMethods;
     private final MethodSelectors methodSelectors;
 
+    /**
+     * The source methods which are candidates for mapping a property and the built-in methods, indexed by their
+     * types, so that the many lookups of the 2-step resolutions don't need to inspect all methods.
+     */
+    private final MethodCandidateIndex<Method> methods;
+    private final MethodCandidateIndex<BuiltInMethod> builtInMethods;
+
     /**
      * Private methods which are not present in the original mapper interface and are added to map certain property
      * types.
      */
     private final Set<SupportingMappingMethod> usedSupportedMappings = new HashSet<>();
 
+    /**
+     * Private fields which are not present in the original mapper interface and are added to support certain
+     * conversions, e.g. formatters shared by all conversions with the same pattern.
+     */
+    private final Set<Field> usedSupportedFields = new LinkedHashSet<>();
+
     public MappingResolverImpl(FormattingMessager messager, Elements elementUtils, Types typeUtils,
                                TypeFactory typeFactory, List<Method> sourceModel,
                                List<MapperReference> mapperReferences) {
@@ -84,12 +97,16 @@ public MappingResolverImpl(FormattingMessager messager, Elements elementUtils, T
         this.typeUtils = typeUtils;
         this.typeFactory = typeFactory;
 
-        this.sourceModel = sourceModel;
         this.mapperReferences = mapperReferences;
 
         this.conversions = new Conversions( elementUtils, typeFactory );
-        this.builtInMethods = new BuiltInMappingMethods( typeFactory );
         this.methodSelectors = new MethodSelectors( typeUtils, elementUtils, typeFactory );
+
+        this.methods = new MethodCandidateIndex<>( typeUtils, filterPossibleCandidateMethods( sourceModel ) );
+        this.builtInMethods = new MethodCandidateIndex<>(
+            typeUtils,
+            new BuiltInMappingMethods( typeFactory ).getBuiltInMethods()
+        );
     }
 
     @Override
@@ -101,7 +118,6 @@ public Assignment getTargetAssignment(Method mappingMethod, Type targetType, Str
             SelectionCriteria.forMappingMethods( selectionParameters, targetPropertyName, preferUpdateMapping );
 
         ResolvingAttempt attempt = new ResolvingAttempt(
-            sourceModel,
             mappingMethod,
             formattingParameters,
             sourceRHS,
@@ -116,6 +132,41 @@ public Set<SupportingMappingMethod> getUsedSupportedMappings() {
         return usedSupportedMappings;
     }
 
+    @Override
+    public Set<Field> getUsedSupportedFields() {
+        return usedSupportedFields;
+    }
+
+    private <T extends Method> List<T> filterPossibleCandidateMethods(List<T> candidateMethods) {
+        List<T> result = new ArrayList<>( candidateMethods.size() );
+        for ( T candidate : candidateMethods ) {
+            if ( isCandidateForMapping( candidate ) ) {
+                result.add( candidate );
+            }
+        }
+
+        return result;
+    }
+
+    private boolean isCandidateForMapping(Method methodCandidate) {
+        return isCreateMethodForMapping( methodCandidate ) || isUpdateMethodForMapping( methodCandidate );
+    }
+
+    private boolean isCreateMethodForMapping(Method methodCandidate) {
+        // a create method may not return void and has no target parameter
+        return methodCandidate.getSourceParameters().size() == 1
+            && !methodCandidate.getReturnType().isVoid()
+            && methodCandidate.getMappingTargetParameter() == null
+            && !methodCandidate.isLifecycleCallbackMethod();
+    }
+
+    private boolean isUpdateMethodForMapping(Method methodCandidate) {
+        // an update method may, or may not return void and has a target parameter
+        return methodCandidate.getSourceParameters().size() == 1
+            && methodCandidate.getMappingTargetParameter() != null
+            && !methodCandidate.isLifecycleCallbackMethod();
+    }
+
     private MapperReference findMapperReference(Method method) {
         for ( MapperReference ref : mapperReferences ) {
             if ( ref.getType().equals( method.getDeclaringMapper() ) ) {
@@ -130,7 +181,6 @@ private MapperReference findMapperReference(Method method) {
     private class ResolvingAttempt {
 
         private final Method mappingMethod;
-        private final List<Method> methods;
         private final SelectionCriteria selectionCriteria;
         private final SourceRHS sourceRHS;
         private final boolean savedPreferUpdateMapping;
@@ -141,11 +191,10 @@ private class ResolvingAttempt {
         // so this set must be cleared.
         private final Set<SupportingMappingMethod> supportingMethodCandidates;
 
-        private ResolvingAttempt(List<Method> sourceModel, Method mappingMethod,
-            FormattingParameters formattingParameters, SourceRHS sourceRHS, SelectionCriteria criteria) {
+        private ResolvingAttempt(Method mappingMethod, FormattingParameters formattingParameters,
+            SourceRHS sourceRHS, SelectionCriteria criteria) {
 
             this.mappingMethod = mappingMethod;
-            this.methods = filterPossibleCandidateMethods( sourceModel );
             this.formattingParameters =
                 formattingParameters == null ? FormattingParameters.EMPTY : formattingParameters;
             this.sourceRHS = sourceRHS;
@@ -154,17 +203,6 @@ private ResolvingAttempt(List<Method> sourceModel, Method mappingMethod,
             this.savedPreferUpdateMapping = criteria.isPreferUpdateMapping();
         }
 
-        private <T extends Method> List<T> filterPossibleCandidateMethods(List<T> candidateMethods) {
-            List<T> result = new ArrayList<>( candidateMethods.size() );
-            for ( T candidate : candidateMethods ) {
-                if ( isCandidateForMapping( candidate ) ) {
-                    result.add( candidate );
-                }
-            }
-
-            return result;
-        }
-
         private Assignment getTargetAssignment(Type sourceType, Type targetType) {
 
             // first simple mapping method
@@ -256,6 +294,11 @@ private Assignment resolveViaConversion(Type sourceType, Type targetType) {
             for ( HelperMethod helperMethod : conversionProvider.getRequiredHelperMethods( ctx ) ) {
                 usedSupportedMappings.add( new SupportingMappingMethod( helperMethod ) );
             }
+
+            // add helper fields required in conversion
+            for ( FieldReference helperField : conversionProvider.getRequiredHelperFields( ctx ) ) {
+                usedSupportedFields.add( new SupportingField( helperField ) );
+            }
             return conversionProvider.to( ctx );
         }
 
@@ -281,7 +324,7 @@ private Assignment resolveViaMethod(Type sourceType, Type targetType, boolean co
 
         private Assignment resolveViaBuiltInMethod(Type sourceType, Type targetType) {
             SelectedMethod<BuiltInMethod> matchingBuiltInMethod =
-                getBestMatch( builtInMethods.getBuiltInMethods(), sourceType, targetType );
+                getBestMatch( builtInMethods, sourceType, targetType );
 
             if ( matchingBuiltInMethod != null ) {
 
@@ -317,8 +360,8 @@ private Assignment resolveViaBuiltInMethod(Type sourceType, Type targetType) {
          */
         private Assignment resolveViaMethodAndMethod(Type sourceType, Type targetType) {
 
-            List<Method> methodYCandidates = new ArrayList<>( methods );
-            methodYCandidates.addAll( builtInMethods.getBuiltInMethods() );
+            List<Method> methodYCandidates = new ArrayList<>( methods.getMethods() );
+            methodYCandidates.addAll( builtInMethods.getMethods() );
 
             Assignment methodRefY = null;
 
@@ -362,8 +405,8 @@ private Assignment resolveViaMethodAndMethod(Type sourceType, Type targetType) {
          */
         private Assignment resolveViaConversionAndMethod(Type sourceType, Type targetType) {
 
-            List<Method> methodYCandidates = new ArrayList<>( methods );
-            methodYCandidates.addAll( builtInMethods.getBuiltInMethods() );
+            List<Method> methodYCandidates = new ArrayList<>( methods.getMethods() );
+            methodYCandidates.addAll( builtInMethods.getMethods() );
 
             Assignment methodRefY = null;
 
@@ -399,8 +442,8 @@ private Assignment resolveViaConversionAndMethod(Type sourceType, Type targetTyp
          */
         private Assignment resolveViaMethodAndConversion(Type sourceType, Type targetType) {
 
-            List<Method> methodXCandidates = new ArrayList<>( methods );
-            methodXCandidates.addAll( builtInMethods.getBuiltInMethods() );
+            List<Method> methodXCandidates = new ArrayList<>( methods.getMethods() );
+            methodXCandidates.addAll( builtInMethods.getMethods() );
 
             Assignment conversionYRef = null;
 
@@ -432,30 +475,12 @@ private Assignment resolveViaMethodAndConversion(Type sourceType, Type targetTyp
             return conversionYRef;
         }
 
-        private boolean isCandidateForMapping(Method methodCandidate) {
-            return isCreateMethodForMapping( methodCandidate ) || isUpdateMethodForMapping( methodCandidate );
-        }
-
-        private boolean isCreateMethodForMapping(Method methodCandidate) {
-            // a create method may not return void and has no target parameter
-            return methodCandidate.getSourceParameters().size() == 1
-                && !methodCandidate.getReturnType().isVoid()
-                && methodCandidate.getMappingTargetParameter() == null
-                && !methodCandidate.isLifecycleCallbackMethod();
-        }
-
-        private boolean isUpdateMethodForMapping(Method methodCandidate) {
-            // an update method may, or may not return void and has a target parameter
-            return methodCandidate.getSourceParameters().size() == 1
-                && methodCandidate.getMappingTargetParameter() != null
-                && !methodCandidate.isLifecycleCallbackMethod();
-        }
-
-        private <T extends Method> SelectedMethod<T> getBestMatch(List<T> methods, Type sourceType, Type returnType) {
+        private <T extends Method> SelectedMethod<T> getBestMatch(MethodCandidateIndex<T> methods, Type sourceType,
+                                                                  Type returnType) {
 
             List<SelectedMethod<T>> candidates = methodSelectors.getMatchingMethods(
                 mappingMethod,
-                methods,
+                methods.getCandidates( sourceType, returnType ),
                 singletonList( sourceType ),
                 returnType,
                 selectionCriteria
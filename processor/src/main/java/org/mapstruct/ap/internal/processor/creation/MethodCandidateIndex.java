@@ -0,0 +1,214 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.processor.creation;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.model.source.SourceMethod;
+import org.mapstruct.ap.internal.model.source.builtin.BuiltInMethod;
+
+/**
+ * An index of the methods available for mapping a single source type to a target type, keyed by the erasures of their
+ * source parameter and result types.
+ * <p>
+ * A source or built-in method can only match a source type which is assignable to the erasure of its source parameter
+ * type, and a target type to which the erasure of its result type is assignable (boxing included). The index groups
+ * the methods by these erasures and determines the assignable groups once per distinct source and target type, so
+ * that the {@link org.mapstruct.ap.internal.model.source.selector.MethodSelectors} only need to inspect the methods
+ * of the matching groups instead of all methods of the mapper and its used mappers. Methods whose types don't allow
+ * such a pre-selection (e.g. type variables, {@code Object} or update methods) are candidates for any type.
+ * <p>
+ * The candidates are returned in the order of the indexed methods, so the selection result is the same as if all
+ * methods were inspected.
+ *
+ * @param <T> either SourceMethod or BuiltInMethod
+ */
+class MethodCandidateIndex<T extends Method> {
+
+    private final Types typeUtils;
+    private final List<T> methods;
+
+    private final ErasureGroups sourceGroups = new ErasureGroups();
+    private final ErasureGroups resultGroups = new ErasureGroups();
+
+    private final Map<Object, BitSet> candidatesBySourceType = new HashMap<>();
+    private final Map<Object, BitSet> candidatesByTargetType = new HashMap<>();
+    private final Map<List<Object>, List<T>> candidates = new HashMap<>();
+
+    MethodCandidateIndex(Types typeUtils, List<T> methods) {
+        this.typeUtils = typeUtils;
+        this.methods = Collections.unmodifiableList( methods );
+
+        for ( int i = 0; i < methods.size(); i++ ) {
+            T method = methods.get( i );
+            if ( method instanceof SourceMethod || method instanceof BuiltInMethod ) {
+                sourceGroups.add( i, method.getSourceParameters().get( 0 ).getType() );
+                resultGroups.add(
+                    i,
+                    method.getMappingTargetParameter() == null && !method.getReturnType().isVoid() ?
+                        method.getResultType() : null
+                );
+            }
+            else {
+                sourceGroups.add( i, null );
+                resultGroups.add( i, null );
+            }
+        }
+    }
+
+    /**
+     * @return all indexed methods
+     */
+    List<T> getMethods() {
+        return methods;
+    }
+
+    /**
+     * Returns the methods which possibly map the given source type to the given target type.
+     *
+     * @param sourceType the source type
+     * @param targetType the target type
+     *
+     * @return the candidate methods, in the order of {@link #getMethods()}
+     */
+    List<T> getCandidates(Type sourceType, Type targetType) {
+        Object sourceKey = keyOf( sourceType.getTypeMirror() );
+        Object targetKey = keyOf( targetType.getTypeMirror() );
+        if ( sourceKey == null && targetKey == null ) {
+            return methods;
+        }
+
+        List<Object> key = new ArrayList<>( 2 );
+        key.add( sourceKey );
+        key.add( targetKey );
+
+        List<T> result = candidates.get( key );
+        if ( result == null ) {
+            BitSet positions = new BitSet( methods.size() );
+            positions.set( 0, methods.size() );
+            if ( sourceKey != null ) {
+                positions.and( getCandidatesBySourceType( sourceKey, sourceType.getTypeMirror() ) );
+            }
+            if ( targetKey != null ) {
+                positions.and( getCandidatesByTargetType( targetKey, targetType.getTypeMirror() ) );
+            }
+
+            result = new ArrayList<>( positions.cardinality() );
+            for ( int i = positions.nextSetBit( 0 ); i >= 0; i = positions.nextSetBit( i + 1 ) ) {
+                result.add( methods.get( i ) );
+            }
+            candidates.put( key, result );
+        }
+
+        return result;
+    }
+
+    private BitSet getCandidatesBySourceType(Object sourceKey, TypeMirror sourceType) {
+        BitSet result = candidatesBySourceType.get( sourceKey );
+        if ( result == null ) {
+            TypeMirror erasure = typeUtils.erasure( sourceType );
+            result = (BitSet) sourceGroups.unconstrained.clone();
+            for ( ErasureGroup group : sourceGroups.byKey.values() ) {
+                if ( isAssignable( erasure, group.erasure ) ) {
+                    result.or( group.positions );
+                }
+            }
+            candidatesBySourceType.put( sourceKey, result );
+        }
+        return result;
+    }
+
+    private BitSet getCandidatesByTargetType(Object targetKey, TypeMirror targetType) {
+        BitSet result = candidatesByTargetType.get( targetKey );
+        if ( result == null ) {
+            TypeMirror erasure = typeUtils.erasure( targetType );
+            result = (BitSet) resultGroups.unconstrained.clone();
+            for ( ErasureGroup group : resultGroups.byKey.values() ) {
+                if ( isAssignable( group.erasure, erasure ) ) {
+                    result.or( group.positions );
+                }
+            }
+            candidatesByTargetType.put( targetKey, result );
+        }
+        return result;
+    }
+
+    private boolean isAssignable(TypeMirror from, TypeMirror to) {
+        if ( typeUtils.isAssignable( from, to ) ) {
+            return true;
+        }
+        if ( from.getKind().isPrimitive() ) {
+            return typeUtils.isAssignable( typeUtils.boxedClass( (PrimitiveType) from ).asType(), to );
+        }
+        if ( to.getKind().isPrimitive() ) {
+            return typeUtils.isAssignable( from, typeUtils.boxedClass( (PrimitiveType) to ).asType() );
+        }
+        return false;
+    }
+
+    /**
+     * @return the type element of declared types, the kind of primitive types and {@code null} for all other types
+     * and {@code java.lang.Object}, which don't allow to pre-select candidates by their erasure
+     */
+    private static Object keyOf(TypeMirror type) {
+        if ( type.getKind() == TypeKind.DECLARED ) {
+            TypeElement typeElement = (TypeElement) ( (DeclaredType) type ).asElement();
+            return typeElement.getQualifiedName().contentEquals( Object.class.getName() ) ? null : typeElement;
+        }
+        if ( type.getKind().isPrimitive() ) {
+            return type.getKind();
+        }
+        return null;
+    }
+
+    /**
+     * The positions of the indexed methods grouped by the erasure of one of their types.
+     */
+    private class ErasureGroups {
+
+        private final Map<Object, ErasureGroup> byKey = new LinkedHashMap<>();
+        private final BitSet unconstrained = new BitSet();
+
+        private void add(int position, Type type) {
+            Object key = type != null ? keyOf( type.getTypeMirror() ) : null;
+            if ( key == null ) {
+                unconstrained.set( position );
+                return;
+            }
+
+            ErasureGroup group = byKey.get( key );
+            if ( group == null ) {
+                group = new ErasureGroup( typeUtils.erasure( type.getTypeMirror() ) );
+                byKey.put( key, group );
+            }
+            group.positions.set( position );
+        }
+    }
+
+    private static class ErasureGroup {
+
+        private final TypeMirror erasure;
+        private final BitSet positions = new BitSet();
+
+        private ErasureGroup(TypeMirror erasure) {
+            this.erasure = erasure;
+        }
+    }
+}
@@ -69,6 +69,14 @@ && isPublic( method )
             && accessorNamingStrategy.getMethodType( executable ) == MethodType.ADDER;
     }
 
+    public boolean isBulkAdderMethod(Accessor method) {
+        ExecutableElement executable = method.getExecutable();
+        return executable != null
+            && isPublic( method )
+            && executable.getParameters().size() == 1
+            && accessorNamingStrategy.getMethodType( executable ) == MethodType.BULK_ADDER;
+    }
+
     public String getPropertyName(Accessor accessor) {
         ExecutableElement executable = accessor.getExecutable();
         return executable != null ? accessorNamingStrategy.getPropertyName( executable ) :
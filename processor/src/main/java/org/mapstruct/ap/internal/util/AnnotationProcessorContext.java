@@ -104,4 +104,8 @@ public BuilderProvider getBuilderProvider() {
         initialize();
         return builderProvider;
     }
+
+    Elements getElementUtils() {
+        return elementUtils;
+    }
 }
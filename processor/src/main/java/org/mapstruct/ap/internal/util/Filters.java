@@ -82,4 +82,16 @@ public static List<Accessor> adderMethodsIn(AccessorNamingUtils accessorNaming,
 
         return adderMethods;
     }
+
+    public static List<Accessor> bulkAdderMethodsIn(AccessorNamingUtils accessorNaming, List<Accessor> elements) {
+        List<Accessor> bulkAdderMethods = new LinkedList<>();
+
+        for ( Accessor method : elements ) {
+            if ( accessorNaming.isBulkAdderMethod( method ) ) {
+                bulkAdderMethods.add( method );
+            }
+        }
+
+        return bulkAdderMethods;
+    }
 }
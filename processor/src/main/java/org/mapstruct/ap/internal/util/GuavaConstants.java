@@ -0,0 +1,19 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util;
+
+/**
+ * Helper holding constants for working with Guava.
+ */
+public final class GuavaConstants {
+
+    private GuavaConstants() {
+    }
+
+    public static final String IMMUTABLE_COLLECTION_FQN = "com.google.common.collect.ImmutableCollection";
+
+    public static final String IMMUTABLE_MAP_FQN = "com.google.common.collect.ImmutableMap";
+}
@@ -17,6 +17,7 @@ public final class JavaStreamConstants {
     public static final String STREAM_SUPPORT_FQN = "java.util.stream.StreamSupport";
     public static final String OPTIONAL_FQN = "java.util.Optional";
     public static final String FUNCTION_FQN = "java.util.function.Function";
+    public static final String CONSUMER_FQN = "java.util.function.Consumer";
 
     private JavaStreamConstants() {
     }
@@ -0,0 +1,115 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A memo table for the results of lookups which are repeated with the same arguments while mappers are generated,
+ * such as the assignability of two types. The arguments are compared by identity, as type mirrors don't implement
+ * {@link Object#equals(Object)}; a lookup with equal but not identical arguments is carried out again.
+ * <p>
+ * The memo counts its lookups and hits, so that its effectiveness can be reported. Memos are kept in the
+ * {@link RoundContext}, as the results of the lookups can't be relied on beyond one processing round.
+ *
+ * @param <V> the type of the memoized results
+ */
+public class LookupMemo<V> {
+
+    private final String name;
+    private final Map<Key, V> results = new HashMap<>();
+
+    private long lookups;
+    private long hits;
+
+    LookupMemo(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the memoized result of the lookup with the given arguments, carrying out the lookup if there is none.
+     *
+     * @param first the first argument of the lookup
+     * @param second the second argument of the lookup, {@code null} for lookups with one argument
+     * @param lookup the lookup to be carried out if its result is not memoized yet
+     *
+     * @return the result of the lookup, which may be {@code null}
+     */
+    public V get(Object first, Object second, Lookup<V> lookup) {
+        lookups++;
+
+        Key key = new Key( first, second );
+        V result = results.get( key );
+        if ( result != null || results.containsKey( key ) ) {
+            hits++;
+            return result;
+        }
+
+        result = lookup.lookUp();
+        results.put( key, result );
+        return result;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getLookups() {
+        return lookups;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    @Override
+    public String toString() {
+        long hitRate = lookups > 0 ? Math.round( hits * 100.0 / lookups ) : 0;
+        return name + ": " + lookups + " lookups, " + hits + " hits (" + hitRate + "%)";
+    }
+
+    /**
+     * A lookup whose result is memoized.
+     *
+     * @param <V> the type of the result
+     */
+    public interface Lookup<V> {
+
+        /**
+         * @return the result of the lookup, may be {@code null}
+         */
+        V lookUp();
+    }
+
+    private static class Key {
+
+        private final Object first;
+        private final Object second;
+
+        private Key(Object first, Object second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode( first ) + System.identityHashCode( second );
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if ( this == obj ) {
+                return true;
+            }
+            if ( !( obj instanceof Key ) ) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return first == other.first && second == other.second;
+        }
+    }
+}
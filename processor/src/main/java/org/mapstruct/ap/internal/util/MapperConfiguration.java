@@ -15,6 +15,7 @@
 
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.prism.BuilderPrism;
+import org.mapstruct.ap.internal.prism.CollectionCopyStrategyPrism;
 import org.mapstruct.ap.internal.prism.CollectionMappingStrategyPrism;
 import org.mapstruct.ap.internal.prism.InjectionStrategyPrism;
 import org.mapstruct.ap.internal.prism.MapperConfigPrism;
@@ -163,6 +164,18 @@ else if ( mapperConfigPrism != null && mapperPrism.values.nullValueCheckStrategy
         }
     }
 
+    public CollectionCopyStrategyPrism getCollectionCopyStrategy(CollectionCopyStrategyPrism mappingPrism) {
+        if ( mappingPrism != null ) {
+            return mappingPrism;
+        }
+        else if ( mapperConfigPrism != null && mapperPrism.values.collectionCopyStrategy() == null ) {
+            return CollectionCopyStrategyPrism.valueOf( mapperConfigPrism.collectionCopyStrategy() );
+        }
+        else {
+            return CollectionCopyStrategyPrism.valueOf( mapperPrism.collectionCopyStrategy() );
+        }
+    }
+
     public InjectionStrategyPrism getInjectionStrategy() {
         if ( mapperConfigPrism != null && mapperPrism.values.injectionStrategy() == null ) {
             return InjectionStrategyPrism.valueOf( mapperConfigPrism.injectionStrategy() );
@@ -0,0 +1,82 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+
+import org.mapstruct.ap.internal.util.LookupMemo.Lookup;
+import org.mapstruct.ap.internal.util.workarounds.TypesDecorator;
+import org.mapstruct.ap.internal.version.VersionInformation;
+
+/**
+ * A {@link TypesDecorator} which memoizes the results of the frequently repeated and costly type relation lookups
+ * ({@code isSubtype}, {@code isAssignable}, {@code erasure} and {@code asMemberOf}) in the {@link RoundContext}, so
+ * they are determined once for all mappers of the round.
+ */
+public class MemoizingTypesDecorator extends TypesDecorator {
+
+    private final LookupMemo<Boolean> isSubtypeMemo;
+    private final LookupMemo<Boolean> isAssignableMemo;
+    private final LookupMemo<TypeMirror> erasureMemo;
+    private final LookupMemo<TypeMirror> asMemberOfMemo;
+
+    public MemoizingTypesDecorator(ProcessingEnvironment processingEnv, VersionInformation versionInformation,
+                                   RoundContext roundContext) {
+        super( processingEnv, versionInformation );
+
+        this.isSubtypeMemo = roundContext.getLookupMemo( "Types.isSubtype" );
+        this.isAssignableMemo = roundContext.getLookupMemo( "Types.isAssignable" );
+        this.erasureMemo = roundContext.getLookupMemo( "Types.erasure" );
+        this.asMemberOfMemo = roundContext.getLookupMemo( "Types.asMemberOf" );
+    }
+
+    @Override
+    public boolean isSubtype(final TypeMirror t1, final TypeMirror t2) {
+        return isSubtypeMemo.get( t1, t2, new Lookup<Boolean>() {
+
+            @Override
+            public Boolean lookUp() {
+                return MemoizingTypesDecorator.super.isSubtype( t1, t2 );
+            }
+        } );
+    }
+
+    @Override
+    public boolean isAssignable(final TypeMirror t1, final TypeMirror t2) {
+        return isAssignableMemo.get( t1, t2, new Lookup<Boolean>() {
+
+            @Override
+            public Boolean lookUp() {
+                return MemoizingTypesDecorator.super.isAssignable( t1, t2 );
+            }
+        } );
+    }
+
+    @Override
+    public TypeMirror erasure(final TypeMirror t) {
+        return erasureMemo.get( t, null, new Lookup<TypeMirror>() {
+
+            @Override
+            public TypeMirror lookUp() {
+                return MemoizingTypesDecorator.super.erasure( t );
+            }
+        } );
+    }
+
+    @Override
+    public TypeMirror asMemberOf(final DeclaredType containing, final Element element) {
+        return asMemberOfMemo.get( containing, element, new Lookup<TypeMirror>() {
+
+            @Override
+            public TypeMirror lookUp() {
+                return MemoizingTypesDecorator.super.asMemberOf( containing, element );
+            }
+        } );
+    }
+}
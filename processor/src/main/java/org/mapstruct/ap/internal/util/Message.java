@@ -61,10 +61,18 @@ public enum Message {
 
     MAPMAPPING_KEY_MAPPING_NOT_FOUND( "No implementation can be generated for this method. Found no method nor implicit conversion for mapping source key type to target key type." ),
     MAPMAPPING_VALUE_MAPPING_NOT_FOUND( "No implementation can be generated for this method. Found no method nor implicit conversion for mapping source value type to target value type." ),
-    MAPMAPPING_NO_ELEMENTS( "'nullValueMappingStrategy', 'keyDateFormat', 'keyQualifiedBy', 'keyTargetType', 'valueDateFormat', 'valueQualfiedBy' and 'valueTargetType' are all undefined in @MapMapping, define at least one of them." ),
+    MAPMAPPING_VALUE_UPDATE_NOT_APPLICABLE( "Map entries can only be merged by update methods with a Map as @MappingTarget, using ElementUpdateStrategy.UPDATE_BY_KEY." ),
+    MAPMAPPING_NO_ELEMENTS( "'nullValueMappingStrategy', 'keyDateFormat', 'keyQualifiedBy', 'keyTargetType', 'valueDateFormat', 'valueQualfiedBy', 'valueTargetType', 'valueUpdateStrategy' and 'removeMissingKeys' are all undefined in @MapMapping, define at least one of them." ),
 
     ITERABLEMAPPING_MAPPING_NOT_FOUND( "No implementation can be generated for this method. Found no method nor implicit conversion for mapping source element type into target element type." ),
-    ITERABLEMAPPING_NO_ELEMENTS( "'nullValueMappingStrategy','dateformat', 'qualifiedBy' and 'elementTargetType' are undefined in @IterableMapping, define at least one of them." ),
+    ITERABLEMAPPING_NO_ELEMENTS( "'nullValueMappingStrategy','dateformat', 'qualifiedBy', 'elementTargetType', 'parallelThreshold', 'lazy', 'elementUpdateStrategy' and 'elementKey' are undefined in @IterableMapping, define at least one of them." ),
+    ITERABLEMAPPING_LAZY_NOT_APPLICABLE( "Lazy mapping is only supported for methods mapping a List to a List, Collection or Iterable. The elements will be mapped eagerly.", Diagnostic.Kind.WARNING ),
+    ITERABLEMAPPING_ELEMENT_UPDATE_NOT_APPLICABLE( "Elements can only be updated in place by update methods with a Collection as @MappingTarget." ),
+    ITERABLEMAPPING_ELEMENT_UPDATE_BY_POSITION_REQUIRES_LIST( "Elements can only be updated by position if the @MappingTarget is a List." ),
+    ITERABLEMAPPING_ELEMENT_KEY_MISSING( "An 'elementKey' must be given in @IterableMapping for updating elements by key." ),
+    ITERABLEMAPPING_ELEMENT_KEY_UNKNOWN( "Element key property \"%s\" is not readable in %s element type \"%s\"." ),
+    ITERABLEMAPPING_ELEMENT_KEY_TYPE_MISMATCH( "Element key property \"%s\" has type \"%s\" in the source element type, but type \"%s\" in the target element type." ),
+    ITERABLEMAPPING_ELEMENT_UPDATE_METHOD_NOT_FOUND( "Can't update elements in place. Found no update method for mapping source element type \"%s\" into an existing instance of target element type \"%s\"." ),
 
     ENUMMAPPING_MULTIPLE_SOURCES( "One enum constant must not be mapped to more than one target constant, but constant %s is mapped to %s." ),
     ENUMMAPPING_UNDEFINED_SOURCE( "A source constant must be specified for mappings of an enum mapping method." ),
@@ -90,6 +98,7 @@ public enum Message {
     BUILDER_MORE_THAN_ONE_BUILDER_CREATION_METHOD( "More than one builder creation method for \"%s\". Found methods: \"%s\". Builder will not be used. Consider implementing a custom BuilderProvider SPI.", Diagnostic.Kind.WARNING ),
     BUILDER_NO_BUILD_METHOD_FOUND("No build method \"%s\" found in \"%s\" for \"%s\". Found methods: \"%s\".", Diagnostic.Kind.ERROR ),
     BUILDER_NO_BUILD_METHOD_FOUND_DEFAULT("No build method \"%s\" found in \"%s\" for \"%s\". Found methods: \"%s\". Consider to add @Builder in order to select the correct build method.", Diagnostic.Kind.ERROR ),
+    BUILDER_LIFECYCLE_METHOD_NOT_INVOKED("Lifecycle method \"%s\" is not invoked, as \"%s\" is created via builder \"%s\" and the value returned by the method is not assignable to \"%s\".", Diagnostic.Kind.WARNING ),
 
     RETRIEVAL_NO_INPUT_ARGS( "Can't generate mapping method with no input arguments." ),
     RETRIEVAL_DUPLICATE_MAPPING_TARGETS( "Can't generate mapping method with more than one @MappingTarget parameter." ),
@@ -101,7 +110,7 @@ public enum Message {
     RETRIEVAL_PRIMITIVE_PARAMETER( "Can't generate mapping method with primitive parameter type." ),
     RETRIEVAL_PRIMITIVE_RETURN( "Can't generate mapping method with primitive return type." ),
     RETRIEVAL_ENUM_TO_NON_ENUM( "Can't generate mapping method from enum type to non-enum type." ),
-    RETRIEVAL_NON_ENUM_TO_ENUM( "Can't generate mapping method from non-enum type to enum type." ),
+    RETRIEVAL_NON_ENUM_TO_ENUM( "Can't generate mapping method from non-enum type other than String to enum type." ),
     RETRIEVAL_TYPE_VAR_SOURCE( "Can't generate mapping method for a generic type variable source." ),
     RETRIEVAL_TYPE_VAR_RESULT( "Can't generate mapping method for a generic type variable target." ),
     RETRIEVAL_WILDCARD_SUPER_BOUND_SOURCE( "Can't generate mapping method for a wildcard super bound source." ),
@@ -5,9 +5,15 @@
  */
 package org.mapstruct.ap.internal.util;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
 
 import org.mapstruct.ap.spi.AstModifyingAnnotationProcessor;
@@ -21,10 +27,14 @@ public class RoundContext {
 
     private final AnnotationProcessorContext annotationProcessorContext;
     private final Set<TypeMirror> clearedTypes;
+    private final Map<TypeElement, TypeElementMetadata> typeElementMetadata;
+    private final Map<String, LookupMemo<?>> lookupMemos;
 
     public RoundContext(AnnotationProcessorContext annotationProcessorContext) {
         this.annotationProcessorContext = annotationProcessorContext;
         this.clearedTypes = new HashSet<>();
+        this.typeElementMetadata = new HashMap<>();
+        this.lookupMemos = new LinkedHashMap<>();
     }
 
     public AnnotationProcessorContext getAnnotationProcessorContext() {
@@ -52,4 +62,48 @@ public void addTypeReadyForProcessing(TypeMirror type) {
     public boolean isReadyForProcessing(TypeMirror type) {
         return clearedTypes.contains( type );
     }
+
+    /**
+     * Returns the metadata of the given type element, which is shared by all mappers processed in this round.
+     *
+     * @param typeElement the type element
+     * @return the metadata of the type element
+     */
+    public TypeElementMetadata getTypeElementMetadata(TypeElement typeElement) {
+        TypeElementMetadata metadata = typeElementMetadata.get( typeElement );
+        if ( metadata == null ) {
+            metadata = new TypeElementMetadata(
+                annotationProcessorContext.getElementUtils(),
+                annotationProcessorContext.getAccessorNaming(),
+                annotationProcessorContext.getBuilderProvider(),
+                typeElement
+            );
+            typeElementMetadata.put( typeElement, metadata );
+        }
+        return metadata;
+    }
+
+    /**
+     * Returns the memo of the lookups with the given name, which is shared by all mappers processed in this round.
+     *
+     * @param name the name of the lookup, e.g. {@code "Types.isAssignable"}
+     * @param <V> the type of the results of the lookup
+     * @return the memo of the lookups
+     */
+    @SuppressWarnings("unchecked")
+    public <V> LookupMemo<V> getLookupMemo(String name) {
+        LookupMemo<?> memo = lookupMemos.get( name );
+        if ( memo == null ) {
+            memo = new LookupMemo<>( name );
+            lookupMemos.put( name, memo );
+        }
+        return (LookupMemo<V>) memo;
+    }
+
+    /**
+     * @return the memos of the lookups carried out in this round, in the order of their creation
+     */
+    public Collection<LookupMemo<?>> getLookupMemos() {
+        return Collections.unmodifiableCollection( lookupMemos.values() );
+    }
 }
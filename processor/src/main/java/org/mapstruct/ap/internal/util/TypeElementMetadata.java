@@ -0,0 +1,205 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import org.mapstruct.ap.internal.util.accessor.Accessor;
+import org.mapstruct.ap.internal.util.accessor.ExecutableElementAccessor;
+import org.mapstruct.ap.spi.BuilderInfo;
+import org.mapstruct.ap.spi.BuilderProvider;
+import org.mapstruct.ap.spi.MoreThanOneBuilderCreationMethodException;
+
+/**
+ * The metadata of a type element which neither depends on the mapper being generated nor on the type arguments the
+ * type element is used with: its accessors, its builder and whether it has an accessible no-args constructor.
+ * <p>
+ * The metadata is determined lazily and kept in the {@link RoundContext}, so the hierarchies of types used by several
+ * mappers are walked once per round instead of once per mapper.
+ */
+public class TypeElementMetadata {
+
+    private final Elements elementUtils;
+    private final AccessorNamingUtils accessorNaming;
+    private final BuilderProvider builderProvider;
+    private final TypeElement typeElement;
+
+    private List<Accessor> allAccessors;
+    private Map<String, Accessor> readAccessors;
+    private Map<String, ExecutableElementAccessor> presenceCheckers;
+    private List<Accessor> setters;
+    private List<Accessor> adders;
+    private List<Accessor> bulkAdders;
+    private Boolean hasEmptyAccessibleConstructor;
+
+    private boolean builderInfoDetermined;
+    private BuilderInfo builderInfo;
+    private MoreThanOneBuilderCreationMethodException builderInfoException;
+
+    TypeElementMetadata(Elements elementUtils, AccessorNamingUtils accessorNaming, BuilderProvider builderProvider,
+                        TypeElement typeElement) {
+        this.elementUtils = elementUtils;
+        this.accessorNaming = accessorNaming;
+        this.builderProvider = builderProvider;
+        this.typeElement = typeElement;
+    }
+
+    /**
+     * @return all accessors of the type element, including the inherited ones
+     */
+    public List<Accessor> getAllAccessors() {
+        if ( allAccessors == null ) {
+            allAccessors = Collections.unmodifiableList(
+                Executables.getAllEnclosedAccessors( elementUtils, typeElement )
+            );
+        }
+
+        return allAccessors;
+    }
+
+    /**
+     * @return an unmodifiable map of all read accessors (including 'is' for booleans), indexed by property name
+     */
+    public Map<String, Accessor> getReadAccessors() {
+        if ( readAccessors == null ) {
+            List<Accessor> getterList = Filters.getterMethodsIn( accessorNaming, getAllAccessors() );
+            Map<String, Accessor> modifiableGetters = new LinkedHashMap<>();
+            for ( Accessor getter : getterList ) {
+                String propertyName = accessorNaming.getPropertyName( getter );
+                if ( modifiableGetters.containsKey( propertyName ) ) {
+                    // In the DefaultAccessorNamingStrategy, this can only be the case for Booleans: isFoo() and
+                    // getFoo(); The latter is preferred.
+                    if ( !getter.getSimpleName().toString().startsWith( "is" ) ) {
+                        modifiableGetters.put( accessorNaming.getPropertyName( getter ), getter );
+                    }
+
+                }
+                else {
+                    modifiableGetters.put( accessorNaming.getPropertyName( getter ), getter );
+                }
+            }
+
+            List<Accessor> fieldsList = Filters.fieldsIn( getAllAccessors() );
+            for ( Accessor field : fieldsList ) {
+                String propertyName = accessorNaming.getPropertyName( field );
+                if ( !modifiableGetters.containsKey( propertyName ) ) {
+                    // If there was no getter or is method for booleans, then resort to the field.
+                    // If a field was already added do not add it again.
+                    modifiableGetters.put( propertyName, field );
+                }
+            }
+            readAccessors = Collections.unmodifiableMap( modifiableGetters );
+        }
+        return readAccessors;
+    }
+
+    /**
+     * @return an unmodifiable map of all presence checkers, indexed by property name
+     */
+    public Map<String, ExecutableElementAccessor> getPresenceCheckers() {
+        if ( presenceCheckers == null ) {
+            List<ExecutableElementAccessor> checkerList = Filters.presenceCheckMethodsIn(
+                accessorNaming,
+                getAllAccessors()
+            );
+            Map<String, ExecutableElementAccessor> modifiableCheckers = new LinkedHashMap<>();
+            for ( ExecutableElementAccessor checker : checkerList ) {
+                modifiableCheckers.put( accessorNaming.getPropertyName( checker ), checker );
+            }
+            presenceCheckers = Collections.unmodifiableMap( modifiableCheckers );
+        }
+        return presenceCheckers;
+    }
+
+    /**
+     * @return an unmodifiable list of all setters
+     */
+    public List<Accessor> getSetters() {
+        if ( setters == null ) {
+            setters = Collections.unmodifiableList( Filters.setterMethodsIn( accessorNaming, getAllAccessors() ) );
+        }
+        return setters;
+    }
+
+    /**
+     * @return an unmodifiable list of all adders
+     */
+    public List<Accessor> getAdders() {
+        if ( adders == null ) {
+            adders = Collections.unmodifiableList( Filters.adderMethodsIn( accessorNaming, getAllAccessors() ) );
+        }
+        return adders;
+    }
+
+    /**
+     * @return an unmodifiable list of all bulk adders
+     */
+    public List<Accessor> getBulkAdders() {
+        if ( bulkAdders == null ) {
+            bulkAdders = Collections.unmodifiableList(
+                Filters.bulkAdderMethodsIn( accessorNaming, getAllAccessors() )
+            );
+        }
+        return bulkAdders;
+    }
+
+    /**
+     * @return whether the type element has a non-private constructor without parameters
+     */
+    public boolean hasEmptyAccessibleConstructor() {
+        if ( hasEmptyAccessibleConstructor == null ) {
+            hasEmptyAccessibleConstructor = false;
+            List<ExecutableElement> constructors = ElementFilter.constructorsIn( typeElement.getEnclosedElements() );
+            for ( ExecutableElement constructor : constructors ) {
+                if ( !constructor.getModifiers().contains( Modifier.PRIVATE )
+                    && constructor.getParameters().isEmpty() ) {
+                    hasEmptyAccessibleConstructor = true;
+                    break;
+                }
+            }
+        }
+        return hasEmptyAccessibleConstructor;
+    }
+
+    /**
+     * Returns the builder of the given type, as determined by the {@link BuilderProvider}. The builder is determined
+     * for the first type of this type element only, as builders are expected not to depend on the type arguments.
+     *
+     * @param type a type of this type element
+     * @param typeUtils the type utils
+     *
+     * @return the builder of the type, {@code null} if it has none
+     *
+     * @throws MoreThanOneBuilderCreationMethodException if the type has several builder creation methods, every time
+     * the builder is requested, so that the error is reported for each mapper using the type
+     */
+    public BuilderInfo getBuilderInfo(TypeMirror type, Types typeUtils) {
+        if ( !builderInfoDetermined ) {
+            try {
+                builderInfo = builderProvider.findBuilderInfo( type, elementUtils, typeUtils );
+            }
+            catch ( MoreThanOneBuilderCreationMethodException ex ) {
+                builderInfoException = ex;
+            }
+            builderInfoDetermined = true;
+        }
+
+        if ( builderInfoException != null ) {
+            throw builderInfoException;
+        }
+        return builderInfo;
+    }
+}
@@ -10,6 +10,7 @@
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.Writer;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.Charset;
@@ -63,15 +64,54 @@ public class ModelWriter {
 
     public void writeModel(FileObject sourceFile, Writable model) {
         try {
-            BufferedWriter writer = new BufferedWriter( new IndentationCorrectingWriter( sourceFile.openWriter() ) );
+            writeModel( sourceFile.openWriter(), model );
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+    }
 
-            Map<Class<?>, Object> values = new HashMap<>();
-            values.put( Configuration.class, CONFIGURATION );
+    /**
+     * Writes the given model to the given writer, correcting the indentation of the written lines, and closes the
+     * writer afterwards.
+     *
+     * @param out the writer to write to
+     * @param model the model to write
+     */
+    public void writeModel(Writer out, Writable model) {
+        write( new IndentationCorrectingWriter( out ), model );
+    }
 
-            model.write( new DefaultModelElementWriterContext( values ), writer );
+    /**
+     * Writes the given model to the given file as rendered by its template, i.e. without correcting the indentation
+     * as done for Java source files.
+     *
+     * @param file the file to write to
+     * @param model the model to write
+     */
+    public void writeResource(FileObject file, Writable model) {
+        try {
+            write( file.openWriter(), model );
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+    }
 
-            writer.flush();
-            writer.close();
+    private void write(Writer out, Writable model) {
+        try {
+            BufferedWriter writer = new BufferedWriter( out );
+            try {
+                Map<Class<?>, Object> values = new HashMap<>();
+                values.put( Configuration.class, CONFIGURATION );
+
+                model.write( new DefaultModelElementWriterContext( values ), writer );
+
+                writer.flush();
+            }
+            finally {
+                writer.close();
+            }
         }
         catch ( RuntimeException e ) {
             throw e;
@@ -17,6 +17,9 @@ public interface AccessorNamingStrategy {
 
     /**
      * Returns the type of the given method.
+     * <p>
+     * Note that the default implementation returns {@link MethodType#BULK_ADDER} for methods such as
+     * {@code addAllItems(Iterable<String> items)}, which it formerly returned {@link MethodType#ADDER} for.
      *
      * @param method to be analyzed.
      *
@@ -25,10 +28,11 @@ public interface AccessorNamingStrategy {
     MethodType getMethodType(ExecutableElement method);
 
     /**
-     * Returns the name of the property represented by the given getter or setter method.
+     * Returns the name of the property represented by the given getter or setter method. Also invoked for
+     * {@link MethodType#BULK_ADDER bulk adder} methods, to determine the property they add elements to.
      * <p>
      * The default implementation will e.g. return "name" for {@code public String getName()} or {@code public void
-     * setName(String name)}.
+     * setName(String name)}, and "items" for {@code public void addAllItems(Iterable<String> items)}.
      *
      * @param getterOrSetterMethod to be analyzed.
      *
@@ -5,6 +5,9 @@
  */
 package org.mapstruct.ap.spi;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import javax.lang.model.element.ExecutableElement;
@@ -25,6 +28,11 @@
 public class DefaultAccessorNamingStrategy implements AccessorNamingStrategy {
 
     private static final Pattern JAVA_JAVAX_PACKAGE = Pattern.compile( "^javax?\\..*" );
+    private static final Set<String> BULK_ADDER_PARAMETER_TYPES = new HashSet<>( Arrays.asList(
+        "java.lang.Iterable",
+        "java.util.Collection",
+        "java.util.List"
+    ) );
 
     @Override
     public MethodType getMethodType(ExecutableElement method) {
@@ -34,6 +42,9 @@ public MethodType getMethodType(ExecutableElement method) {
         else if ( isSetterMethod( method ) ) {
             return MethodType.SETTER;
         }
+        else if ( isBulkAdderMethod( method ) ) {
+            return MethodType.BULK_ADDER;
+        }
         else if ( isAdderMethod( method ) ) {
             return MethodType.ADDER;
         }
@@ -126,6 +137,25 @@ public boolean isAdderMethod(ExecutableElement method) {
         return methodName.startsWith( "add" ) && methodName.length() > 3;
     }
 
+    /**
+     * Returns {@code true} when the {@link ExecutableElement} is a bulk adder method. A bulk adder method starts with
+     * 'addAll' and takes an {@link Iterable}, a {@link java.util.Collection} or a {@link java.util.List}. The remainder
+     * of the name is supposed to reflect the (plural) property name. For example: property "children", but
+     * "addAllChildren". Protocol buffers builders e.g. expose such methods for their repeated fields.
+     *
+     * @param method to be analyzed
+     *
+     * @return {@code true} when the method is a bulk adder method.
+     */
+    public boolean isBulkAdderMethod(ExecutableElement method) {
+        String methodName = method.getSimpleName().toString();
+
+        return methodName.startsWith( "addAll" ) && methodName.length() > 6
+            && Character.isUpperCase( methodName.charAt( 6 ) )
+            && method.getParameters().size() == 1
+            && BULK_ADDER_PARAMETER_TYPES.contains( getQualifiedName( method.getParameters().get( 0 ).asType() ) );
+    }
+
     /**
      * Returns {@code true} when the {@link ExecutableElement} is a <em>presence check</em> method that checks if the
      * corresponding property is present (e.g. not null, not nil, ..). A presence check method  method starts with
@@ -143,13 +173,14 @@ public boolean isPresenceCheckMethod(ExecutableElement method) {
     }
 
     /**
-     * Analyzes the method (getter or setter) and derives the property name.
-     * See {@link #isGetterMethod(ExecutableElement)} {@link #isSetterMethod(ExecutableElement)}. The first three
-     * ('get' / 'set' scenario) characters are removed from the simple name, or the first 2 characters ('is' scenario).
+     * Analyzes the method (getter, setter or bulk adder) and derives the property name.
+     * See {@link #isGetterMethod(ExecutableElement)} {@link #isSetterMethod(ExecutableElement)}
+     * {@link #isBulkAdderMethod(ExecutableElement)}. The first three ('get' / 'set' scenario) characters are removed
+     * from the simple name, the first 2 characters ('is' scenario) or the first 6 characters ('addAll' scenario).
      * From the remainder the first character is made into small case (to counter camel casing) and the result forms
      * the property name.
      *
-     * @param getterOrSetterMethod getter or setter method.
+     * @param getterOrSetterMethod getter, setter or bulk adder method.
      *
      * @return the property name.
      */
@@ -162,6 +193,9 @@ public String getPropertyName(ExecutableElement getterOrSetterMethod) {
         else if ( isFluentSetter( getterOrSetterMethod ) ) {
             return methodName;
         }
+        else if ( isBulkAdderMethod( getterOrSetterMethod ) ) {
+            return IntrospectorUtils.decapitalize( methodName.substring( 6 ) );
+        }
         return IntrospectorUtils.decapitalize( methodName.substring( methodName.startsWith( "is" ) ? 2 : 3 ) );
     }
 
@@ -27,6 +27,16 @@ public enum MethodType {
      */
     ADDER,
 
+    /**
+     * An adder method adding all elements of a collection at once, e.g.
+     * {@code public void addAllItems(Iterable<String> items)}.
+     * <p>
+     * Before this constant was introduced, {@link DefaultAccessorNamingStrategy} reported such methods, i.e. methods
+     * named {@code addAll...} taking an {@link Iterable}, a {@link java.util.Collection} or a {@link java.util.List},
+     * as {@link #ADDER}. Strategies which need to recognize them as adders have to check for both constants.
+     */
+    BULK_ADDER,
+
     /**
      * Any method which is neither a JavaBeans getter, setter nor an adder method.
      */
@@ -6,4 +6,4 @@
 
 -->
 <#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingField" -->
-private final <@includeModel object=type/> ${variableName};
\ No newline at end of file
+private static final <@includeModel object=type/> ${variableName} = <@includeModel object=type/>.ofPattern( "${fieldReference.pattern}" );
\ No newline at end of file
@@ -0,0 +1,20 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingField" -->
+private static final ThreadLocal<<@includeModel object=type/>> ${variableName} = new ThreadLocal<<@includeModel object=type/>>() {
+    @Override
+    protected <@includeModel object=type/> initialValue() {
+        <#if fieldReference.parseBigDecimal>
+        <@includeModel object=type/> df = new <@includeModel object=type/>( "${fieldReference.pattern}" );
+        df.setParseBigDecimal( true );
+        return df;
+        <#else>
+        return new <@includeModel object=type/>( "${fieldReference.pattern}" );
+        </#if>
+    }
+};
\ No newline at end of file
@@ -0,0 +1,15 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingMappingMethod" -->
+private <@includeModel object=returnType/> ${name}( String value ) {
+    <@includeModel object=returnType/> constant = ${supportingField.variableName}.get( value );
+    if ( constant == null ) {
+        throw new IllegalArgumentException( "No enum constant ${returnType.fullyQualifiedName}." + value );
+    }
+    return constant;
+}
@@ -34,48 +34,65 @@
 
     	</#if>
     </#list>
+    <#if propertyMappingGroups?has_content>
+        <#list propertyMappingGroups as group>
+            ${group.name}( <#list propertyMappingGroupParameters as param>${param.name}<#if param_has_next>, </#if></#list> );
+        </#list>
+    <#else>
+        <@propertyMappings mappings=.data_model/>
+    </#if>
+    <#list afterMappingReferences as callback>
+    	<#if callback_index = 0>
+
+    	</#if>
+    	<@includeModel object=callback targetBeanName=resultName targetType=targetType/>
+    </#list>
+    <#if returnType.name != "void">
+
+    <#if finalizerMethod??>
+        return ${resultName}.<@includeModel object=finalizerMethod />;
+    <#else>
+        return ${resultName};
+    </#if>
+    </#if>
+}
+<#list propertyMappingGroups as group>
+
+private void ${group.name}(<#list propertyMappingGroupParameters as param><@includeModel object=param/><#if param_has_next>, </#if></#list>)<@throws/> {
+    <@propertyMappings mappings=group/>
+}
+</#list>
+<#macro propertyMappings mappings>
     <#if (sourceParameters?size > 1)>
         <#list sourceParametersExcludingPrimitives as sourceParam>
-            <#if (propertyMappingsByParameter(sourceParam)?size > 0)>
+            <#if (mappings.propertyMappingsByParameter(sourceParam)?size > 0)>
                 if ( ${sourceParam.name} != null ) {
-                    <#list propertyMappingsByParameter(sourceParam) as propertyMapping>
+                    <#list mappings.propertyMappingsByParameter(sourceParam) as propertyMapping>
                         <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping defaultValueAssignment=propertyMapping.defaultValueAssignment/>
                     </#list>
                 }
             </#if>
         </#list>
         <#list sourcePrimitiveParameters as sourceParam>
-            <#if (propertyMappingsByParameter(sourceParam)?size > 0)>
-                <#list propertyMappingsByParameter(sourceParam) as propertyMapping>
+            <#if (mappings.propertyMappingsByParameter(sourceParam)?size > 0)>
+                <#list mappings.propertyMappingsByParameter(sourceParam) as propertyMapping>
                     <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping defaultValueAssignment=propertyMapping.defaultValueAssignment/>
                 </#list>
             </#if>
         </#list>
     <#else>
-        <#if mapNullToDefault>if ( ${sourceParameters[0].name} != null ) {</#if>
-        <#list propertyMappingsByParameter(sourceParameters[0]) as propertyMapping>
+        <#if mapNullToDefault>
+        if ( ${sourceParameters[0].name} != null ) {
+        </#if>
+        <#list mappings.propertyMappingsByParameter(sourceParameters[0]) as propertyMapping>
             <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping defaultValueAssignment=propertyMapping.defaultValueAssignment/>
         </#list>
         <#if mapNullToDefault>}</#if>
     </#if>
-    <#list constantMappings as constantMapping>
+    <#list mappings.constantMappings as constantMapping>
          <@includeModel object=constantMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping/>
     </#list>
-    <#list afterMappingReferences as callback>
-    	<#if callback_index = 0>
-
-    	</#if>
-    	<@includeModel object=callback targetBeanName=resultName targetType=targetType/>
-    </#list>
-    <#if returnType.name != "void">
-
-    <#if finalizerMethod??>
-        return ${resultName}.<@includeModel object=finalizerMethod />;
-    <#else>
-        return ${resultName};
-    </#if>
-    </#if>
-}
+</#macro>
 <#macro throws>
     <#if (thrownTypes?size > 0)><#lt> throws </#if><@compress single_line=true>
         <#list thrownTypes as exceptionType>
@@ -6,4 +6,18 @@
 
 -->
 <#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.DefaultMapperReference" -->
-private final <@includeModel object=type/> ${variableName} = <#if annotatedMapper>Mappers.getMapper( <@includeModel object=type/>.class );<#else>new <@includeModel object=type/>();</#if>
\ No newline at end of file
+<#if implementationName??>
+<#assign fieldType = implementationName>
+<#assign instantiation><#if lazy>(${implementationName}) Mappers.getSharedMapper( <@includeModel object=type/>.class );<#else>new ${implementationName}();</#if></#assign>
+<#else>
+<#assign fieldType><@includeModel object=type/></#assign>
+<#assign instantiation><#if annotatedMapper>Mappers.<#if lazy>getSharedMapper<#else>getMapper</#if>( <@includeModel object=type/>.class );<#else>new <@includeModel object=type/>();</#if></#assign>
+</#if>
+<#if lazy>
+private static final class ${holderName} {
+
+    private static final ${fieldType} INSTANCE = ${instantiation}
+}<#rt>
+<#else>
+private final ${fieldType} ${variableName} = ${instantiation}<#rt>
+</#if>
\ No newline at end of file
@@ -0,0 +1,20 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingField" -->
+<#assign table = fieldReference>
+<#assign targetTypeName><@includeModel object=table.targetType/></#assign>
+private static final ${targetTypeName}[] ${variableName} = new ${targetTypeName}[<@includeModel object=table.sourceType/>.values().length];
+
+static {
+    <#if table.defaultTarget??>
+    Arrays.fill( ${variableName}, ${targetTypeName}.${table.defaultTarget} );
+    </#if>
+    <#list table.entries as entry>
+    ${variableName}[<@includeModel object=table.sourceType/>.${entry.source}.ordinal()] = <#if entry.target??>${targetTypeName}.${entry.target}<#else>null</#if>;
+    </#list>
+}<#rt>
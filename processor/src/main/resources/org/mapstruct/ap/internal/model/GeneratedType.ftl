@@ -24,10 +24,16 @@ import ${importedType};
 <#list annotations as annotation>
 <#nt><@includeModel object=annotation/>
 </#list>
-<#lt>${accessibility.keyword} class ${name}<#if superClassName??> extends ${superClassName}</#if><#if interfaceName??> implements ${interfaceName}</#if> {
+<#lt>${accessibility.keyword} <#if finalClass>final </#if>class ${name}<#if superClassName??> extends ${superClassName}</#if><#if interfaceName??> implements ${interfaceName}</#if> {
 
-<#list fields as field><#if field.used><#nt>    <@includeModel object=field/>
-</#if></#list>
+<#assign previousField = "">
+<#list fields as field><#if field.used><#assign currentField><@includeModel object=field/></#assign>
+<#-- fields spanning several lines (e.g. with a static initializer) are separated by an empty line -->
+<#if previousField?has_content && (previousField?contains("\n") || currentField?contains("\n"))>
+
+</#if>
+<#nt>    ${currentField}
+<#assign previousField = currentField></#if></#list>
 
 <#if constructor??><#nt>    <@includeModel object=constructor/></#if>
 
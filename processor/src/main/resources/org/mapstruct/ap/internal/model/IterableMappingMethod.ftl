@@ -7,7 +7,7 @@
 -->
 <#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.IterableMappingMethod" -->
 <#if overridden>@Override</#if>
-<#lt>${accessibility.keyword} <@includeModel object=returnType/> ${name}(<#list parameters as param><@includeModel object=param/><#if param_has_next>, </#if></#list>)<@throws/> {
+<#lt>${accessibility.keyword} <@includeModel object=returnType/> ${name}(<#list parameters as param><#if iteratorMapping || lazyView>final </#if><@includeModel object=param/><#if param_has_next>, </#if></#list>)<@throws/> {
     <#list beforeMappingReferencesWithoutMappingTarget as callback>
     	<@includeModel object=callback targetBeanName=resultName targetType=resultType/>
     	<#if !callback_has_next>
@@ -29,6 +29,10 @@
                 <#else>
                     return new <@includeModel object=resultElementType/>[0];
                 </#if>
+            <#elseif sinkMapping>
+                return<#if returnType.name != "void"> ${resultName}</#if>;
+            <#elseif iteratorMapping>
+                return Collections.<<@includeModel object=resultElementType/>>emptyList().iterator();
             <#else>
                 <#if existingInstanceMapping>
                     ${resultName}.clear();
@@ -45,9 +49,56 @@
             <#assign elementTypeString><@includeModel object=resultElementType/></#assign>
             ${elementTypeString}[] ${resultName} = new ${elementTypeString?keep_before('[]')}[<@iterableSize/>]${elementTypeString?replace('[^\\[\\]]+', '', 'r')};
         </#if>
+    <#elseif iteratorMapping>
+        <#-- the elements are mapped one by one as they are requested from the returned iterator -->
+        <@includeModel object=resultType/> ${resultName} = new Iterator<<@includeModel object=resultElementType/>>() {
+
+            @Override
+            public boolean hasNext() {
+                return ${sourceParameter.name}.hasNext();
+            }
+
+            @Override
+            public <@includeModel object=resultElementType/> next() {
+                <@includeModel object=sourceElementType/> ${loopVariableName} = ${sourceParameter.name}.next();
+                <@includeModel object=elementAssignment targetWriteAccessorName=resultElementName targetType=resultElementType/>
+                return ${resultElementName};
+            }
+
+            @Override
+            public void remove() {
+                ${sourceParameter.name}.remove();
+            }
+        };
+    <#elseif lazyView>
+        <#-- the elements are mapped when they are accessed for the first time -->
+        <@includeModel object=resultType/> ${resultName} = new AbstractList<<@includeModel object=resultElementType/>>() {
+
+            private final Object[] mappedElements = new Object[${sourceParameter.name}.size()];
+
+            @Override
+            @SuppressWarnings( "unchecked" )
+            public <@includeModel object=resultElementType/> get(int ${index1Name}) {
+                if ( mappedElements[${index1Name}] == null ) {
+                    <@includeModel object=sourceElementType/> ${loopVariableName} = ${sourceParameter.name}.get( ${index1Name} );
+                    <@includeModel object=elementAssignment targetWriteAccessorName=resultElementName targetType=resultElementType/>
+                    mappedElements[${index1Name}] = ${resultElementName};
+                }
+                return (<@includeModel object=resultElementType/>) mappedElements[${index1Name}];
+            }
+
+            @Override
+            public int size() {
+                return mappedElements.length;
+            }
+        };
+    <#elseif sinkMapping>
+        <#-- the elements are passed on to the sink as they are mapped -->
     <#else>
         <#if existingInstanceMapping>
+            <#if !elementUpdate??>
             ${resultName}.clear();
+            </#if>
         <#else>
             <#-- Use the interface type on the left side, except it is java.lang.Iterable; use the implementation type - if present - on the right side -->
             <@iterableLocalVarDef/> ${resultName} = <@includeModel object=iterableCreation useSizeIfPossible=true/>;
@@ -59,7 +110,9 @@
 
     	</#if>
     </#list>
-    <#if resultType.arrayType>
+    <#if arrayCopy>
+        System.arraycopy( ${sourceParameter.name}, 0, ${resultName}, 0, <#if existingInstanceMapping>Math.min( ${resultName}.length, ${sourceParameter.name}.length )<#else>${sourceParameter.name}.length</#if> );
+    <#elseif resultType.arrayType>
         int ${index1Name} = 0;
         for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
             <#if existingInstanceMapping>
@@ -70,10 +123,28 @@
             <@includeModel object=elementAssignment targetWriteAccessorName=resultName+"[${index1Name}]" targetType=resultElementType isTargetDefined=true/>
             ${index1Name}++;
         }
-    <#else>
+    <#elseif iteratorMapping || lazyView>
+    <#elseif sinkMapping>
         for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
-            <@includeModel object=elementAssignment targetBeanName=resultName targetWriteAccessorName="add" targetType=resultElementType/>
+            <@includeModel object=elementAssignment targetBeanName=resultName targetWriteAccessorName="accept" targetType=resultElementType/>
+        }
+    <#elseif elementUpdate??>
+        <#if elementUpdate.byKey>
+            <@elementUpdateByKey/>
+        <#else>
+            <@elementUpdateByPosition/>
+        </#if>
+    <#elseif parallelMapping??>
+        if ( <@iterableSize/> >= ${parallelMapping.threshold} ) {
+            ${resultName}.addAll( <#if parallelMapping.forkJoinPool??>${parallelMapping.forkJoinPool.name}.submit( () -> </#if>${sourceParameter.name}.parallelStream()
+                .map( <@includeModel object=parallelMapping.elementAssignment targetBeanName=resultName targetType=resultElementType/> )
+                .collect( Collectors.toList() )<#if parallelMapping.forkJoinPool??> ).join()</#if> );
+        }
+        else {
+            <@elementLoop/>
         }
+    <#else>
+        <@elementLoop/>
     </#if>
     <#list afterMappingReferences as callback>
     	<#if callback_index = 0>
@@ -111,4 +182,76 @@
             <@includeModel object=resultType/>
         </#if>
     </@compress>
-</#macro>
\ No newline at end of file
+</#macro>
+<#macro elementLoop>
+    <#if bulkAddition>
+        <#-- each addition would copy all elements of the result, so the mapped elements are added at once -->
+        <#assign elementTypeString><@includeModel object=resultElementType/></#assign>
+        List<${elementTypeString}> ${mappedElementsName} = new ArrayList<${elementTypeString}>(<#if sourceParameter.type.arrayType || sourceParameter.type.collectionType> <@iterableSize/> </#if>);
+        for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
+            <@includeModel object=elementAssignment targetBeanName=mappedElementsName targetWriteAccessorName="add" targetType=resultElementType/>
+        }
+        ${resultName}.addAll( ${mappedElementsName} );
+    <#else>
+    for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
+        <@includeModel object=elementAssignment targetBeanName=resultName targetWriteAccessorName="add" targetType=resultElementType/>
+    }
+    </#if>
+</#macro>
+<#--
+    matches source and target elements by their index; matched target elements are updated, missing ones are created
+    and surplus ones are removed from the end of the target list
+-->
+<#macro elementUpdateByPosition>
+    int ${index1Name} = 0;
+    for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
+        <@includeModel object=resultElementType/> ${resultElementName} = ${index1Name} < ${resultName}.size() ? ${resultName}.get( ${index1Name} ) : null;
+        if ( ${resultElementName} != null<#if !sourceElementType.primitive> && ${loopVariableName} != null</#if> ) {
+            <@includeModel object=elementUpdate.updateAssignment targetBeanName=resultElementName targetType=resultElementType/>
+        }
+        else {
+            <@includeModel object=elementUpdate.creationAssignment targetWriteAccessorName=resultElementName targetType=resultElementType isTargetDefined=true/>
+            if ( ${index1Name} < ${resultName}.size() ) {
+                ${resultName}.set( ${index1Name}, ${resultElementName} );
+            }
+            else {
+                ${resultName}.add( ${resultElementName} );
+            }
+        }
+        ${index1Name}++;
+    }
+    if ( ${index1Name} < ${resultName}.size() ) {
+        ${resultName}.subList( ${index1Name}, ${resultName}.size() ).clear();
+    }
+</#macro>
+<#--
+    matches source and target elements by their key; matched target elements are updated, missing ones are created
+    and appended and the target elements without a matching source element are removed
+-->
+<#macro elementUpdateByKey>
+    <#assign keyAndElementTypes><@includeModel object=elementUpdate.keyType/>, <@includeModel object=resultElementType/></#assign>
+    Map<${keyAndElementTypes}> ${elementsByKeyName} = new HashMap<${keyAndElementTypes}>( Math.max( (int) ( ${resultName}.size() / .75f ) + 1, 16 ) );
+    for ( <@includeModel object=resultElementType/> ${resultElementName} : ${resultName} ) {
+        if ( ${resultElementName} != null ) {
+            ${elementsByKeyName}.put( ${resultElementName}.${elementUpdate.targetKey}, ${resultElementName} );
+        }
+    }
+    for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
+        <@includeModel object=resultElementType/> ${resultElementName} = ${loopVariableName} != null ? ${elementsByKeyName}.remove( ${loopVariableName}.${elementUpdate.sourceKey} ) : null;
+        if ( ${resultElementName} != null ) {
+            <@includeModel object=elementUpdate.updateAssignment targetBeanName=resultElementName targetType=resultElementType/>
+        }
+        else {
+            <@includeModel object=elementUpdate.creationAssignment targetWriteAccessorName=resultElementName targetType=resultElementType isTargetDefined=true/>
+            ${resultName}.add( ${resultElementName} );
+        }
+    }
+    if ( !${elementsByKeyName}.isEmpty() ) {
+        for ( Iterator<<@includeModel object=resultElementType/>> ${targetIteratorName} = ${resultName}.iterator(); ${targetIteratorName}.hasNext(); ) {
+            <@includeModel object=resultElementType/> ${resultElementName} = ${targetIteratorName}.next();
+            if ( ${resultElementName} != null && ${elementsByKeyName}.get( ${resultElementName}.${elementUpdate.targetKey} ) == ${resultElementName} ) {
+                ${targetIteratorName}.remove();
+            }
+        }
+    }
+</#macro>
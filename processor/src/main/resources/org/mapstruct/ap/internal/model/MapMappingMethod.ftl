@@ -27,7 +27,12 @@
         </#if>
     }
 
-    <#if existingInstanceMapping>
+    <#if mergeValues>
+        <#if mappedKeysName??>
+            <#assign keyTypeString><@includeModel object=resultElementTypes[0].typeBound/></#assign>
+            Set<${keyTypeString}> ${mappedKeysName} = new HashSet<${keyTypeString}>( Math.max( (int) ( ${sourceParameter.name}.size() / .75f ) + 1, 16 ) );
+        </#if>
+    <#elseif existingInstanceMapping>
         ${resultName}.clear();
     <#else>
         <@includeModel object=resultType /> ${resultName} = <@includeModel object=iterableCreation useSizeIfPossible=true/>;
@@ -46,11 +51,35 @@
                    targetWriteAccessorName=keyVariableName
                    targetType=resultElementTypes[0].typeBound/>
     <#-- value -->
+    <#if valueUpdateAssignment??>
+        <#-- the value of a key contained in both maps is updated in place -->
+        <@includeModel object=resultElementTypes[1].typeBound/> ${valueVariableName} = ${resultName}.get( ${keyVariableName} );
+        if ( ${valueVariableName} != null && ${entryVariableName}.getValue() != null ) {
+            <@includeModel object=valueUpdateAssignment
+                       targetBeanName=valueVariableName
+                       targetType=resultElementTypes[1].typeBound/>
+        }
+        else {
+            <@includeModel object=valueAssignment
+                       targetWriteAccessorName=valueVariableName
+                       targetType=resultElementTypes[1].typeBound
+                       isTargetDefined=true/>
+            ${resultName}.put( ${keyVariableName}, ${valueVariableName} );
+        }
+    <#else>
         <@includeModel object=valueAssignment
                    targetWriteAccessorName=valueVariableName
                    targetType=resultElementTypes[1].typeBound/>
         ${resultName}.put( ${keyVariableName}, ${valueVariableName} );
+    </#if>
+    <#if mappedKeysName??>
+        ${mappedKeysName}.add( ${keyVariableName} );
+    </#if>
     }
+    <#if removeMissingKeys>
+    <#-- the target entries without a source entry are removed -->
+    ${resultName}.keySet().retainAll( <#if mappedKeysName??>${mappedKeysName}<#else>${sourceParameter.name}.keySet()</#if> );
+    </#if>
     <#list afterMappingReferences as callback>
     	<#if callback_index = 0>
 
@@ -0,0 +1,25 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.MapperCostReport" -->
+{
+    "type": "${qualifiedName}",
+    "freqInlineSize": ${freqInlineSize?c},
+    "hugeMethodLimit": ${hugeMethodLimit?c},
+    "methods": [
+<#list methods as method>
+        {
+            "name": "${method.name}",
+            "estimatedBytecodeSize": ${method.estimatedBytecodeSize?c},
+            "boxingConversions": ${method.boxingConversions?c},
+            "heavyweightAllocations": [<#list method.heavyweightAllocations as allocation>"${allocation}"<#if allocation_has_next>, </#if></#list>],
+            "exceedsFreqInlineSize": ${method.exceedsFreqInlineSize?c},
+            "exceedsHugeMethodLimit": ${method.exceedsHugeMethodLimit?c}
+        }<#if method_has_next>,</#if>
+</#list>
+    ]
+}
@@ -0,0 +1,34 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.MapperRegistry" -->
+<#if packageName?has_content>
+package ${packageName};
+
+</#if>
+<#if generatedTypeName??>
+@${generatedTypeName}(
+    value = "org.mapstruct.ap.MappingProcessor"
+)
+</#if>
+public final class ${name} implements org.mapstruct.factory.MapperRegistry {
+
+    public static final ${name} INSTANCE = new ${name}();
+
+    private ${name}() {
+    }
+
+    @Override
+    public Object getMapper(Class<?> mapperType) {
+<#list entries as entry>
+        if ( mapperType == ${entry.mapperName}.class ) {
+            return new ${entry.implementationName}();
+        }
+</#list>
+        return null;
+    }
+}
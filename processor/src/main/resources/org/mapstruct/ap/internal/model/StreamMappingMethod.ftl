@@ -100,12 +100,16 @@
     <#elseif resultType.iterableType>
         <#if existingInstanceMapping || !canReturnImmediatelly>
             ${resultName}.addAll( ${sourceParameter.name}<@streamMapSupplier />
-                                    .collect( Collectors.toCollection( <@iterableCollectionSupplier /> ) )
+                                    .collect( <#if bulkAddition>Collectors.toList()<#else>Collectors.toCollection( <@iterableCollectionSupplier /> )</#if> )
                                 );
         <#else>
             <@returnLocalVarDefOrUpdate>
                 <#lt>${sourceParameter.name}<@streamMapSupplier />
+                    <#if bulkAddition>
+                    .collect( Collectors.collectingAndThen( Collectors.toList(), <@iterableCollectionSupplier /> ) );
+                    <#else>
                     .collect( Collectors.toCollection( <@iterableCollectionSupplier /> ) );
+                    </#if>
             </@returnLocalVarDefOrUpdate>
 
         </#if>
@@ -117,7 +121,11 @@
             <#if sourceParameter.type.arrayType>
                 <@returnLocalVarDefOrUpdate>Stream.of( ${sourceParameter.name} )<@streamMapSupplier />;</@returnLocalVarDefOrUpdate>
             <#elseif sourceParameter.type.collectionType>
+                <#if parallelThreshold??>
+                <@returnLocalVarDefOrUpdate>( <@iterableSize/> >= ${parallelThreshold} ? ${sourceParameter.name}.parallelStream() : ${sourceParameter.name}.stream() )<@streamMapSupplier />;</@returnLocalVarDefOrUpdate>
+                <#else>
                 <@returnLocalVarDefOrUpdate>${sourceParameter.name}.stream()<@streamMapSupplier />;</@returnLocalVarDefOrUpdate>
+                </#if>
             <#elseif sourceParameter.type.iterableType>
                 <@returnLocalVarDefOrUpdate>StreamSupport.stream( ${sourceParameter.name}.spliterator(), false )<@streamMapSupplier />;</@returnLocalVarDefOrUpdate>
             <#else>
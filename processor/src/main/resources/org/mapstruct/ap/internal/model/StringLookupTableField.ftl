@@ -0,0 +1,17 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingField" -->
+<#assign table = fieldReference>
+<#assign targetTypeName><@includeModel object=table.targetType/></#assign>
+private static final Map<String, ${targetTypeName}> ${variableName} = new HashMap<String, ${targetTypeName}>();
+
+static {
+    <#list table.entries as entry>
+    ${variableName}.put( "${entry.source?j_string}", <#if entry.target??>${targetTypeName}.${entry.target}<#else>null</#if> );
+    </#list>
+}<#rt>
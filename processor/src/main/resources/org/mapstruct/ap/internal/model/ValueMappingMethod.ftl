@@ -20,6 +20,25 @@
 
     <@includeModel object=resultType/> ${resultName};
 
+    <#if lookupTable??>
+    ${resultName} = ${lookupTable.variableName}[${sourceParameter.name}.ordinal()];
+    <#if throwIllegalArgumentException>
+    if ( ${resultName} == null ) {
+        throw new IllegalArgumentException( "Unexpected enum constant: " + ${sourceParameter.name} );
+    }
+    </#if>
+    <#elseif stringLookupTable??>
+    ${resultName} = ${stringLookupTable.variableName}.get( ${sourceParameter.name} );
+    <#if throwIllegalArgumentException || defaultTarget??>
+    if ( ${resultName} == null<#if stringLookupTable.containsNullTargets> && !${stringLookupTable.variableName}.containsKey( ${sourceParameter.name} )</#if> ) {
+        <#if throwIllegalArgumentException>
+        throw new IllegalArgumentException( "Unexpected value: " + ${sourceParameter.name} );
+        <#else>
+        ${resultName} = <@includeModel object=returnType/>.${defaultTarget};
+        </#if>
+    }
+    </#if>
+    <#else>
     switch ( ${sourceParameter.name} ) {
     <#list valueMappings as valueMapping>
         case ${valueMapping.source}: ${resultName} = <#if valueMapping.target??><@includeModel object=returnType/>.${valueMapping.target}<#else>null</#if>;
@@ -27,6 +46,7 @@
     </#list>
     default: <#if throwIllegalArgumentException>throw new IllegalArgumentException( "Unexpected enum constant: " + ${sourceParameter.name} )<#else>${resultName} = <#if defaultTarget??><@includeModel object=returnType/>.${defaultTarget}<#else>null</#if></#if>;
     }
+    </#if>
     <#list beforeMappingReferencesWithMappingTarget as callback>
         <#if callback_index = 0>
 
@@ -9,8 +9,16 @@
 <#import "../macro/CommonMacros.ftl" as lib>
 <@lib.handleExceptions>
   if ( ${sourceReference} != null ) {
+      <#if bulkAddition>
+      List<<@includeModel object=mappedElementType/>> ${mappedElementsName} = new ArrayList<<@includeModel object=mappedElementType/>>( ${sourceReference}.size() );
+      for ( <@includeModel object=adderType.typeBound/> ${sourceLocalVarName} : ${sourceReference} ) {
+          ${mappedElementsName}.add( <@lib.handleAssignment/> );
+      }
+      ${ext.targetBeanName}.${bulkAdderName}( ${mappedElementsName} );
+      <#else>
       for ( <@includeModel object=adderType.typeBound/> ${sourceLocalVarName} : ${sourceReference} ) {
           ${ext.targetBeanName}.${ext.targetWriteAccessorName}<@lib.handleWrite><@lib.handleAssignment/></@lib.handleWrite>;
       }
+      </#if>
   }
 </@lib.handleExceptions>
\ No newline at end of file
@@ -0,0 +1,12 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.assignment.InPlaceUpdateWrapper" -->
+<#import "../macro/CommonMacros.ftl" as lib>
+<@lib.handleExceptions>
+    <@lib.handleAssignment/>;
+</@lib.handleExceptions>
\ No newline at end of file
@@ -24,10 +24,15 @@
   </@lib.handleLocalVarNullCheck>
 </#macro>
 <#--
-  wraps the local variable in a collection initializer (new collection, or EnumSet.copyOf)
+  wraps the local variable in a collection initializer (new collection, or EnumSet.copyOf), in an unmodifiable view,
+  or passes it on as is
 -->
 <#macro wrapLocalVarInCollectionInitializer><@compress single_line=true>
-    <#if enumSet>
+    <#if shareSource>
+      ${nullCheckLocalVarName}
+    <#elseif unmodifiableViewMethodName??>
+      Collections.${unmodifiableViewMethodName}( ${nullCheckLocalVarName} )
+    <#elseif enumSet>
       EnumSet.copyOf( ${nullCheckLocalVarName} )
     <#else>
       new <#if ext.targetType.implementationType??><@includeModel object=ext.targetType.implementationType/><#else><@includeModel object=ext.targetType/></#if>( ${nullCheckLocalVarName} )
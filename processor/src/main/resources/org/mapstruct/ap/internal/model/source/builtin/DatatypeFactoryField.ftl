@@ -0,0 +1,18 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingField" -->
+private static final <@includeModel object=type/> ${variableName};
+
+static {
+    try {
+        ${variableName} = <@includeModel object=type/>.newInstance();
+    }
+    catch ( <@includeModel object=definingMethod.findType("DatatypeConfigurationException")/> ex ) {
+        throw new RuntimeException( ex );
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingMappingMethod" -->
+private <@includeModel object=findType("XMLGregorianCalendar")/> ${name}( <@includeModel object=findType("java.time.LocalTime")/> localTime ) {
+    if ( localTime == null ) {
+        return null;
+    }
+
+    return ${supportingField.variableName}.newXMLGregorianCalendarTime(
+        localTime.getHour(),
+        localTime.getMinute(),
+        localTime.getSecond(),
+        localTime.getNano() / 1000000,
+        <@includeModel object=findType("DatatypeConstants")/>.FIELD_UNDEFINED );
+}
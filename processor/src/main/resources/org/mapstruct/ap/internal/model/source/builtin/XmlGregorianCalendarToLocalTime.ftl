@@ -0,0 +1,38 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingMappingMethod" -->
+private static <@includeModel object=findType("java.time.LocalTime")/> ${name}( <@includeModel object=findType("XMLGregorianCalendar")/> xcal ) {
+    if ( xcal == null ) {
+        return null;
+    }
+
+    if ( xcal.getHour() != <@includeModel object=findType("DatatypeConstants")/>.FIELD_UNDEFINED
+        && xcal.getMinute() != <@includeModel object=findType("DatatypeConstants")/>.FIELD_UNDEFINED
+        ) {
+            if ( xcal.getSecond() != <@includeModel object=findType("DatatypeConstants")/>.FIELD_UNDEFINED
+                && xcal.getMillisecond() != <@includeModel object=findType("DatatypeConstants")/>.FIELD_UNDEFINED ) {
+                return <@includeModel object=findType("java.time.LocalTime")/>.of( xcal.getHour(),
+                    xcal.getMinute(),
+                    xcal.getSecond(),
+                    xcal.getMillisecond() * 1000000
+                );
+            }
+            else if ( xcal.getSecond() != <@includeModel object=findType("DatatypeConstants")/>.FIELD_UNDEFINED ) {
+                return <@includeModel object=findType("java.time.LocalTime")/>.of( xcal.getHour(),
+                    xcal.getMinute(),
+                    xcal.getSecond()
+                );
+            }
+            else {
+                return <@includeModel object=findType("java.time.LocalTime")/>.of( xcal.getHour(),
+                    xcal.getMinute()
+                );
+            }
+        }
+    return null;
+}
@@ -0,0 +1,33 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingMappingMethod" -->
+private static <@includeModel object=findType("ZonedDateTime")/> ${name}( <@includeModel object=findType("XMLGregorianCalendar")/> xcal ) {
+    if ( xcal == null ) {
+        return null;
+    }
+
+    if ( xcal.getYear() == <@includeModel object=findType("DatatypeConstants")/>.FIELD_UNDEFINED
+        || xcal.getMonth() == <@includeModel object=findType("DatatypeConstants")/>.FIELD_UNDEFINED
+        || xcal.getDay() == <@includeModel object=findType("DatatypeConstants")/>.FIELD_UNDEFINED ) {
+        return null;
+    }
+
+    <@includeModel object=findType("ZoneId")/> zone = xcal.getTimezone() == <@includeModel object=findType("DatatypeConstants")/>.FIELD_UNDEFINED
+        ? <@includeModel object=findType("ZoneId")/>.systemDefault()
+        : <@includeModel object=findType("ZoneOffset")/>.ofTotalSeconds( xcal.getTimezone() * 60 );
+
+    return <@includeModel object=findType("ZonedDateTime")/>.of(
+        xcal.getYear(),
+        xcal.getMonth(),
+        xcal.getDay(),
+        xcal.getHour() == <@includeModel object=findType("DatatypeConstants")/>.FIELD_UNDEFINED ? 0 : xcal.getHour(),
+        xcal.getMinute() == <@includeModel object=findType("DatatypeConstants")/>.FIELD_UNDEFINED ? 0 : xcal.getMinute(),
+        xcal.getSecond() == <@includeModel object=findType("DatatypeConstants")/>.FIELD_UNDEFINED ? 0 : xcal.getSecond(),
+        xcal.getMillisecond() == <@includeModel object=findType("DatatypeConstants")/>.FIELD_UNDEFINED ? 0 : xcal.getMillisecond() * 1000000,
+        zone );
+}
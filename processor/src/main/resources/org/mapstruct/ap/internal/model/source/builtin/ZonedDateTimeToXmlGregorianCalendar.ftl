@@ -11,5 +11,13 @@ private <@includeModel object=findType("XMLGregorianCalendar")/> ${name}( <@incl
         return null;
     }
 
-    return ${supportingField.variableName}.newXMLGregorianCalendar( <@includeModel object=findType("GregorianCalendar")/>.from( zdt ) );
+    return ${supportingField.variableName}.newXMLGregorianCalendar(
+        zdt.getYear(),
+        zdt.getMonthValue(),
+        zdt.getDayOfMonth(),
+        zdt.getHour(),
+        zdt.getMinute(),
+        zdt.getSecond(),
+        zdt.getNano() / 1000000,
+        zdt.getOffset().getTotalSeconds() / 60 );
 }
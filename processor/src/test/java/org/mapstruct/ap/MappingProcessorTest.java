@@ -0,0 +1,139 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.Test;
+
+public class MappingProcessorTest {
+
+    @Test
+    public void shouldAcceptNumericOptions() {
+        ProcessingEnvironmentStub processingEnv = new ProcessingEnvironmentStub();
+        processingEnv.options.put( MappingProcessor.ENUM_LOOKUP_TABLE_THRESHOLD, "4" );
+        processingEnv.options.put( MappingProcessor.MAPPING_METHOD_SIZE_LIMIT, " 200 " );
+
+        new MappingProcessor().init( processingEnv );
+
+        assertThat( processingEnv.messages ).isEmpty();
+    }
+
+    @Test
+    public void shouldReportNumericOptionsWhichAreNotNumbers() {
+        ProcessingEnvironmentStub processingEnv = new ProcessingEnvironmentStub();
+        processingEnv.options.put( MappingProcessor.ENUM_LOOKUP_TABLE_THRESHOLD, "four" );
+        processingEnv.options.put( MappingProcessor.MAPPING_METHOD_SIZE_LIMIT, "" );
+
+        new MappingProcessor().init( processingEnv );
+
+        assertThat( processingEnv.messages ).containsOnly(
+            "ERROR: The value \"four\" of the processor option mapstruct.enumLookupTableThreshold is not a number.",
+            "ERROR: The value \"\" of the processor option mapstruct.mappingMethodSizeLimit is not a number."
+        );
+    }
+
+    @Test
+    public void shouldBeIsolatingProcessorByDefault() {
+        MappingProcessor processor = new MappingProcessor();
+        processor.init( new ProcessingEnvironmentStub() );
+
+        assertThat( processor.getSupportedOptions() )
+            .contains( "org.gradle.annotation.processing.isolating" )
+            .doesNotContain( "org.gradle.annotation.processing.aggregating" );
+    }
+
+    @Test
+    public void shouldBeAggregatingProcessorIfMapperRegistriesAreGenerated() {
+        ProcessingEnvironmentStub processingEnv = new ProcessingEnvironmentStub();
+        processingEnv.options.put( MappingProcessor.GENERATE_MAPPER_REGISTRY, "true" );
+
+        MappingProcessor processor = new MappingProcessor();
+        processor.init( processingEnv );
+
+        assertThat( processor.getSupportedOptions() )
+            .contains( "org.gradle.annotation.processing.aggregating" )
+            .doesNotContain( "org.gradle.annotation.processing.isolating" );
+    }
+
+    private static class ProcessingEnvironmentStub implements ProcessingEnvironment, Messager {
+
+        private final Map<String, String> options = new HashMap<>();
+        private final List<String> messages = new ArrayList<>();
+
+        @Override
+        public Map<String, String> getOptions() {
+            return options;
+        }
+
+        @Override
+        public Messager getMessager() {
+            return this;
+        }
+
+        @Override
+        public Filer getFiler() {
+            return null;
+        }
+
+        @Override
+        public Elements getElementUtils() {
+            return null;
+        }
+
+        @Override
+        public Types getTypeUtils() {
+            return null;
+        }
+
+        @Override
+        public SourceVersion getSourceVersion() {
+            return SourceVersion.RELEASE_8;
+        }
+
+        @Override
+        public Locale getLocale() {
+            return Locale.getDefault();
+        }
+
+        @Override
+        public void printMessage(Kind kind, CharSequence msg) {
+            messages.add( kind + ": " + msg );
+        }
+
+        @Override
+        public void printMessage(Kind kind, CharSequence msg, Element e) {
+            printMessage( kind, msg );
+        }
+
+        @Override
+        public void printMessage(Kind kind, CharSequence msg, Element e, AnnotationMirror a) {
+            printMessage( kind, msg );
+        }
+
+        @Override
+        public void printMessage(Kind kind, CharSequence msg, Element e, AnnotationMirror a, AnnotationValue v) {
+            printMessage( kind, msg );
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class LookupMemoTest {
+
+    @Test
+    public void shouldCarryOutLookupOncePerArguments() {
+        LookupMemo<String> memo = new LookupMemo<>( "concat" );
+        AtomicInteger lookups = new AtomicInteger();
+        Object first = new Object();
+        Object second = new Object();
+
+        for ( int i = 0; i < 3; i++ ) {
+            assertThat( memo.get( first, second, () -> "result" + lookups.incrementAndGet() ) ).isEqualTo( "result1" );
+        }
+        assertThat( memo.get( second, first, () -> "result" + lookups.incrementAndGet() ) ).isEqualTo( "result2" );
+
+        assertThat( memo.getLookups() ).isEqualTo( 4 );
+        assertThat( memo.getHits() ).isEqualTo( 2 );
+        assertThat( memo ).hasToString( "concat: 4 lookups, 2 hits (50%)" );
+    }
+
+    @Test
+    public void shouldMemoizeNullResults() {
+        LookupMemo<String> memo = new LookupMemo<>( "none" );
+        AtomicInteger lookups = new AtomicInteger();
+        Object argument = new Object();
+
+        assertThat( memo.get( argument, null, () -> lookups.incrementAndGet() > 1 ? "result" : null ) ).isNull();
+        assertThat( memo.get( argument, null, () -> lookups.incrementAndGet() > 1 ? "result" : null ) ).isNull();
+
+        assertThat( lookups.get() ).isEqualTo( 1 );
+        assertThat( memo.getHits() ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void shouldCompareArgumentsByIdentity() {
+        LookupMemo<Integer> memo = new LookupMemo<>( "length" );
+
+        assertThat( memo.get( new String( "equal" ), null, () -> 1 ) ).isEqualTo( 1 );
+        assertThat( memo.get( new String( "equal" ), null, () -> 2 ) ).isEqualTo( 2 );
+
+        assertThat( memo.getHits() ).isZero();
+    }
+}
@@ -138,6 +138,26 @@ public void shouldMapTargetToNullWhenNullSource() {
         assertThat( existingTarget ).extracting( "name" ).containsOnly( "Jim" );
     }
 
+    @Test
+    public void shouldCopyPrimitiveArray() {
+        boolean[] source = new boolean[]{ true, false, true };
+
+        boolean[] target = ScienceMapper.INSTANCE.nvmMapping( source );
+
+        assertThat( target ).isNotSameAs( source );
+        assertThat( target ).containsExactly( true, false, true );
+    }
+
+    @Test
+    public void shouldCopyPrimitiveArrayIntoExistingTargetOfDifferentSize() {
+        int[] smallerTarget = new int[]{ 5 };
+        int[] largerTarget = new int[]{ 5, 5, 5, 5 };
+
+        assertThat( ScienceMapper.INSTANCE.nvmMapping( new int[]{ 1, 2, 3 }, smallerTarget ) ).containsExactly( 1 );
+        assertThat( ScienceMapper.INSTANCE.nvmMapping( new int[]{ 1, 2, 3 }, largerTarget ) )
+            .containsExactly( 1, 2, 3, 5 );
+    }
+
     @IssueKey("534")
     @Test
     public void shouldMapbooleanWhenReturnDefault() {
@@ -0,0 +1,93 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.builtin.java8time;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import javax.xml.datatype.DatatypeConstants;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.test.builtin.java8time.bean.Java8TimeBean;
+import org.mapstruct.ap.test.builtin.java8time.bean.XmlGregorianCalendarsBean;
+import org.mapstruct.ap.test.builtin.java8time.mapper.Java8TimeToXmlGregorianCalendarMapper;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Java8TimeBean.class,
+    XmlGregorianCalendarsBean.class,
+    Java8TimeToXmlGregorianCalendarMapper.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class Java8TimeXmlGregorianCalendarTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldMapJava8TimeToXmlGregorianCalendar() {
+        Java8TimeBean source = new Java8TimeBean();
+        source.setZonedDateTime( ZonedDateTime.of( 2010, 1, 15, 1, 2, 3, 100000000, ZoneOffset.ofHours( -1 ) ) );
+        source.setLocalDateTime( LocalDateTime.of( 2010, 1, 15, 1, 2, 3, 100000000 ) );
+        source.setLocalTime( LocalTime.of( 1, 2, 3, 100000000 ) );
+
+        XmlGregorianCalendarsBean target =
+            Java8TimeToXmlGregorianCalendarMapper.INSTANCE.toXmlGregorianCalendars( source );
+
+        assertThat( target.getZonedDateTime().toXMLFormat() ).isEqualTo( "2010-01-15T01:02:03.100-01:00" );
+        assertThat( target.getLocalDateTime().toXMLFormat() ).isEqualTo( "2010-01-15T01:02:03.100" );
+        assertThat( target.getLocalTime().toXMLFormat() ).isEqualTo( "01:02:03.100" );
+        assertThat( target.getLocalDateTime().getTimezone() ).isEqualTo( DatatypeConstants.FIELD_UNDEFINED );
+    }
+
+    @Test
+    public void shouldMapXmlGregorianCalendarToJava8Time() throws Exception {
+        DatatypeFactory datatypeFactory = DatatypeFactory.newInstance();
+        XmlGregorianCalendarsBean source = new XmlGregorianCalendarsBean();
+        source.setZonedDateTime( datatypeFactory.newXMLGregorianCalendar( "2010-01-15T01:02:03.100-01:00" ) );
+        source.setLocalDateTime( datatypeFactory.newXMLGregorianCalendar( "2010-01-15T01:02:03.100" ) );
+        source.setLocalTime( datatypeFactory.newXMLGregorianCalendar( "01:02:03" ) );
+
+        Java8TimeBean target = Java8TimeToXmlGregorianCalendarMapper.INSTANCE.fromXmlGregorianCalendars( source );
+
+        assertThat( target.getZonedDateTime() )
+            .isEqualTo( ZonedDateTime.of( 2010, 1, 15, 1, 2, 3, 100000000, ZoneOffset.ofHours( -1 ) ) );
+        assertThat( target.getLocalDateTime() ).isEqualTo( LocalDateTime.of( 2010, 1, 15, 1, 2, 3, 100000000 ) );
+        assertThat( target.getLocalTime() ).isEqualTo( LocalTime.of( 1, 2, 3 ) );
+    }
+
+    @Test
+    public void shouldNotMapIncompleteXmlGregorianCalendarToLocalDateTime() throws Exception {
+        XMLGregorianCalendar dateOnly = DatatypeFactory.newInstance().newXMLGregorianCalendar( "2010-01-15" );
+        XmlGregorianCalendarsBean source = new XmlGregorianCalendarsBean();
+        source.setLocalDateTime( dateOnly );
+        source.setZonedDateTime( dateOnly );
+
+        Java8TimeBean target = Java8TimeToXmlGregorianCalendarMapper.INSTANCE.fromXmlGregorianCalendars( source );
+
+        assertThat( target.getLocalDateTime() ).isNull();
+        assertThat( target.getZonedDateTime().toLocalDateTime() ).isEqualTo( LocalDateTime.of( 2010, 1, 15, 0, 0 ) );
+    }
+
+    @Test
+    public void shouldShareOneDatatypeFactoryAndAvoidGregorianCalendar() {
+        generatedSource.forMapper( Java8TimeToXmlGregorianCalendarMapper.class )
+            .content()
+            .containsOnlyOnce( "DatatypeFactory.newInstance()" )
+            .contains( "private static final DatatypeFactory DATATYPE_FACTORY;" )
+            .doesNotContain( "GregorianCalendar.from" )
+            .doesNotContain( "new GregorianCalendar" );
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.builtin.java8time.bean;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+public class XmlGregorianCalendarsBean {
+
+    private XMLGregorianCalendar zonedDateTime;
+    private XMLGregorianCalendar localDateTime;
+    private XMLGregorianCalendar localTime;
+
+    public XMLGregorianCalendar getZonedDateTime() {
+        return zonedDateTime;
+    }
+
+    public void setZonedDateTime(XMLGregorianCalendar zonedDateTime) {
+        this.zonedDateTime = zonedDateTime;
+    }
+
+    public XMLGregorianCalendar getLocalDateTime() {
+        return localDateTime;
+    }
+
+    public void setLocalDateTime(XMLGregorianCalendar localDateTime) {
+        this.localDateTime = localDateTime;
+    }
+
+    public XMLGregorianCalendar getLocalTime() {
+        return localTime;
+    }
+
+    public void setLocalTime(XMLGregorianCalendar localTime) {
+        this.localTime = localTime;
+    }
+}
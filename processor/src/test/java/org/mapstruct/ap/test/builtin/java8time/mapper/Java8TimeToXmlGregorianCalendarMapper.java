@@ -0,0 +1,20 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.builtin.java8time.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.ap.test.builtin.java8time.bean.Java8TimeBean;
+import org.mapstruct.ap.test.builtin.java8time.bean.XmlGregorianCalendarsBean;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface Java8TimeToXmlGregorianCalendarMapper {
+    Java8TimeToXmlGregorianCalendarMapper INSTANCE = Mappers.getMapper( Java8TimeToXmlGregorianCalendarMapper.class );
+
+    XmlGregorianCalendarsBean toXmlGregorianCalendars(Java8TimeBean source);
+
+    Java8TimeBean fromXmlGregorianCalendars(XmlGregorianCalendarsBean source);
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.bulkadder;
+
+import org.mapstruct.CollectionMappingStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(collectionMappingStrategy = CollectionMappingStrategy.ADDER_PREFERRED)
+public interface BulkAdderMapper {
+
+    BulkAdderMapper INSTANCE = Mappers.getMapper( BulkAdderMapper.class );
+
+    @Mapping(target = "itemsList", source = "items")
+    Target toTarget(Source source);
+
+    TargetItem toTargetItem(SourceItem item);
+}
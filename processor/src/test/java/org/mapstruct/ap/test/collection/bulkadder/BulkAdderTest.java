@@ -0,0 +1,64 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.bulkadder;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Source.class,
+    SourceItem.class,
+    Target.class,
+    TargetItem.class,
+    BulkAdderMapper.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class BulkAdderTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldAddMappedElementsViaBulkAdder() {
+        Source source = new Source();
+        source.setItems( Arrays.asList( new SourceItem( "first" ), new SourceItem( "second" ) ) );
+        source.setTags( new LinkedHashSet<>( Arrays.asList( "new", "sale" ) ) );
+
+        Target target = BulkAdderMapper.INSTANCE.toTarget( source );
+
+        assertThat( target.getItemsList() ).extracting( TargetItem::getName ).containsExactly( "first", "second" );
+        assertThat( target.getTags() ).containsExactly( "new", "sale" );
+        assertThat( target.bulkAdditions() ).isEqualTo( 2 );
+        assertThat( target.additions() ).isZero();
+
+        generatedSource.forMapper( BulkAdderMapper.class )
+            .content()
+            .contains( "List<TargetItem> mappedItemsList = new ArrayList<TargetItem>( source.getItems().size() );" )
+            .contains( "target.addAllItems( mappedItemsList );" )
+            .contains( "target.addAllTags( mappedTags );" );
+    }
+
+    @Test
+    public void shouldFallBackToAdderWithoutBulkAdder() {
+        Source source = new Source();
+        source.setNotes( Arrays.asList( "fragile", "urgent" ) );
+
+        Target target = BulkAdderMapper.INSTANCE.toTarget( source );
+
+        assertThat( target.getNotes() ).containsExactly( "fragile", "urgent" );
+        assertThat( target.additions() ).isEqualTo( 2 );
+        assertThat( target.bulkAdditions() ).isZero();
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.bulkadder;
+
+import java.util.List;
+import java.util.Set;
+
+public class Source {
+
+    private List<SourceItem> items;
+    private Set<String> tags;
+    private List<String> notes;
+
+    public List<SourceItem> getItems() {
+        return items;
+    }
+
+    public void setItems(List<SourceItem> items) {
+        this.items = items;
+    }
+
+    public Set<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(Set<String> tags) {
+        this.tags = tags;
+    }
+
+    public List<String> getNotes() {
+        return notes;
+    }
+
+    public void setNotes(List<String> notes) {
+        this.notes = notes;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.bulkadder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Exposes the items the way protocol buffers builders expose repeated fields, and the tags and notes JavaBeans style.
+ */
+public class Target {
+
+    private final List<TargetItem> items = new ArrayList<>();
+    private final List<String> tags = new ArrayList<>();
+    private final List<String> notes = new ArrayList<>();
+    private int additions;
+    private int bulkAdditions;
+
+    public List<TargetItem> getItemsList() {
+        return Collections.unmodifiableList( items );
+    }
+
+    public Target addItems(TargetItem item) {
+        additions++;
+        items.add( item );
+        return this;
+    }
+
+    public Target addAllItems(Iterable<? extends TargetItem> items) {
+        bulkAdditions++;
+        for ( TargetItem item : items ) {
+            this.items.add( item );
+        }
+        return this;
+    }
+
+    public List<String> getTags() {
+        return Collections.unmodifiableList( tags );
+    }
+
+    public void addTag(String tag) {
+        additions++;
+        tags.add( tag );
+    }
+
+    public void addAllTags(Collection<String> tags) {
+        bulkAdditions++;
+        this.tags.addAll( tags );
+    }
+
+    public List<String> getNotes() {
+        return Collections.unmodifiableList( notes );
+    }
+
+    public void addNote(String note) {
+        additions++;
+        notes.add( note );
+    }
+
+    public int additions() {
+        return additions;
+    }
+
+    public int bulkAdditions() {
+        return bulkAdditions;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.copyonwrite;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Test for mapping into copy-on-write collections, to which the mapped elements are added at once.
+ */
+@WithClasses({ SourceElement.class, TargetElement.class, CopyOnWriteMapper.class })
+@RunWith(AnnotationProcessorTestRunner.class)
+public class CopyOnWriteCollectionMappingTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldAddMappedElementsAtOnce() {
+        CopyOnWriteArrayList<TargetElement> targets = CopyOnWriteMapper.INSTANCE.toList(
+            Arrays.asList( new SourceElement( "a" ), new SourceElement( "b" ) )
+        );
+
+        assertThat( targets ).extracting( "name" ).containsExactly( "a", "b" );
+
+        generatedSource.forMapper( CopyOnWriteMapper.class )
+            .content()
+            .contains( "List<TargetElement> mappedElements = new ArrayList<TargetElement>( sources.size() );" )
+            .contains( "copyOnWriteArrayList.addAll( mappedElements );" )
+            .doesNotContain( "copyOnWriteArrayList.add( toTarget( sourceElement ) );" );
+    }
+
+    @Test
+    public void shouldMapIterableToSet() {
+        CopyOnWriteArraySet<TargetElement> targets = CopyOnWriteMapper.INSTANCE.toSet(
+            Arrays.asList( new SourceElement( "a" ), new SourceElement( "b" ) )
+        );
+
+        assertThat( targets ).extracting( "name" ).containsExactly( "a", "b" );
+    }
+
+    @Test
+    public void shouldReplaceElementsOfExistingList() {
+        CopyOnWriteArrayList<TargetElement> targets = new CopyOnWriteArrayList<>();
+        targets.add( new TargetElement( "old" ) );
+
+        CopyOnWriteMapper.INSTANCE.updateList(
+            new SourceElement[] { new SourceElement( "a" ), new SourceElement( "b" ) },
+            targets
+        );
+
+        assertThat( targets ).extracting( "name" ).containsExactly( "a", "b" );
+    }
+
+    @Test
+    public void shouldCollectStreamIntoList() {
+        CopyOnWriteArrayList<TargetElement> targets = CopyOnWriteMapper.INSTANCE.streamToList(
+            Stream.of( new SourceElement( "a" ), new SourceElement( "b" ) )
+        );
+
+        assertThat( targets ).extracting( "name" ).containsExactly( "a", "b" );
+
+        CopyOnWriteMapper.INSTANCE.updateListFromStream( Stream.of( new SourceElement( "c" ) ), targets );
+
+        assertThat( targets ).extracting( "name" ).containsExactly( "c" );
+
+        generatedSource.forMapper( CopyOnWriteMapper.class )
+            .content()
+            .contains(
+                "Collectors.collectingAndThen( Collectors.toList(), CopyOnWriteArrayList<TargetElement>::new )"
+            );
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.copyonwrite;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.stream.Stream;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface CopyOnWriteMapper {
+
+    CopyOnWriteMapper INSTANCE = Mappers.getMapper( CopyOnWriteMapper.class );
+
+    CopyOnWriteArrayList<TargetElement> toList(List<SourceElement> sources);
+
+    CopyOnWriteArraySet<TargetElement> toSet(Iterable<SourceElement> sources);
+
+    void updateList(SourceElement[] sources, @MappingTarget CopyOnWriteArrayList<TargetElement> targets);
+
+    CopyOnWriteArrayList<TargetElement> streamToList(Stream<SourceElement> sources);
+
+    void updateListFromStream(Stream<SourceElement> sources,
+        @MappingTarget CopyOnWriteArrayList<TargetElement> targets);
+
+    TargetElement toTarget(SourceElement source);
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.copystrategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.spi.BuilderProvider;
+import org.mapstruct.ap.spi.NoOpBuilderProvider;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.WithServiceImplementation;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WithClasses({
+    Source.class,
+    Target.class,
+    CopyingMapper.class,
+    SharingConfig.class,
+    SharingMapper.class,
+    UnmodifiableViewMapper.class
+})
+// Guava's immutable collections would otherwise be considered as types with builders
+@WithServiceImplementation(provides = BuilderProvider.class, value = NoOpBuilderProvider.class)
+@RunWith(AnnotationProcessorTestRunner.class)
+public class CollectionCopyStrategyTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    private Source source;
+
+    @Before
+    public void setUp() {
+        source = new Source();
+        source.setNames( new ArrayList<>( Arrays.asList( "Bob", "Alice" ) ) );
+        source.setScores( new HashMap<>( Collections.singletonMap( "Bob", 42 ) ) );
+        source.setTags( ImmutableList.of( "new" ) );
+        source.setIds( new LinkedHashSet<>( Arrays.asList( 1L, 2L ) ) );
+        source.setCodes( new String[] { "A", "B" } );
+    }
+
+    @Test
+    public void shouldCopyByDefault() {
+        Target target = CopyingMapper.INSTANCE.toTarget( source );
+
+        assertThat( target.getNames() ).isSameAs( source.getNames() );
+        assertThat( target.getScores() ).isNotSameAs( source.getScores() ).isEqualTo( source.getScores() );
+        assertThat( target.getTags() ).isNotSameAs( source.getTags() ).containsExactly( "new" );
+        assertThat( target.getIds() ).containsExactly( 1L, 2L );
+        assertThat( target.getCodes() ).isNotSameAs( source.getCodes() ).containsExactly( "A", "B" );
+    }
+
+    @Test
+    public void shouldShareCollectionsAndArrays() {
+        Target target = SharingMapper.INSTANCE.toTarget( source );
+
+        assertThat( target.getNames() ).isSameAs( source.getNames() );
+        assertThat( target.getScores() ).isSameAs( source.getScores() );
+        assertThat( target.getTags() ).isSameAs( source.getTags() );
+        assertThat( target.getIds() ).containsExactly( 1L, 2L );
+        assertThat( target.getCodes() ).isSameAs( source.getCodes() );
+
+        generatedSource.forMapper( SharingMapper.class )
+            .content()
+            .contains( "target.setNames( list );" )
+            .contains( "target.setIds( new ArrayList<Long>( set ) );" );
+    }
+
+    @Test
+    public void shouldPassOnUnmodifiableViews() {
+        Target target = UnmodifiableViewMapper.INSTANCE.toTarget( source );
+
+        assertThat( target.getNames() ).containsExactly( "Bob", "Alice" );
+        source.getNames().add( "Carol" );
+        assertThat( target.getNames() ).containsExactly( "Bob", "Alice", "Carol" );
+        assertThat( target.getScores() ).isNotSameAs( source.getScores() ).isEqualTo( source.getScores() );
+        assertThat( target.getTags() ).isSameAs( source.getTags() );
+        assertThat( target.getCodes() ).isNotSameAs( source.getCodes() ).containsExactly( "A", "B" );
+
+        generatedSource.forMapper( UnmodifiableViewMapper.class )
+            .content()
+            .contains( "target.setNames( Collections.unmodifiableList( list ) );" );
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotModifySourceViaUnmodifiableView() {
+        Target target = UnmodifiableViewMapper.INSTANCE.toTarget( source );
+
+        target.getNames().add( "Carol" );
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.copystrategy;
+
+import org.mapstruct.CollectionCopyStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface CopyingMapper {
+
+    CopyingMapper INSTANCE = Mappers.getMapper( CopyingMapper.class );
+
+    @Mapping(target = "names", collectionCopyStrategy = CollectionCopyStrategy.SHARE)
+    Target toTarget(Source source);
+}
@@ -71,8 +71,9 @@ public void shouldFailToGenerateImplementationBetweenCollectionAndPrimitive() {
             @Diagnostic(type = EmptyItererableMappingMapper.class,
                 kind = Kind.ERROR,
                 line = 22,
-                messageRegExp = "'nullValueMappingStrategy','dateformat', 'qualifiedBy' and 'elementTargetType' are "
-                    + "undefined in @IterableMapping, define at least one of them.")
+                messageRegExp = "'nullValueMappingStrategy','dateformat', 'qualifiedBy', 'elementTargetType', "
+                    + "'parallelThreshold', 'lazy', 'elementUpdateStrategy' and 'elementKey' are undefined in "
+                    + "@IterableMapping, define at least one of them.")
         }
     )
     public void shouldFailOnEmptyIterableAnnotation() {
@@ -88,8 +89,8 @@ public void shouldFailOnEmptyIterableAnnotation() {
                 kind = Kind.ERROR,
                 line = 22,
                 messageRegExp = "'nullValueMappingStrategy', 'keyDateFormat', 'keyQualifiedBy', 'keyTargetType', "
-                    + "'valueDateFormat', 'valueQualfiedBy' and 'valueTargetType' are all undefined in @MapMapping, "
-                    + "define at least one of them.")
+                    + "'valueDateFormat', 'valueQualfiedBy', 'valueTargetType', 'valueUpdateStrategy' and "
+                    + "'removeMissingKeys' are all undefined in @MapMapping, define at least one of them.")
         }
     )
     public void shouldFailOnEmptyMapAnnotation() {
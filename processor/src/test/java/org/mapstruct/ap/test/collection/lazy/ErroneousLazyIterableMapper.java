@@ -0,0 +1,21 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.lazy;
+
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface ErroneousLazyIterableMapper {
+
+    @IterableMapping(lazy = true)
+    Set<TargetElement> toTargets(List<SourceElement> sources);
+
+    TargetElement toTarget(SourceElement source);
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.lazy;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.NullValueMappingStrategy;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface LazyIterableMapper {
+
+    LazyIterableMapper INSTANCE = Mappers.getMapper( LazyIterableMapper.class );
+
+    @IterableMapping(lazy = true)
+    List<TargetElement> toTargets(List<SourceElement> sources);
+
+    @IterableMapping(lazy = true, nullValueMappingStrategy = NullValueMappingStrategy.RETURN_DEFAULT)
+    Collection<String> toStrings(List<Integer> integers);
+
+    TargetElement toTarget(SourceElement source);
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.lazy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Test for mapping methods returning a view which maps the source elements when they are accessed, as configured via
+ * {@code IterableMapping#lazy()}.
+ */
+@WithClasses({ SourceElement.class, TargetElement.class })
+@RunWith(AnnotationProcessorTestRunner.class)
+public class LazyIterableMappingTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Before
+    public void resetInstances() {
+        TargetElement.resetInstances();
+    }
+
+    @Test
+    @WithClasses(LazyIterableMapper.class)
+    public void shouldMapOnlyAccessedElements() {
+        List<SourceElement> sources = new ArrayList<>( Arrays.asList( source( "a" ), source( "b" ), source( "c" ) ) );
+
+        List<TargetElement> targets = LazyIterableMapper.INSTANCE.toTargets( sources );
+
+        assertThat( targets ).hasSize( 3 );
+        assertThat( TargetElement.getInstances() ).isZero();
+
+        assertThat( targets.get( 1 ).getName() ).isEqualTo( "b" );
+        assertThat( targets.get( 1 ) ).isSameAs( targets.get( 1 ) );
+        assertThat( TargetElement.getInstances() ).isEqualTo( 1 );
+
+        assertThat( targets ).extracting( "name" ).containsExactly( "a", "b", "c" );
+        assertThat( TargetElement.getInstances() ).isEqualTo( 3 );
+
+        generatedSource.forMapper( LazyIterableMapper.class )
+            .content()
+            .contains( "List<TargetElement> list = new AbstractList<TargetElement>() {" )
+            .contains( "public List<TargetElement> toTargets(final List<SourceElement> sources)" )
+            .contains( "private final Object[] mappedElements = new Object[sources.size()];" );
+    }
+
+    @Test
+    @WithClasses(LazyIterableMapper.class)
+    public void shouldKeepSizeOfSourceAtMappingTime() {
+        List<SourceElement> sources = new ArrayList<>( Arrays.asList( source( "a" ) ) );
+
+        List<TargetElement> targets = LazyIterableMapper.INSTANCE.toTargets( sources );
+        sources.add( source( "b" ) );
+
+        assertThat( targets ).hasSize( 1 );
+        assertThat( LazyIterableMapper.INSTANCE.toTargets( null ) ).isNull();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    @WithClasses(LazyIterableMapper.class)
+    public void shouldReturnUnmodifiableView() {
+        LazyIterableMapper.INSTANCE.toTargets( Arrays.asList( source( "a" ) ) ).add( new TargetElement() );
+    }
+
+    @Test
+    @WithClasses(LazyIterableMapper.class)
+    public void shouldConvertElementsLazily() {
+        Collection<String> strings = LazyIterableMapper.INSTANCE.toStrings( Arrays.asList( 1, 2 ) );
+
+        assertThat( strings ).containsExactly( "1", "2" );
+        assertThat( LazyIterableMapper.INSTANCE.toStrings( null ) ).isEmpty();
+    }
+
+    @Test
+    @WithClasses(ErroneousLazyIterableMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.SUCCEEDED,
+        diagnostics = @Diagnostic(type = ErroneousLazyIterableMapper.class,
+            kind = Kind.WARNING,
+            line = 18,
+            messageRegExp = "Lazy mapping is only supported for methods mapping a List to a List, Collection or "
+                + "Iterable\\. The elements will be mapped eagerly\\."))
+    public void shouldWarnAndMapEagerlyIfTargetIsNoList() {
+        generatedSource.forMapper( ErroneousLazyIterableMapper.class )
+            .content()
+            .doesNotContain( "AbstractList" );
+    }
+
+    private static SourceElement source(String name) {
+        SourceElement source = new SourceElement();
+        source.setName( name );
+        return source;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.mapmerge;
+
+import java.util.Map;
+
+import org.mapstruct.ElementUpdateStrategy;
+import org.mapstruct.MapMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+
+@Mapper
+public interface ErroneousQuoteMapper {
+
+    @MapMapping(valueUpdateStrategy = ElementUpdateStrategy.UPDATE_BY_KEY)
+    Map<String, Quote> toQuotes(Map<String, QuoteDto> dtos);
+
+    @MapMapping(valueUpdateStrategy = ElementUpdateStrategy.UPDATE_BY_POSITION)
+    void mergeQuotesByPosition(Map<String, QuoteDto> dtos, @MappingTarget Map<String, Quote> quotes);
+
+    Quote toQuote(QuoteDto dto);
+
+    void updateQuote(QuoteDto dto, @MappingTarget Quote quote);
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.mapmerge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Test for merging the entries of a source map into an existing target map by key, as configured via
+ * {@code MapMapping#valueUpdateStrategy()}.
+ */
+@WithClasses({ QuoteDto.class, Quote.class })
+@RunWith(AnnotationProcessorTestRunner.class)
+public class MapMergeTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @WithClasses(QuoteMapper.class)
+    public void shouldUpdateValuesOfExistingKeysInPlace() {
+        Quote eur = new Quote( 1L );
+        Quote usd = new Quote( 2L );
+        Map<String, Quote> quotes = new HashMap<>();
+        quotes.put( "EUR", eur );
+        quotes.put( "USD", usd );
+
+        Map<String, QuoteDto> dtos = new HashMap<>();
+        dtos.put( "EUR", new QuoteDto( 10L ) );
+        dtos.put( "CHF", new QuoteDto( 30L ) );
+
+        QuoteMapper.INSTANCE.mergeQuotes( dtos, quotes );
+
+        assertThat( quotes ).containsOnlyKeys( "EUR", "CHF" );
+        assertThat( quotes.get( "EUR" ) ).isSameAs( eur );
+        assertThat( eur.getAmount() ).isEqualTo( 10L );
+        assertThat( quotes.get( "CHF" ).getAmount() ).isEqualTo( 30L );
+
+        generatedSource.forMapper( QuoteMapper.class )
+            .content()
+            .contains( "updateQuote( entry.getValue(), value );" )
+            .contains( "quotes.keySet().retainAll( dtos.keySet() );" )
+            .doesNotContain( "quotes.clear();" );
+    }
+
+    @Test
+    @WithClasses(QuoteMapper.class)
+    public void shouldRetainMissingKeysIfConfigured() {
+        Quote usd = new Quote( 2L );
+        Map<String, Quote> quotes = new HashMap<>();
+        quotes.put( "USD", usd );
+
+        Map<String, QuoteDto> dtos = new HashMap<>();
+        dtos.put( "EUR", new QuoteDto( 10L ) );
+
+        Map<String, Quote> result = QuoteMapper.INSTANCE.mergeQuotesRetainingMissingKeys( dtos, quotes );
+
+        assertThat( result ).isSameAs( quotes ).containsOnlyKeys( "EUR", "USD" );
+        assertThat( quotes.get( "USD" ) ).isSameAs( usd );
+    }
+
+    @Test
+    @WithClasses(QuoteMapper.class)
+    public void shouldRemoveEntriesWithoutSourceEntryByMappedKeys() {
+        Quote one = new Quote( 1L );
+        Map<String, Quote> quotes = new HashMap<>();
+        quotes.put( "1", one );
+        quotes.put( "2", new Quote( 2L ) );
+
+        Map<Integer, QuoteDto> dtos = new HashMap<>();
+        dtos.put( 1, new QuoteDto( 10L ) );
+
+        QuoteMapper.INSTANCE.mergeQuotesByNumber( dtos, quotes );
+
+        assertThat( quotes ).containsOnlyKeys( "1" );
+        assertThat( quotes.get( "1" ) ).isSameAs( one );
+        assertThat( one.getAmount() ).isEqualTo( 10L );
+
+        generatedSource.forMapper( QuoteMapper.class )
+            .content()
+            .contains( "quotes.keySet().retainAll( mappedKeys );" );
+    }
+
+    @Test
+    @WithClasses(QuoteMapper.class)
+    public void shouldReplaceValuesWithoutUpdateMethod() {
+        Map<String, String> target = new HashMap<>();
+        target.put( "a", "old" );
+        target.put( "b", "old" );
+
+        Map<String, String> labels = new HashMap<>();
+        labels.put( "a", "new" );
+
+        QuoteMapper.INSTANCE.mergeLabels( labels, target );
+
+        assertThat( target ).hasSize( 1 ).containsEntry( "a", "new" );
+    }
+
+    @Test
+    @WithClasses(ErroneousQuoteMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousQuoteMapper.class,
+                kind = Kind.ERROR,
+                line = 19,
+                messageRegExp = "Map entries can only be merged by update methods with a Map as @MappingTarget, "
+                    + "using ElementUpdateStrategy\\.UPDATE_BY_KEY\\."),
+            @Diagnostic(type = ErroneousQuoteMapper.class,
+                kind = Kind.ERROR,
+                line = 22,
+                messageRegExp = "Map entries can only be merged by update methods with a Map as @MappingTarget, "
+                    + "using ElementUpdateStrategy\\.UPDATE_BY_KEY\\.")
+        }
+    )
+    public void shouldFailOnInapplicableValueUpdateStrategy() {
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.mapmerge;
+
+import java.util.Map;
+
+import org.mapstruct.ElementUpdateStrategy;
+import org.mapstruct.MapMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface QuoteMapper {
+
+    QuoteMapper INSTANCE = Mappers.getMapper( QuoteMapper.class );
+
+    @MapMapping(valueUpdateStrategy = ElementUpdateStrategy.UPDATE_BY_KEY)
+    void mergeQuotes(Map<String, QuoteDto> dtos, @MappingTarget Map<String, Quote> quotes);
+
+    @MapMapping(valueUpdateStrategy = ElementUpdateStrategy.UPDATE_BY_KEY, removeMissingKeys = false)
+    Map<String, Quote> mergeQuotesRetainingMissingKeys(Map<String, QuoteDto> dtos,
+        @MappingTarget Map<String, Quote> quotes);
+
+    @MapMapping(valueUpdateStrategy = ElementUpdateStrategy.UPDATE_BY_KEY)
+    void mergeQuotesByNumber(Map<Integer, QuoteDto> dtos, @MappingTarget Map<String, Quote> quotes);
+
+    @MapMapping(valueUpdateStrategy = ElementUpdateStrategy.UPDATE_BY_KEY)
+    void mergeLabels(Map<String, String> labels, @MappingTarget Map<String, String> target);
+
+    Quote toQuote(QuoteDto dto);
+
+    void updateQuote(QuoteDto dto, @MappingTarget Quote quote);
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.mapstruct.Context;
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface ParallelIterableMapper {
+
+    ParallelIterableMapper INSTANCE = Mappers.getMapper( ParallelIterableMapper.class );
+
+    @IterableMapping(parallelThreshold = 3)
+    List<TargetElement> toTargets(List<SourceElement> sources);
+
+    @IterableMapping(parallelThreshold = 3)
+    void updateTargets(Collection<SourceElement> sources, @MappingTarget List<TargetElement> targets);
+
+    @IterableMapping(parallelThreshold = 3)
+    List<TargetElement> toTargetsInPool(List<SourceElement> sources, @Context ForkJoinPool pool);
+
+    @IterableMapping(parallelThreshold = 3)
+    List<String> toStrings(List<Integer> integers);
+
+    @IterableMapping(parallelThreshold = 3)
+    List<Integer> copy(List<Integer> numbers);
+
+    @IterableMapping(parallelThreshold = 3)
+    Stream<TargetElement> toTargetStream(List<SourceElement> sources);
+
+    TargetElement toTarget(SourceElement source);
+}
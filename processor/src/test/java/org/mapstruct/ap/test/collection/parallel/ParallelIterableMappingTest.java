@@ -0,0 +1,124 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.parallel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Test for mapping the elements of large collections in parallel, as configured via
+ * {@code IterableMapping#parallelThreshold()}.
+ */
+@WithClasses({ ParallelIterableMapper.class, SourceElement.class, TargetElement.class })
+@RunWith(AnnotationProcessorTestRunner.class)
+public class ParallelIterableMappingTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldMapLargeCollectionInParallelRetainingOrder() {
+        List<TargetElement> targets = ParallelIterableMapper.INSTANCE.toTargets( sources( 10000 ) );
+
+        assertThat( targets ).hasSize( 10000 );
+        for ( int i = 0; i < targets.size(); i++ ) {
+            assertThat( targets.get( i ).getValue() ).isEqualTo( i );
+        }
+
+        generatedSource.forMapper( ParallelIterableMapper.class )
+            .content()
+            .contains( "if ( sources.size() >= 3 ) {" )
+            .contains( "list.addAll( sources.parallelStream()" )
+            .contains( ".map( sourceElement -> toTarget( sourceElement ) )" )
+            .contains( ".collect( Collectors.toList() ) );" );
+    }
+
+    @Test
+    public void shouldMapSmallCollectionSequentially() {
+        List<TargetElement> targets = ParallelIterableMapper.INSTANCE.toTargets( sources( 2 ) );
+
+        assertThat( targets ).extracting( "value" ).containsExactly( 0, 1 );
+    }
+
+    @Test
+    public void shouldUpdateExistingCollectionInParallel() {
+        List<TargetElement> targets = new ArrayList<>( Arrays.asList( new TargetElement() ) );
+
+        ParallelIterableMapper.INSTANCE.updateTargets( sources( 5 ), targets );
+
+        assertThat( targets ).extracting( "value" ).containsExactly( 0, 1, 2, 3, 4 );
+    }
+
+    @Test
+    public void shouldMapInForkJoinPoolGivenAsContext() {
+        ForkJoinPool pool = new ForkJoinPool( 2 );
+        try {
+            List<TargetElement> targets = ParallelIterableMapper.INSTANCE.toTargetsInPool( sources( 1000 ), pool );
+
+            assertThat( targets ).hasSize( 1000 );
+            assertThat( targets.get( 999 ).getValue() ).isEqualTo( 999 );
+        }
+        finally {
+            pool.shutdown();
+        }
+
+        generatedSource.forMapper( ParallelIterableMapper.class )
+            .content()
+            .contains( "list.addAll( pool.submit( () -> sources.parallelStream()" )
+            .contains( ".collect( Collectors.toList() ) ).join() );" );
+    }
+
+    @Test
+    public void shouldApplyConversionsInParallel() {
+        List<String> strings = ParallelIterableMapper.INSTANCE.toStrings( Arrays.asList( 1, 2, 3, 4 ) );
+
+        assertThat( strings ).containsExactly( "1", "2", "3", "4" );
+    }
+
+    @Test
+    public void shouldCopyElementsSequentially() {
+        List<Integer> integers = ParallelIterableMapper.INSTANCE.copy( Arrays.asList( 1, 2, 3, 4 ) );
+
+        assertThat( integers ).containsExactly( 1, 2, 3, 4 );
+        generatedSource.forMapper( ParallelIterableMapper.class )
+            .content()
+            .doesNotContain( "numbers.parallelStream()" );
+    }
+
+    @Test
+    public void shouldReturnParallelStreamForLargeCollection() {
+        Stream<TargetElement> largeStream = ParallelIterableMapper.INSTANCE.toTargetStream( sources( 3 ) );
+        assertThat( largeStream.isParallel() ).isTrue();
+        assertThat( largeStream.map( TargetElement::getValue ).collect( Collectors.toList() ) )
+            .containsExactly( 0, 1, 2 );
+
+        Stream<TargetElement> smallStream = ParallelIterableMapper.INSTANCE.toTargetStream( sources( 2 ) );
+        assertThat( smallStream.isParallel() ).isFalse();
+    }
+
+    private static List<SourceElement> sources(int count) {
+        List<SourceElement> sources = new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ ) {
+            SourceElement source = new SourceElement();
+            source.setValue( i );
+            sources.add( source );
+        }
+        return sources;
+    }
+}
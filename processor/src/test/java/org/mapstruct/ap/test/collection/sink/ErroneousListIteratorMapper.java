@@ -0,0 +1,19 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.sink;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface ErroneousListIteratorMapper {
+
+    ListIterator<TargetElement> toListIterator(Iterator<SourceElement> sources);
+
+    TargetElement toTarget(SourceElement source);
+}
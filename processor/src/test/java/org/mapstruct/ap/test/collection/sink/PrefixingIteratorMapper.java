@@ -0,0 +1,29 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.sink;
+
+import java.util.Iterator;
+
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Context;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface PrefixingIteratorMapper {
+
+    PrefixingIteratorMapper INSTANCE = Mappers.getMapper( PrefixingIteratorMapper.class );
+
+    Iterator<TargetElement> toIterator(Iterator<SourceElement> sources, @Context String prefix);
+
+    TargetElement toTarget(SourceElement source, @Context String prefix);
+
+    @AfterMapping
+    default void addPrefix(@MappingTarget TargetElement target, @Context String prefix) {
+        target.setName( prefix + target.getName() );
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.sink;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValueMappingStrategy;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface SinkMapper {
+
+    SinkMapper INSTANCE = Mappers.getMapper( SinkMapper.class );
+
+    void toSink(Iterable<SourceElement> sources, @MappingTarget Consumer<TargetElement> sink);
+
+    Consumer<String> integersToSink(Integer[] integers, @MappingTarget Consumer<String> sink);
+
+    Iterator<TargetElement> toIterator(Iterator<SourceElement> sources);
+
+    @IterableMapping(nullValueMappingStrategy = NullValueMappingStrategy.RETURN_DEFAULT)
+    Iterator<String> integersToIterator(Iterator<Integer> integers);
+
+    TargetElement toTarget(SourceElement source);
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.sink;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Test for mapping methods passing the mapped elements on to a {@code Consumer} or returning them from an
+ * {@link Iterator}, without collecting them.
+ */
+@WithClasses({ SinkMapper.class, SourceElement.class, TargetElement.class })
+@RunWith(AnnotationProcessorTestRunner.class)
+public class SinkMappingTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldPassMappedElementsToSink() {
+        List<TargetElement> targets = new ArrayList<>();
+
+        SinkMapper.INSTANCE.toSink( Arrays.asList( source( "a" ), source( "b" ) ), targets::add );
+
+        assertThat( targets ).extracting( "name" ).containsExactly( "a", "b" );
+        generatedSource.forMapper( SinkMapper.class )
+            .content()
+            .contains( "sink.accept( toTarget( sourceElement ) );" );
+    }
+
+    @Test
+    public void shouldPassConvertedArrayElementsToSinkAndReturnIt() {
+        List<String> strings = new ArrayList<>();
+
+        SinkMapper.INSTANCE.integersToSink( new Integer[] { 1, 2 }, strings::add ).accept( "3" );
+
+        assertThat( strings ).containsExactly( "1", "2", "3" );
+    }
+
+    @Test
+    public void shouldNotInvokeSinkForNullSource() {
+        List<TargetElement> targets = new ArrayList<>();
+
+        SinkMapper.INSTANCE.toSink( null, targets::add );
+
+        assertThat( targets ).isEmpty();
+    }
+
+    @Test
+    public void shouldMapElementsWhenRequestedFromIterator() {
+        List<SourceElement> sources = new ArrayList<>( Arrays.asList( source( "a" ), source( "b" ) ) );
+
+        Iterator<TargetElement> targets = SinkMapper.INSTANCE.toIterator( sources.iterator() );
+
+        sources.get( 1 ).setName( "changed" );
+        assertThat( targets.hasNext() ).isTrue();
+        assertThat( targets.next().getName() ).isEqualTo( "a" );
+        targets.remove();
+        assertThat( targets.next().getName() ).isEqualTo( "changed" );
+        assertThat( targets.hasNext() ).isFalse();
+        assertThat( sources ).hasSize( 1 );
+
+        assertThat( SinkMapper.INSTANCE.toIterator( null ) ).isNull();
+    }
+
+    @Test
+    public void shouldConvertElementsWhenRequestedFromIterator() {
+        Iterator<String> strings = SinkMapper.INSTANCE.integersToIterator( Arrays.asList( 1, 2 ).iterator() );
+
+        assertThat( strings.next() ).isEqualTo( "1" );
+        assertThat( strings.next() ).isEqualTo( "2" );
+        assertThat( strings.hasNext() ).isFalse();
+    }
+
+    @Test
+    public void shouldReturnEmptyIteratorForNullSourceIfDefaultIsReturned() {
+        assertThat( SinkMapper.INSTANCE.integersToIterator( null ).hasNext() ).isFalse();
+
+        // Collections#emptyIterator() is not available before Java 7
+        generatedSource.forMapper( SinkMapper.class )
+            .content()
+            .contains( "return Collections.<String>emptyList().iterator();" )
+            .doesNotContain( "emptyIterator()" );
+    }
+
+    @Test
+    @WithClasses(PrefixingIteratorMapper.class)
+    public void shouldPassContextToElementMappingOfIterator() {
+        Iterator<TargetElement> targets = PrefixingIteratorMapper.INSTANCE.toIterator(
+            Arrays.asList( source( "a" ) ).iterator(),
+            "prefixed-"
+        );
+
+        assertThat( targets.next().getName() ).isEqualTo( "prefixed-a" );
+        generatedSource.forMapper( PrefixingIteratorMapper.class )
+            .content()
+            .contains( "toIterator(final Iterator<SourceElement> sources, final String prefix)" );
+    }
+
+    @Test
+    @WithClasses(ErroneousListIteratorMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousListIteratorMapper.class,
+                kind = Kind.ERROR,
+                line = 16,
+                messageRegExp = "The return type java\\.util\\.ListIterator<.*TargetElement> is an abstract class or "
+                    + "interface\\. Provide a non abstract / non interface result type or a factory method\\.")
+        })
+    public void shouldNotCreateIteratorSubTypes() {
+    }
+
+    private static SourceElement source(String name) {
+        SourceElement source = new SourceElement();
+        source.setName( name );
+        return source;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.updateinplace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Test for updating the elements of an existing target collection in place, as configured via
+ * {@code IterableMapping#elementUpdateStrategy()}.
+ */
+@WithClasses({ OrderLineDto.class, OrderLine.class })
+@RunWith(AnnotationProcessorTestRunner.class)
+public class ElementUpdateStrategyTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @WithClasses(OrderLineMapper.class)
+    public void shouldUpdateMatchingElementsByKey() {
+        OrderLine first = new OrderLine( 1L, "apple", 1L );
+        OrderLine second = new OrderLine( 2L, "pear", 2L );
+        OrderLine third = new OrderLine( 3L, "plum", 3L );
+        List<OrderLine> lines = new ArrayList<>( Arrays.asList( first, second, third ) );
+
+        OrderLineMapper.INSTANCE.updateByKey(
+            Arrays.asList(
+                new OrderLineDto( 3L, "plum", 30 ),
+                new OrderLineDto( 4L, "kiwi", 4 ),
+                new OrderLineDto( 1L, "apple", 10 )
+            ),
+            lines
+        );
+
+        assertThat( lines ).hasSize( 3 );
+        assertThat( lines.get( 0 ) ).isSameAs( first );
+        assertThat( lines.get( 1 ) ).isSameAs( third );
+        assertThat( lines ).extracting( "id", "quantity" ).containsExactly(
+            tuple( 1L, 10L ),
+            tuple( 3L, 30L ),
+            tuple( 4L, 4L )
+        );
+
+        generatedSource.forMapper( OrderLineMapper.class )
+            .content()
+            .contains( "Map<Long, OrderLine> orderLineByKey = new HashMap<Long, OrderLine>(" )
+            .contains( "updateLine( orderLineDto, orderLine );" )
+            .doesNotContain( "lines.clear();" );
+    }
+
+    @Test
+    @WithClasses(OrderLineMapper.class)
+    public void shouldUpdateMatchingElementsOfSetByKey() {
+        OrderLine first = new OrderLine( 1L, "apple", 1L );
+        OrderLine second = new OrderLine( 2L, "pear", 2L );
+        Set<OrderLine> lines = new LinkedHashSet<>( Arrays.asList( first, second ) );
+
+        Set<OrderLine> result = OrderLineMapper.INSTANCE.updateSetByKey(
+            Arrays.asList( new OrderLineDto( 2L, "pear", 20 ) ),
+            lines
+        );
+
+        assertThat( result ).isSameAs( lines ).containsExactly( second );
+        assertThat( second.getQuantity() ).isEqualTo( 20L );
+    }
+
+    @Test
+    @WithClasses(OrderLineMapper.class)
+    public void shouldUpdateElementsByPosition() {
+        OrderLine first = new OrderLine( 1L, "apple", 1L );
+        OrderLine second = new OrderLine( 2L, "pear", 2L );
+        List<OrderLine> lines = new ArrayList<>( Arrays.asList( first, null, second ) );
+
+        OrderLineMapper.INSTANCE.updateByPosition(
+            new OrderLineDto[] { new OrderLineDto( 5L, "kiwi", 5 ), new OrderLineDto( 6L, "lime", 6 ) },
+            lines
+        );
+
+        assertThat( lines ).hasSize( 2 );
+        assertThat( lines.get( 0 ) ).isSameAs( first );
+        assertThat( lines ).extracting( "product" ).containsExactly( "kiwi", "lime" );
+
+        OrderLineMapper.INSTANCE.updateByPosition(
+            new OrderLineDto[] {
+                new OrderLineDto( 5L, "kiwi", 5 ),
+                new OrderLineDto( 6L, "lime", 6 ),
+                new OrderLineDto( 7L, "plum", 7 )
+            },
+            lines
+        );
+
+        assertThat( lines.get( 0 ) ).isSameAs( first );
+        assertThat( lines ).extracting( "product" ).containsExactly( "kiwi", "lime", "plum" );
+    }
+
+    @Test
+    @WithClasses({ OrderDto.class, Order.class, OrderMapper.class })
+    public void shouldUpdateElementsOfCollectionPropertyInPlace() {
+        OrderLine line = new OrderLine( 1L, "apple", 1L );
+        Order order = new Order();
+        order.getLines().add( line );
+        order.getLines().add( new OrderLine( 2L, "pear", 2L ) );
+
+        OrderDto dto = new OrderDto();
+        dto.setLines( Arrays.asList( new OrderLineDto( 1L, "apple", 10 ) ) );
+
+        OrderMapper.INSTANCE.updateOrder( dto, order );
+
+        assertThat( order.getLines() ).containsExactly( line );
+        assertThat( line.getQuantity() ).isEqualTo( 10L );
+    }
+
+    @Test
+    @WithClasses(ErroneousElementUpdateMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousElementUpdateMapper.class,
+                kind = Kind.ERROR,
+                line = 20,
+                messageRegExp = "Elements can only be updated in place by update methods with a Collection as "
+                    + "@MappingTarget\\."),
+            @Diagnostic(type = ErroneousElementUpdateMapper.class,
+                kind = Kind.ERROR,
+                line = 23,
+                messageRegExp = "Elements can only be updated by position if the @MappingTarget is a List\\."),
+            @Diagnostic(type = ErroneousElementUpdateMapper.class,
+                kind = Kind.ERROR,
+                line = 26,
+                messageRegExp = "An 'elementKey' must be given in @IterableMapping for updating elements by key\\."),
+            @Diagnostic(type = ErroneousElementUpdateMapper.class,
+                kind = Kind.ERROR,
+                line = 29,
+                messageRegExp = "Element key property \"code\" is not readable in source element type \".*"
+                    + "OrderLineDto\"\\."),
+            @Diagnostic(type = ErroneousElementUpdateMapper.class,
+                kind = Kind.ERROR,
+                line = 32,
+                messageRegExp = "Element key property \"quantity\" has type \".*Integer\" in the source element "
+                    + "type, but type \".*Long\" in the target element type\\.")
+        }
+    )
+    public void shouldFailOnInapplicableElementUpdates() {
+    }
+
+    @Test
+    @WithClasses(ErroneousMissingElementUpdateMethodMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = @Diagnostic(type = ErroneousMissingElementUpdateMethodMapper.class,
+            kind = Kind.ERROR,
+            line = 19,
+            messageRegExp = "Can't update elements in place\\. Found no update method for mapping source element "
+                + "type \".*OrderLineDto\" into an existing instance of target element type \".*OrderLine\"\\.")
+    )
+    public void shouldFailIfElementUpdateMethodIsMissing() {
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.updateinplace;
+
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.ElementUpdateStrategy;
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+
+@Mapper
+public interface ErroneousElementUpdateMapper {
+
+    @IterableMapping(elementUpdateStrategy = ElementUpdateStrategy.UPDATE_BY_KEY, elementKey = "id")
+    List<OrderLine> toLines(List<OrderLineDto> dtos);
+
+    @IterableMapping(elementUpdateStrategy = ElementUpdateStrategy.UPDATE_BY_POSITION)
+    void updateSetByPosition(List<OrderLineDto> dtos, @MappingTarget Set<OrderLine> lines);
+
+    @IterableMapping(elementUpdateStrategy = ElementUpdateStrategy.UPDATE_BY_KEY)
+    void updateWithoutKey(List<OrderLineDto> dtos, @MappingTarget List<OrderLine> lines);
+
+    @IterableMapping(elementUpdateStrategy = ElementUpdateStrategy.UPDATE_BY_KEY, elementKey = "code")
+    void updateByUnknownKey(List<OrderLineDto> dtos, @MappingTarget List<OrderLine> lines);
+
+    @IterableMapping(elementUpdateStrategy = ElementUpdateStrategy.UPDATE_BY_KEY, elementKey = "quantity")
+    void updateByKeyOfDifferentTypes(List<OrderLineDto> dtos, @MappingTarget Set<OrderLine> lines);
+
+    OrderLine toLine(OrderLineDto dto);
+
+    void updateLine(OrderLineDto dto, @MappingTarget OrderLine line);
+}
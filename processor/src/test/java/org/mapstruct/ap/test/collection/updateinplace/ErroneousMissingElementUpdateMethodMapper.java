@@ -0,0 +1,22 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.updateinplace;
+
+import java.util.List;
+
+import org.mapstruct.ElementUpdateStrategy;
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+
+@Mapper
+public interface ErroneousMissingElementUpdateMethodMapper {
+
+    @IterableMapping(elementUpdateStrategy = ElementUpdateStrategy.UPDATE_BY_POSITION)
+    void updateByPosition(List<OrderLineDto> dtos, @MappingTarget List<OrderLine> lines);
+
+    OrderLine toLine(OrderLineDto dto);
+}
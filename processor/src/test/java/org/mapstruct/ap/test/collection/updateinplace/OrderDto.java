@@ -0,0 +1,21 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.updateinplace;
+
+import java.util.List;
+
+public class OrderDto {
+
+    private List<OrderLineDto> lines;
+
+    public List<OrderLineDto> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<OrderLineDto> lines) {
+        this.lines = lines;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.updateinplace;
+
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.ElementUpdateStrategy;
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface OrderLineMapper {
+
+    OrderLineMapper INSTANCE = Mappers.getMapper( OrderLineMapper.class );
+
+    @IterableMapping(elementUpdateStrategy = ElementUpdateStrategy.UPDATE_BY_KEY, elementKey = "id")
+    void updateByKey(List<OrderLineDto> dtos, @MappingTarget List<OrderLine> lines);
+
+    @IterableMapping(elementUpdateStrategy = ElementUpdateStrategy.UPDATE_BY_KEY, elementKey = "id")
+    Set<OrderLine> updateSetByKey(List<OrderLineDto> dtos, @MappingTarget Set<OrderLine> lines);
+
+    @IterableMapping(elementUpdateStrategy = ElementUpdateStrategy.UPDATE_BY_POSITION)
+    void updateByPosition(OrderLineDto[] dtos, @MappingTarget List<OrderLine> lines);
+
+    OrderLine toLine(OrderLineDto dto);
+
+    void updateLine(OrderLineDto dto, @MappingTarget OrderLine line);
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.updateinplace;
+
+import java.util.List;
+
+import org.mapstruct.ElementUpdateStrategy;
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface OrderMapper {
+
+    OrderMapper INSTANCE = Mappers.getMapper( OrderMapper.class );
+
+    void updateOrder(OrderDto dto, @MappingTarget Order order);
+
+    @IterableMapping(elementUpdateStrategy = ElementUpdateStrategy.UPDATE_BY_KEY, elementKey = "id")
+    void updateLines(List<OrderLineDto> dtos, @MappingTarget List<OrderLine> lines);
+
+    OrderLine toLine(OrderLineDto dto);
+
+    void updateLine(OrderLineDto dto, @MappingTarget OrderLine line);
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.context.tracking;
+
+import org.mapstruct.Context;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+import org.mapstruct.util.CycleAvoidingMappingContext;
+
+@Mapper
+public interface CatalogueMapper {
+
+    CatalogueMapper INSTANCE = Mappers.getMapper( CatalogueMapper.class );
+
+    CatalogueDto toCatalogueDto(Catalogue catalogue, @Context CycleAvoidingMappingContext context);
+
+    void updateCatalogueDto(Catalogue catalogue, @MappingTarget CatalogueDto catalogueDto,
+        @Context CycleAvoidingMappingContext context);
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.context.tracking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+import org.mapstruct.util.CycleAvoidingMappingContext;
+
+/**
+ * Test for tracking the mapped instances by means of {@link CycleAvoidingMappingContext}.
+ */
+@WithClasses({ CatalogueMapper.class, Catalogue.class, CatalogueDto.class, Item.class, ItemDto.class,
+    Supplier.class, SupplierDto.class, SupplierValue.class })
+@RunWith(AnnotationProcessorTestRunner.class)
+public class CycleAvoidingMappingContextTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Before
+    public void resetInstances() {
+        SupplierDto.resetInstances();
+    }
+
+    @Test
+    public void shouldMapSharedInstancesOnceAndResolveCycles() {
+        Catalogue catalogue = catalogue( 1000, 10 );
+
+        CatalogueDto catalogueDto =
+            CatalogueMapper.INSTANCE.toCatalogueDto( catalogue, new CycleAvoidingMappingContext() );
+
+        assertThat( catalogueDto.getItems() ).hasSize( 1000 );
+        assertThat( SupplierDto.getInstances() ).isEqualTo( 10 );
+        for ( int i = 0; i < 1000; i++ ) {
+            ItemDto itemDto = catalogueDto.getItems().get( i );
+            assertThat( itemDto.getName() ).isEqualTo( "item" + i );
+            assertThat( itemDto.getCatalogue() ).isSameAs( catalogueDto );
+            assertThat( itemDto.getSupplier().getName() ).isEqualTo( "supplier" + i % 10 );
+            assertThat( itemDto.getSupplier() ).isSameAs( catalogueDto.getItems().get( i % 10 ).getSupplier() );
+        }
+
+        generatedSource.forMapper( CatalogueMapper.class )
+            .content()
+            .contains( "CatalogueDto target = context.getMappedInstance( catalogue, CatalogueDto.class );" )
+            .contains( "context.storeMappedInstance( catalogue, catalogueDto, CatalogueDto.class );" );
+    }
+
+    @Test
+    public void shouldMapAgainAfterClearingContext() {
+        Catalogue catalogue = catalogue( 3, 1 );
+        CycleAvoidingMappingContext context = new CycleAvoidingMappingContext( 3 );
+
+        CatalogueDto first = CatalogueMapper.INSTANCE.toCatalogueDto( catalogue, context );
+        assertThat( CatalogueMapper.INSTANCE.toCatalogueDto( catalogue, context ) ).isSameAs( first );
+
+        context.clear();
+
+        CatalogueDto second = CatalogueMapper.INSTANCE.toCatalogueDto( catalogue, context );
+        assertThat( second ).isNotSameAs( first );
+        assertThat( second.getItems().get( 0 ).getCatalogue() ).isSameAs( second );
+        assertThat( SupplierDto.getInstances() ).isEqualTo( 2 );
+    }
+
+    @Test
+    public void shouldResolveCyclesWhenUpdatingExistingInstance() {
+        CatalogueDto catalogueDto = new CatalogueDto();
+
+        CatalogueMapper.INSTANCE
+            .updateCatalogueDto( catalogue( 2, 1 ), catalogueDto, new CycleAvoidingMappingContext() );
+
+        assertThat( catalogueDto.getItems() ).hasSize( 2 );
+        assertThat( catalogueDto.getItems().get( 1 ).getCatalogue() ).isSameAs( catalogueDto );
+        assertThat( SupplierDto.getInstances() ).isEqualTo( 1 );
+    }
+
+    @Test
+    @WithClasses(SupplierValueMapper.class)
+    @ExpectedCompilationOutcome(value = CompilationResult.SUCCEEDED,
+        diagnostics = @Diagnostic(type = SupplierValueMapper.class,
+            kind = Kind.WARNING,
+            line = 18,
+            messageRegExp = "Lifecycle method \"getMappedInstance\" is not invoked, as \".*SupplierValue\" is "
+                + "created via builder \".*SupplierValue.Builder\" and the value returned by the method is not "
+                + "assignable to \".*SupplierValue\"\\."))
+    public void shouldNotTrackBuildersOfImmutableTargets() {
+        Supplier supplier = new Supplier();
+        supplier.setName( "supplier" );
+        CycleAvoidingMappingContext context = new CycleAvoidingMappingContext();
+
+        SupplierValue first = SupplierValueMapper.INSTANCE.toSupplierValue( supplier, context );
+        SupplierValue second = SupplierValueMapper.INSTANCE.toSupplierValue( supplier, context );
+
+        assertThat( first.getName() ).isEqualTo( "supplier" );
+        assertThat( second.getName() ).isEqualTo( "supplier" );
+    }
+
+    @Test
+    @WithClasses({ TrackedSupplierValueMapper.class, InstanceTrackingContext.class })
+    @ExpectedCompilationOutcome(value = CompilationResult.SUCCEEDED,
+        diagnostics = @Diagnostic(type = TrackedSupplierValueMapper.class,
+            kind = Kind.WARNING,
+            line = 17,
+            messageRegExp = "Lifecycle method \"getMappedInstance\" is not invoked, as \".*SupplierValue\" is "
+                + "created via builder \".*SupplierValue.Builder\" and the value returned by the method is not "
+                + "assignable to \".*SupplierValue\"\\."))
+    public void shouldWarnAboutHandWrittenCallbacksNotInvokedForBuilders() {
+        Supplier supplier = new Supplier();
+        supplier.setName( "supplier" );
+
+        SupplierValue supplierValue =
+            TrackedSupplierValueMapper.INSTANCE.toSupplierValue( supplier, new InstanceTrackingContext() );
+
+        assertThat( supplierValue.getName() ).isEqualTo( "supplier" );
+    }
+
+    private static Catalogue catalogue(int itemCount, int supplierCount) {
+        List<Supplier> suppliers = new ArrayList<>();
+        for ( int i = 0; i < supplierCount; i++ ) {
+            Supplier supplier = new Supplier();
+            supplier.setName( "supplier" + i );
+            suppliers.add( supplier );
+        }
+
+        Catalogue catalogue = new Catalogue();
+        catalogue.setName( "catalogue" );
+        catalogue.setItems( new ArrayList<>() );
+        for ( int i = 0; i < itemCount; i++ ) {
+            Item item = new Item();
+            item.setName( "item" + i );
+            item.setCatalogue( catalogue );
+            item.setSupplier( suppliers.get( i % supplierCount ) );
+            catalogue.getItems().add( item );
+        }
+        return catalogue;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.context.tracking;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.mapstruct.AfterMapping;
+import org.mapstruct.BeforeMapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.TargetType;
+
+/**
+ * A hand-written context tracking the mapped instances.
+ */
+public class InstanceTrackingContext {
+
+    private final Map<Object, Object> mappedInstances = new IdentityHashMap<>();
+
+    @BeforeMapping
+    public <T> T getMappedInstance(Object source, @TargetType Class<T> targetType) {
+        return targetType.cast( mappedInstances.get( source ) );
+    }
+
+    @AfterMapping
+    public void storeMappedInstance(Object source, @MappingTarget Object target) {
+        mappedInstances.put( source, target );
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.context.tracking;
+
+public class ItemDto {
+
+    private String name;
+    private CatalogueDto catalogue;
+    private SupplierDto supplier;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public CatalogueDto getCatalogue() {
+        return catalogue;
+    }
+
+    public void setCatalogue(CatalogueDto catalogue) {
+        this.catalogue = catalogue;
+    }
+
+    public SupplierDto getSupplier() {
+        return supplier;
+    }
+
+    public void setSupplier(SupplierDto supplier) {
+        this.supplier = supplier;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.context.tracking;
+
+public class SupplierDto {
+
+    private static int instances;
+
+    private String name;
+
+    public SupplierDto() {
+        instances++;
+    }
+
+    public static int getInstances() {
+        return instances;
+    }
+
+    public static void resetInstances() {
+        instances = 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
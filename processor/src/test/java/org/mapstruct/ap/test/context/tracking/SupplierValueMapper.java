@@ -0,0 +1,19 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.context.tracking;
+
+import org.mapstruct.Context;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+import org.mapstruct.util.CycleAvoidingMappingContext;
+
+@Mapper
+public interface SupplierValueMapper {
+
+    SupplierValueMapper INSTANCE = Mappers.getMapper( SupplierValueMapper.class );
+
+    SupplierValue toSupplierValue(Supplier supplier, @Context CycleAvoidingMappingContext context);
+}
@@ -17,11 +17,13 @@
 import java.util.Locale;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mapstruct.ap.testutil.IssueKey;
 import org.mapstruct.ap.testutil.WithClasses;
 import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
 
 /**
  * Tests application of format strings for conversions between strings and dates.
@@ -37,11 +39,24 @@
 @RunWith(AnnotationProcessorTestRunner.class)
 public class DateConversionTest {
 
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
     @Before
     public void setDefaultLocale() {
         Locale.setDefault( Locale.GERMAN );
     }
 
+    @Test
+    public void shouldCacheDateFormatPerPattern() {
+        generatedSource.forMapper( SourceTargetMapper.class )
+            .content()
+            .containsOnlyOnce( "new SimpleDateFormat( \"dd.MM.yyyy\" )" )
+            .contains( "private static final ThreadLocal<SimpleDateFormat> SIMPLE_DATE_FORMAT_dd_MM_yyyy_" )
+            .contains( "new ThreadLocal<SimpleDateFormat>() {" )
+            .doesNotContain( "withInitial" );
+    }
+
     @Test
     public void shouldApplyDateFormatForConversions() {
         Source source = new Source();
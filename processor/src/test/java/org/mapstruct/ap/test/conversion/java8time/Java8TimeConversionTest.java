@@ -17,11 +17,13 @@
 import java.util.Date;
 import java.util.TimeZone;
 
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mapstruct.ap.testutil.IssueKey;
 import org.mapstruct.ap.testutil.WithClasses;
 import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
 
 /**
  * Tests for conversions to/from Java 8 date and time types.
@@ -31,6 +33,18 @@
 @IssueKey("121")
 public class Java8TimeConversionTest {
 
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldCreateFormatterOncePerDateFormat() {
+        generatedSource.forMapper( SourceTargetMapper.class )
+            .content()
+            .containsOnlyOnce( "DateTimeFormatter.ofPattern( \"" + SourceTargetMapper.LOCAL_DATE_FORMAT + "\" )" )
+            .containsOnlyOnce( "DateTimeFormatter.ofPattern( \"" + SourceTargetMapper.LOCAL_TIME_FORMAT + "\" )" )
+            .contains( "private static final DateTimeFormatter DATE_TIME_FORMATTER_dd_MM_yyyy_" );
+    }
+
     @Test
     public void testDateTimeToString() {
         Source src = new Source();
@@ -6,18 +6,25 @@
 package org.mapstruct.ap.test.conversion.numbers;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mapstruct.ap.testutil.WithClasses;
 import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
@@ -30,11 +37,56 @@
 @RunWith(AnnotationProcessorTestRunner.class)
 public class NumberFormatConversionTest {
 
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
     @Before
     public void setDefaultLocale() {
         Locale.setDefault( Locale.ENGLISH );
     }
 
+    @Test
+    public void shouldCacheDecimalFormatPerNumberFormat() {
+        generatedSource.forMapper( SourceTargetMapper.class )
+            .content()
+            .containsOnlyOnce( "new DecimalFormat( \"" + SourceTargetMapper.NUMBER_FORMAT + "\" )" )
+            .containsOnlyOnce( "new DecimalFormat( \"#0.#E0\" )" )
+            .doesNotContain( "createDecimalFormat" );
+    }
+
+    @Test
+    public void shouldApplyCachedNumberFormatsRepeatedlyAndConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool( 4 );
+        try {
+            List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+            for ( int i = 1; i <= 200; i++ ) {
+                final int value = i;
+                results.add( executor.submit( new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() {
+                        Source source = new Source();
+                        source.setI( value );
+                        source.setBigDecimal1( new BigDecimal( value + "E-20" ) );
+
+                        Target target = SourceTargetMapper.INSTANCE.sourceToTarget( source );
+                        Source reverse = SourceTargetMapper.INSTANCE.targetToSource( target );
+
+                        return target.getI().equals( value + ".00" )
+                            && reverse.getI() == value
+                            && reverse.getBigDecimal1().compareTo( source.getBigDecimal1() ) == 0;
+                    }
+                } ) );
+            }
+
+            for ( Future<Boolean> result : results ) {
+                assertThat( result.get() ).isTrue();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void shouldApplyStringConversions() {
         Source source = new Source();
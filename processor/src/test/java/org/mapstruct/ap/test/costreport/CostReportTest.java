@@ -0,0 +1,68 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.costreport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Test for the report of the estimated costs of the generated methods, written if the processor option
+ * {@code mapstruct.costReport} is set.
+ */
+@WithClasses({ OrderMapper.class, Order.class, OrderDto.class })
+@RunWith(AnnotationProcessorTestRunner.class)
+public class CostReportTest {
+
+    private static final String REPORT = "org/mapstruct/ap/test/costreport/OrderMapperImpl-cost-report.json";
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @ProcessorOption(name = "mapstruct.costReport", value = "true")
+    public void shouldReportCostsOfGeneratedMethods() {
+        Order order = new Order();
+        order.setOrderDate( new Date() );
+        order.setQuantity( 3 );
+        order.setTags( Arrays.asList( "express" ) );
+        order.setPrice( 9.5 );
+
+        OrderDto orderDto = OrderMapper.INSTANCE.toOrderDto( order );
+
+        assertThat( orderDto.getQuantity() ).isEqualTo( 3 );
+        assertThat( orderDto.getTags() ).containsExactly( "express" );
+        assertThat( orderDto.getPrice() ).isNotNull();
+
+        generatedSource.forJavaFile( REPORT )
+            .content()
+            .contains( "\"type\": \"org.mapstruct.ap.test.costreport.OrderMapperImpl\"," )
+            .contains( "\"freqInlineSize\": 325," )
+            .contains( "\"hugeMethodLimit\": 8000," )
+            .containsPattern( "\"name\": \"toOrderDto\",\\s*\"estimatedBytecodeSize\": \\d+,\\s*"
+                + "\"boxingConversions\": 1,\\s*"
+                + "\"heavyweightAllocations\": \\[\"ArrayList copy\", \"DecimalFormat\"\\],\\s*"
+                + "\"exceedsFreqInlineSize\": false,\\s*\"exceedsHugeMethodLimit\": false" )
+            .containsPattern( "\"name\": \"toQuantities\",\\s*\"estimatedBytecodeSize\": \\d+,\\s*"
+                + "\"boxingConversions\": 1,\\s*\"heavyweightAllocations\": \\[\\]" );
+    }
+
+    @Test
+    public void shouldNotWriteReportByDefault() {
+        assertThat( OrderMapper.INSTANCE.toQuantities( new int[] { 1, 2 } ) ).containsExactly( 1, 2 );
+
+        generatedSource.forJavaFile( REPORT ).doesNotExist();
+    }
+}
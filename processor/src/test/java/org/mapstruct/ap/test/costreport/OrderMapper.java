@@ -0,0 +1,25 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.costreport;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface OrderMapper {
+
+    OrderMapper INSTANCE = Mappers.getMapper( OrderMapper.class );
+
+    @Mapping(target = "orderDate", dateFormat = "dd.MM.yyyy")
+    @Mapping(target = "price",
+        expression = "java( new java.text.DecimalFormat( \"0.00\" ).format( order.getPrice() ) )")
+    OrderDto toOrderDto(Order order);
+
+    List<Integer> toQuantities(int[] quantities);
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.destination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+import org.mapstruct.factory.MapperRegistry;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Test for the registry of the mapper implementations of a package, as generated if the option
+ * {@code mapstruct.generateMapperRegistry} is set.
+ */
+@WithClasses({
+    DestinationClassNameMapper.class,
+    DestinationClassNameMapperDecorated.class,
+    DestinationClassNameMapperDecorator.class,
+    DestinationPackageNameMapper.class,
+    DestinationClassNameWithJsr330Mapper.class
+})
+@ProcessorOption(name = "mapstruct.generateMapperRegistry", value = "true")
+@RunWith(AnnotationProcessorTestRunner.class)
+public class MapperRegistryTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldInstantiateMappersWithDefaultComponentModel() throws Exception {
+        MapperRegistry registry = getRegistry();
+
+        assertThat( registry.getMapper( DestinationClassNameMapper.class ) ).isNotNull()
+            .isNotSameAs( registry.getMapper( DestinationClassNameMapper.class ) );
+        assertThat( registry.getMapper( DestinationClassNameMapperDecorated.class ) )
+            .isInstanceOf( DestinationClassNameMapperDecorator.class );
+        assertThat( registry.getMapper( DestinationPackageNameMapper.class ).getClass().getPackage().getName() )
+            .isEqualTo( "org.mapstruct.ap.test.destination.dest" );
+        assertThat( registry.getMapper( DestinationClassNameWithJsr330Mapper.class ) ).isNull();
+        assertThat( registry.getMapper( String.class ) ).isNull();
+
+        generatedSource.forJavaFile( "org/mapstruct/ap/test/destination/MapperRegistryImpl.java" )
+            .content()
+            .contains( "public final class MapperRegistryImpl implements org.mapstruct.factory.MapperRegistry {" )
+            .contains( "if ( mapperType == org.mapstruct.ap.test.destination.DestinationClassNameMapper.class ) {" )
+            .contains( "return new org.mapstruct.ap.test.destination.MyDestinationClassNameMapperCustomImpl();" )
+            .doesNotContain( "Jsr330" );
+    }
+
+    @Test
+    public void shouldObtainMappersFromRegistry() {
+        assertThat( Mappers.getMapper( DestinationClassNameMapperDecorated.class ) )
+            .isInstanceOf( DestinationClassNameMapperDecorator.class );
+        assertThat( Mappers.getMapper( DestinationPackageNameMapper.class ) ).isNotNull();
+    }
+
+    private static MapperRegistry getRegistry() throws Exception {
+        Class<?> registryType = DestinationClassNameMapper.class.getClassLoader()
+            .loadClass( "org.mapstruct.ap.test.destination.MapperRegistryImpl" );
+        return (MapperRegistry) registryType.getField( "INSTANCE" ).get( null );
+    }
+}
@@ -79,18 +79,21 @@ public void shouldFailToGenerateImplementationBetweenCollectionAndPrimitive() {
             @Diagnostic(type = EmptyStreamMappingMapper.class,
                 kind = Kind.ERROR,
                 line = 23,
-                messageRegExp = "'nullValueMappingStrategy','dateformat', 'qualifiedBy' and 'elementTargetType' are "
-                    + "undefined in @IterableMapping, define at least one of them."),
+                messageRegExp = "'nullValueMappingStrategy','dateformat', 'qualifiedBy', 'elementTargetType', "
+                    + "'parallelThreshold', 'lazy', 'elementUpdateStrategy' and 'elementKey' are undefined in "
+                    + "@IterableMapping, define at least one of them."),
             @Diagnostic(type = EmptyStreamMappingMapper.class,
                 kind = Kind.ERROR,
                 line = 26,
-                messageRegExp = "'nullValueMappingStrategy','dateformat', 'qualifiedBy' and 'elementTargetType' are "
-                    + "undefined in @IterableMapping, define at least one of them."),
+                messageRegExp = "'nullValueMappingStrategy','dateformat', 'qualifiedBy', 'elementTargetType', "
+                    + "'parallelThreshold', 'lazy', 'elementUpdateStrategy' and 'elementKey' are undefined in "
+                    + "@IterableMapping, define at least one of them."),
             @Diagnostic(type = EmptyStreamMappingMapper.class,
                 kind = Kind.ERROR,
                 line = 29,
-                messageRegExp = "'nullValueMappingStrategy','dateformat', 'qualifiedBy' and 'elementTargetType' are "
-                    + "undefined in @IterableMapping, define at least one of them.")
+                messageRegExp = "'nullValueMappingStrategy','dateformat', 'qualifiedBy', 'elementTargetType', "
+                    + "'parallelThreshold', 'lazy', 'elementUpdateStrategy' and 'elementKey' are undefined in "
+                    + "@IterableMapping, define at least one of them.")
         }
     )
     public void shouldFailOnEmptyIterableAnnotationStreamMappings() {
@@ -11,12 +11,14 @@
 import java.util.List;
 
 import org.junit.Test;
+import org.mapstruct.CollectionCopyStrategy;
 import org.mapstruct.CollectionMappingStrategy;
 import org.mapstruct.InjectionStrategy;
 import org.mapstruct.MappingInheritanceStrategy;
 import org.mapstruct.NullValueCheckStrategy;
 import org.mapstruct.NullValueMappingStrategy;
 import org.mapstruct.ReportingPolicy;
+import org.mapstruct.ap.internal.prism.CollectionCopyStrategyPrism;
 import org.mapstruct.ap.internal.prism.CollectionMappingStrategyPrism;
 import org.mapstruct.ap.internal.prism.InjectionStrategyPrism;
 import org.mapstruct.ap.internal.prism.MappingInheritanceStrategyPrism;
@@ -66,6 +68,12 @@ public void injectionStrategyPrismIsCorrect() {
             namesOf( InjectionStrategyPrism.values() ) );
     }
 
+    @Test
+    public void collectionCopyStrategyPrismIsCorrect() {
+        assertThat( namesOf( CollectionCopyStrategy.values() ) ).isEqualTo(
+            namesOf( CollectionCopyStrategyPrism.values() ) );
+    }
+
     private static List<String> namesOf(Enum<?>[] values) {
         List<String> names = new ArrayList<String>( values.length );
 
@@ -0,0 +1,101 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.finalimpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Modifier;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOptions;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Test for generating final mapper implementations which are referenced by their exact type, as enabled by the
+ * processor option {@code mapstruct.finalMapperImplementations}.
+ */
+@WithClasses({ OrderMapper.class, CustomerMapper.class, LineMapper.class, LineMapperDecorator.class, Order.class,
+    OrderDto.class, Customer.class, CustomerDto.class, Line.class, LineDto.class })
+@RunWith(AnnotationProcessorTestRunner.class)
+public class FinalMapperImplementationTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @ProcessorOption(name = "mapstruct.finalMapperImplementations", value = "true")
+    public void shouldReferenceFinalImplementationOfUsedMapper() {
+        OrderDto orderDto = OrderMapper.INSTANCE.toDto( order() );
+
+        assertThat( orderDto.getCustomer().getName() ).isEqualTo( "Bob" );
+        assertThat( orderDto.getLine().getArticle() ).isEqualTo( "PEN" );
+        assertThat( Modifier.isFinal( OrderMapper.INSTANCE.getClass().getModifiers() ) ).isTrue();
+
+        generatedSource.forMapper( OrderMapper.class )
+            .content()
+            .contains( "public final class OrderMapperImpl implements OrderMapper {" )
+            .contains( "private final CustomerMapperImpl customerMapper = new CustomerMapperImpl();" )
+            .contains( "private final LineMapper lineMapper = Mappers.getMapper( LineMapper.class );" )
+            .contains( "orderDto.setCustomer( customerMapper.toDto( order.getCustomer() ) );" )
+            .doesNotContain( "import org.mapstruct.ap.test.references.finalimpl.CustomerMapper;" );
+        generatedSource.forMapper( CustomerMapper.class )
+            .content()
+            .contains( "public final class CustomerMapperImpl implements CustomerMapper {" );
+    }
+
+    @Test
+    @ProcessorOption(name = "mapstruct.finalMapperImplementations", value = "true")
+    public void shouldNotReferenceDecoratedMapperByImplementationType() {
+        generatedSource.forJavaFile( "org/mapstruct/ap/test/references/finalimpl/LineMapperImpl_.java" )
+            .content()
+            .contains( "public final class LineMapperImpl_ implements LineMapper {" );
+        generatedSource.forMapper( LineMapper.class )
+            .content()
+            .contains( "public class LineMapperImpl extends LineMapperDecorator implements LineMapper {" );
+    }
+
+    @Test
+    @ProcessorOptions({
+        @ProcessorOption(name = "mapstruct.finalMapperImplementations", value = "true"),
+        @ProcessorOption(name = "mapstruct.lazyUsedMappers", value = "true")
+    })
+    public void shouldReferenceSharedFinalImplementationOfUsedMapper() {
+        OrderDto orderDto = OrderMapper.INSTANCE.toDto( order() );
+
+        assertThat( orderDto.getCustomer().getName() ).isEqualTo( "Bob" );
+
+        generatedSource.forMapper( OrderMapper.class )
+            .content()
+            .contains( "private static final CustomerMapperImpl INSTANCE = "
+                + "(CustomerMapperImpl) Mappers.getSharedMapper( CustomerMapper.class );" )
+            .contains( "orderDto.setCustomer( CustomerMapperHolder.INSTANCE.toDto( order.getCustomer() ) );" );
+    }
+
+    @Test
+    public void shouldNotGenerateFinalImplementationsByDefault() {
+        generatedSource.forMapper( OrderMapper.class )
+            .content()
+            .contains( "public class OrderMapperImpl implements OrderMapper {" )
+            .contains( "private final CustomerMapper customerMapper = Mappers.getMapper( CustomerMapper.class );" );
+    }
+
+    private static Order order() {
+        Customer customer = new Customer();
+        customer.setName( "Bob" );
+        Line line = new Line();
+        line.setArticle( "pen" );
+
+        Order order = new Order();
+        order.setCustomer( customer );
+        order.setLine( line );
+        return order;
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.finalimpl;
+
+import org.mapstruct.DecoratedWith;
+import org.mapstruct.Mapper;
+
+@Mapper
+@DecoratedWith(LineMapperDecorator.class)
+public interface LineMapper {
+
+    LineDto toDto(Line line);
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.finalimpl;
+
+public abstract class LineMapperDecorator implements LineMapper {
+
+    private final LineMapper delegate;
+
+    public LineMapperDecorator(LineMapper delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public LineDto toDto(Line line) {
+        LineDto dto = delegate.toDto( line );
+        if ( dto != null ) {
+            dto.setArticle( dto.getArticle().toUpperCase() );
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.finalimpl;
+
+public class OrderDto {
+
+    private CustomerDto customer;
+    private LineDto line;
+
+    public CustomerDto getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(CustomerDto customer) {
+        this.customer = customer;
+    }
+
+    public LineDto getLine() {
+        return line;
+    }
+
+    public void setLine(LineDto line) {
+        this.line = line;
+    }
+}
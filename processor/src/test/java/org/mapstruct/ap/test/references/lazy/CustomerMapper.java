@@ -0,0 +1,24 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.lazy;
+
+import org.mapstruct.Mapper;
+
+@Mapper
+public abstract class CustomerMapper {
+
+    private static int instances;
+
+    public CustomerMapper() {
+        instances++;
+    }
+
+    public static int getInstances() {
+        return instances;
+    }
+
+    public abstract CustomerDto toDto(Customer customer);
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.lazy;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(uses = CustomerMapper.class)
+public interface InvoiceMapper {
+
+    InvoiceMapper INSTANCE = Mappers.getMapper( InvoiceMapper.class );
+
+    InvoiceDto toDto(Invoice invoice);
+}
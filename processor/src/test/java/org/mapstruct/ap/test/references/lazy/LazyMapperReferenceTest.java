@@ -0,0 +1,75 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.lazy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Test for referencing used mappers via lazily initialized, shared instances, as enabled by the processor option
+ * {@code mapstruct.lazyUsedMappers}.
+ */
+@WithClasses({ OrderMapper.class, InvoiceMapper.class, CustomerMapper.class, NumberFormatter.class, Order.class,
+    OrderDto.class, Invoice.class, InvoiceDto.class, Customer.class, CustomerDto.class })
+@ProcessorOption(name = "mapstruct.lazyUsedMappers", value = "true")
+@RunWith(AnnotationProcessorTestRunner.class)
+public class LazyMapperReferenceTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldInstantiateUsedMappersUponFirstUseAndShareThem() {
+        int instances = CustomerMapper.getInstances();
+
+        OrderMapper orderMapper = OrderMapper.INSTANCE;
+
+        assertThat( CustomerMapper.getInstances() ).isEqualTo( instances );
+
+        Order order = new Order();
+        order.setNumber( "42" );
+        order.setCustomer( customer( "Bob" ) );
+        OrderDto orderDto = orderMapper.toDto( order );
+
+        assertThat( orderDto.getNumber() ).isEqualTo( "#42" );
+        assertThat( orderDto.getCustomer().getName() ).isEqualTo( "Bob" );
+        assertThat( CustomerMapper.getInstances() ).isEqualTo( instances + 1 );
+
+        Invoice invoice = new Invoice();
+        invoice.setCustomer( customer( "Alice" ) );
+        InvoiceDto invoiceDto = InvoiceMapper.INSTANCE.toDto( invoice );
+
+        assertThat( invoiceDto.getCustomer().getName() ).isEqualTo( "Alice" );
+        assertThat( CustomerMapper.getInstances() ).isEqualTo( instances + 1 );
+    }
+
+    @Test
+    public void shouldReferenceUsedMappersViaHolderClasses() {
+        generatedSource.forMapper( OrderMapper.class )
+            .content()
+            .contains( "private static final class CustomerMapperHolder {" )
+            .contains( "private static final CustomerMapper INSTANCE = "
+                + "Mappers.getSharedMapper( CustomerMapper.class );" )
+            .contains( "private static final class NumberFormatterHolder {" )
+            .contains( "private static final NumberFormatter INSTANCE = new NumberFormatter();" )
+            .contains( "CustomerMapperHolder.INSTANCE.toDto( order.getCustomer() )" )
+            .contains( "NumberFormatterHolder.INSTANCE.format( order.getNumber() )" )
+            .doesNotContain( "private final CustomerMapper" );
+    }
+
+    private static Customer customer(String name) {
+        Customer customer = new Customer();
+        customer.setName( name );
+        return customer;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.splitting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Test for splitting the property mappings of bean mapping methods exceeding the size limit given via the processor
+ * option {@code mapstruct.mappingMethodSizeLimit} into separate methods.
+ */
+@WithClasses({ SplitMapper.class, Source.class, Target.class, Extra.class })
+@RunWith(AnnotationProcessorTestRunner.class)
+public class MappingMethodSplittingTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @ProcessorOption(name = "mapstruct.mappingMethodSizeLimit", value = "100")
+    public void shouldSplitPropertyMappingsIntoSeparateMethods() {
+        Target target = SplitMapper.INSTANCE.toTarget( source() );
+
+        assertTarget( target );
+        assertThat( target.getOrigin() ).isEqualTo( "import" );
+        assertThat( SplitMapper.INSTANCE.toTarget( null ) ).isNull();
+
+        generatedSource.forMapper( SplitMapper.class )
+            .content()
+            .contains( "toTargetProperties1( source, target );" )
+            .contains( "toTargetProperties2( source, target );" )
+            .contains( "private void toTargetProperties1(Source source, Target target) {" )
+            .contains( "target.setOrigin( \"import\" );" );
+    }
+
+    @Test
+    @ProcessorOption(name = "mapstruct.mappingMethodSizeLimit", value = "100")
+    public void shouldSplitPropertyMappingsOfUpdateMethod() {
+        Target target = new Target();
+        target.setOrigin( "existing" );
+
+        SplitMapper.INSTANCE.updateTarget( source(), target );
+
+        assertTarget( target );
+        assertThat( target.getOrigin() ).isEqualTo( "existing" );
+
+        generatedSource.forMapper( SplitMapper.class )
+            .content()
+            .contains( "updateTargetProperties1( source, target );" )
+            .contains( "private void updateTargetProperties1(Source source, Target target) {" );
+    }
+
+    @Test
+    @ProcessorOption(name = "mapstruct.mappingMethodSizeLimit", value = "100")
+    public void shouldSplitPropertyMappingsOfSeveralSourceParameters() {
+        Extra extra = new Extra();
+        extra.setNote( "note" );
+
+        Target target = SplitMapper.INSTANCE.merge( source(), extra );
+
+        assertTarget( target );
+        assertThat( target.getNote() ).isEqualTo( "note" );
+        assertThat( target.getOrigin() ).isEqualTo( "merge" );
+
+        target = SplitMapper.INSTANCE.merge( null, extra );
+
+        assertThat( target.getName() ).isNull();
+        assertThat( target.getNote() ).isEqualTo( "note" );
+
+        generatedSource.forMapper( SplitMapper.class )
+            .content()
+            .contains( "mergeProperties1( source, extra, target );" )
+            .contains( "private void mergeProperties1(Source source, Extra extra, Target target) {" );
+    }
+
+    @Test
+    @WithClasses(OverloadedSplitMapper.class)
+    @ProcessorOption(name = "mapstruct.mappingMethodSizeLimit", value = "1")
+    public void shouldGiveGroupsOfOverloadedMethodsDistinctNames() {
+        Target target = OverloadedSplitMapper.INSTANCE.map( source() );
+
+        assertTarget( target );
+        assertThat( target.getOrigin() ).isEqualTo( "import" );
+
+        target = new Target();
+        OverloadedSplitMapper.INSTANCE.map( source(), target );
+
+        assertTarget( target );
+        assertThat( target.getOrigin() ).isNull();
+
+        generatedSource.forMapper( OverloadedSplitMapper.class )
+            .content()
+            .contains( "private void mapProperties1(Source source, Target target) {" )
+            .contains( "private void mapProperties1_1(Source source, Target target) {" );
+    }
+
+    @Test
+    public void shouldNotSplitPropertyMappingsBelowDefaultLimit() {
+        assertTarget( SplitMapper.INSTANCE.toTarget( source() ) );
+
+        generatedSource.forMapper( SplitMapper.class )
+            .content()
+            .doesNotContain( "Properties1" );
+    }
+
+    private static Source source() {
+        Source source = new Source();
+        source.setName( "Bob" );
+        source.setStreet( "Main Street" );
+        source.setCity( "Springfield" );
+        source.setZip( "12345" );
+        source.setCountry( "US" );
+        source.setPhone( "555" );
+        source.setEmail( "bob@example.com" );
+        source.setCompany( "ACME" );
+        source.setAge( 42 );
+        source.setTags( Arrays.asList( "a", "b" ) );
+        return source;
+    }
+
+    private static void assertTarget(Target target) {
+        assertThat( target.getName() ).isEqualTo( "Bob" );
+        assertThat( target.getStreet() ).isEqualTo( "Main Street" );
+        assertThat( target.getCity() ).isEqualTo( "Springfield" );
+        assertThat( target.getZip() ).isEqualTo( "12345" );
+        assertThat( target.getCountry() ).isEqualTo( "US" );
+        assertThat( target.getPhone() ).isEqualTo( "555" );
+        assertThat( target.getEmail() ).isEqualTo( "bob@example.com" );
+        assertThat( target.getCompany() ).isEqualTo( "ACME" );
+        assertThat( target.getAge() ).isEqualTo( 42 );
+        assertThat( target.getTags() ).containsExactly( "a", "b" );
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.splitting;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface OverloadedSplitMapper {
+
+    OverloadedSplitMapper INSTANCE = Mappers.getMapper( OverloadedSplitMapper.class );
+
+    @Mapping(target = "note", ignore = true)
+    @Mapping(target = "origin", constant = "import")
+    Target map(Source source);
+
+    @Mapping(target = "note", ignore = true)
+    @Mapping(target = "origin", ignore = true)
+    void map(Source source, @MappingTarget Target target);
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.splitting;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface SplitMapper {
+
+    SplitMapper INSTANCE = Mappers.getMapper( SplitMapper.class );
+
+    @Mapping(target = "note", ignore = true)
+    @Mapping(target = "origin", constant = "import")
+    Target toTarget(Source source);
+
+    @Mapping(target = "note", ignore = true)
+    @Mapping(target = "origin", ignore = true)
+    void updateTarget(Source source, @MappingTarget Target target);
+
+    @Mapping(target = "origin", constant = "merge")
+    Target merge(Source source, Extra extra);
+}
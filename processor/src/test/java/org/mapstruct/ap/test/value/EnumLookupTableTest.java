@@ -0,0 +1,85 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.value;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Test for enum mapping methods which are implemented by means of an ordinal-indexed lookup table.
+ */
+@WithClasses({ OrderMapper.class, SpecialOrderMapper.class, OrderEntity.class, OrderType.class, OrderDto.class,
+    ExternalOrderType.class })
+@ProcessorOption(name = "mapstruct.enumLookupTableThreshold", value = "4")
+@RunWith(AnnotationProcessorTestRunner.class)
+public class EnumLookupTableTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldMapUsingLookupTable() {
+        assertThat( OrderMapper.INSTANCE.orderTypeToExternalOrderType( OrderType.B2B ) )
+            .isEqualTo( ExternalOrderType.B2B );
+        assertThat( OrderMapper.INSTANCE.orderTypeToExternalOrderType( OrderType.EXTRA ) )
+            .isEqualTo( ExternalOrderType.SPECIAL );
+        assertThat( OrderMapper.INSTANCE.orderTypeToExternalOrderType( OrderType.NORMAL ) )
+            .isEqualTo( ExternalOrderType.DEFAULT );
+        assertThat( OrderMapper.INSTANCE.orderTypeToExternalOrderType( null ) ).isNull();
+
+        assertThat( OrderMapper.INSTANCE.externalOrderTypeToOrderType( ExternalOrderType.SPECIAL ) )
+            .isEqualTo( OrderType.EXTRA );
+        assertThat( OrderMapper.INSTANCE.externalOrderTypeToOrderType( ExternalOrderType.RETAIL ) )
+            .isEqualTo( OrderType.RETAIL );
+
+        generatedSource.forMapper( OrderMapper.class )
+            .content()
+            .contains( "private static final ExternalOrderType[] ORDER_TYPE_TO_EXTERNAL_ORDER_TYPE" )
+            .contains( "ORDER_TYPE_TO_EXTERNAL_ORDER_TYPE[OrderType.EXTRA.ordinal()] = ExternalOrderType.SPECIAL;" )
+            .contains( "externalOrderType = ORDER_TYPE_TO_EXTERNAL_ORDER_TYPE[orderType.ordinal()];" )
+            .contains( "private static final OrderType[] EXTERNAL_ORDER_TYPE_TO_ORDER_TYPE" )
+            .doesNotContain( "switch" );
+    }
+
+    @Test
+    public void shouldApplyDefaultAndNullTargetsUsingLookupTable() {
+        assertThat( SpecialOrderMapper.INSTANCE.orderTypeToExternalOrderType( null ) )
+            .isEqualTo( ExternalOrderType.DEFAULT );
+        assertThat( SpecialOrderMapper.INSTANCE.orderTypeToExternalOrderType( OrderType.STANDARD ) ).isNull();
+        assertThat( SpecialOrderMapper.INSTANCE.orderTypeToExternalOrderType( OrderType.RETAIL ) )
+            .isEqualTo( ExternalOrderType.RETAIL );
+        assertThat( SpecialOrderMapper.INSTANCE.orderTypeToExternalOrderType( OrderType.EXTRA ) )
+            .isEqualTo( ExternalOrderType.SPECIAL );
+
+        assertThat( SpecialOrderMapper.INSTANCE.anyRemainingToNull( OrderType.EXTRA ) ).isNull();
+        assertThat( SpecialOrderMapper.INSTANCE.anyRemainingToNull( OrderType.STANDARD ) ).isNull();
+
+        generatedSource.forMapper( SpecialOrderMapper.class )
+            .content()
+            .contains( "Arrays.fill( ORDER_TYPE_TO_EXTERNAL_ORDER_TYPE, ExternalOrderType.SPECIAL );" )
+            .contains( "ORDER_TYPE_TO_EXTERNAL_ORDER_TYPE[OrderType.STANDARD.ordinal()] = null;" )
+            .contains( "ORDER_TYPE_TO_EXTERNAL_ORDER_TYPE_1" )
+            .doesNotContain( "EXTERNAL_ORDER_TYPE_TO_ORDER_TYPE" );
+    }
+
+    @Test
+    public void shouldFallBackToSwitchIfNullTargetCannotBeToldFromUnknownConstant() {
+        assertThat( SpecialOrderMapper.INSTANCE.externalOrderTypeToOrderType( ExternalOrderType.DEFAULT ) ).isNull();
+        assertThat( SpecialOrderMapper.INSTANCE.externalOrderTypeToOrderType( ExternalOrderType.SPECIAL ) )
+            .isEqualTo( OrderType.EXTRA );
+
+        generatedSource.forMapper( SpecialOrderMapper.class )
+            .content()
+            .contains( "switch ( orderType ) {" );
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.value;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface OrderTypeNameMapper {
+
+    OrderTypeNameMapper INSTANCE = Mappers.getMapper( OrderTypeNameMapper.class );
+
+    OrderEntity toEntity(OrderTypeName source);
+
+    OrderTypeName toName(OrderEntity source);
+}
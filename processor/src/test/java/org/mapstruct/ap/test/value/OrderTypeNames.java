@@ -0,0 +1,28 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.value;
+
+public class OrderTypeNames {
+
+    private String orderType;
+    private String channelOrderType;
+
+    public String getOrderType() {
+        return orderType;
+    }
+
+    public void setOrderType(String orderType) {
+        this.orderType = orderType;
+    }
+
+    public String getChannelOrderType() {
+        return channelOrderType;
+    }
+
+    public void setChannelOrderType(String channelOrderType) {
+        this.channelOrderType = channelOrderType;
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.value;
+
+public class OrderTypes {
+
+    private OrderType orderType;
+    private org.mapstruct.ap.test.value.samename.OrderType channelOrderType;
+
+    public OrderType getOrderType() {
+        return orderType;
+    }
+
+    public void setOrderType(OrderType orderType) {
+        this.orderType = orderType;
+    }
+
+    public org.mapstruct.ap.test.value.samename.OrderType getChannelOrderType() {
+        return channelOrderType;
+    }
+
+    public void setChannelOrderType(org.mapstruct.ap.test.value.samename.OrderType channelOrderType) {
+        this.channelOrderType = channelOrderType;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.value;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Test for the generation of string to enum mappings, both as value mapping methods and as implicit conversion.
+ */
+@WithClasses({ OrderType.class, OrderEntity.class, OrderTypeName.class })
+@RunWith(AnnotationProcessorTestRunner.class)
+public class StringToEnumMappingTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @WithClasses(StringToOrderTypeMapper.class)
+    public void shouldMapStringsByNameAndValueMappings() {
+        assertThat( StringToOrderTypeMapper.INSTANCE.withRemaining( "B2B" ) ).isEqualTo( OrderType.B2B );
+        assertThat( StringToOrderTypeMapper.INSTANCE.withRemaining( "SPECIAL" ) ).isEqualTo( OrderType.EXTRA );
+        assertThat( StringToOrderTypeMapper.INSTANCE.withRemaining( "EXTRA" ) ).isEqualTo( OrderType.EXTRA );
+        assertThat( StringToOrderTypeMapper.INSTANCE.withRemaining( "" ) ).isNull();
+        assertThat( StringToOrderTypeMapper.INSTANCE.withRemaining( null ) ).isEqualTo( OrderType.NORMAL );
+    }
+
+    @Test
+    @WithClasses(StringToOrderTypeMapper.class)
+    public void shouldMapUnknownStringsToRemainingTargetWithoutException() {
+        assertThat( StringToOrderTypeMapper.INSTANCE.withRemaining( "unknown" ) ).isEqualTo( OrderType.STANDARD );
+        assertThat( StringToOrderTypeMapper.INSTANCE.withRemaining( "b2b" ) ).isEqualTo( OrderType.STANDARD );
+
+        assertThat( StringToOrderTypeMapper.INSTANCE.withUnmapped( "retail" ) ).isEqualTo( OrderType.RETAIL );
+        assertThat( StringToOrderTypeMapper.INSTANCE.withUnmapped( "RETAIL" ) ).isNull();
+
+        generatedSource.forMapper( StringToOrderTypeMapper.class )
+            .content()
+            .contains( "STRING_TO_ORDER_TYPE.put( \"SPECIAL\", OrderType.EXTRA );" )
+            .doesNotContain( "switch" )
+            .doesNotContain( "valueOf" );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @WithClasses(StringToOrderTypeMapper.class)
+    public void shouldThrowForUnknownStringWithoutFallback() {
+        assertThat( StringToOrderTypeMapper.INSTANCE.withoutFallback( "RETAIL" ) ).isEqualTo( OrderType.RETAIL );
+
+        StringToOrderTypeMapper.INSTANCE.withoutFallback( "unknown" );
+    }
+
+    @Test
+    @WithClasses(OrderTypeNameMapper.class)
+    public void shouldConvertStringToEnumWithoutValueOf() {
+        OrderTypeName source = new OrderTypeName();
+        source.setOrderType( "B2B" );
+
+        OrderEntity entity = OrderTypeNameMapper.INSTANCE.toEntity( source );
+
+        assertThat( entity.getOrderType() ).isEqualTo( OrderType.B2B );
+        assertThat( OrderTypeNameMapper.INSTANCE.toName( entity ).getOrderType() ).isEqualTo( "B2B" );
+
+        generatedSource.forMapper( OrderTypeNameMapper.class )
+            .content()
+            .contains( "private OrderType stringToOrgMapstructApTestValueOrderType( String value ) {" )
+            .doesNotContain( "Enum.valueOf" );
+    }
+
+    @Test
+    @WithClasses({
+        org.mapstruct.ap.test.value.samename.OrderType.class,
+        OrderTypeNames.class,
+        OrderTypes.class,
+        OrderTypeNamesMapper.class
+    })
+    public void shouldConvertStringsToEnumsWithSameSimpleName() {
+        OrderTypeNames source = new OrderTypeNames();
+        source.setOrderType( "B2B" );
+        source.setChannelOrderType( "ONLINE" );
+
+        OrderTypes target = OrderTypeNamesMapper.INSTANCE.toOrderTypes( source );
+
+        assertThat( target.getOrderType() ).isEqualTo( OrderType.B2B );
+        assertThat( target.getChannelOrderType() ).isEqualTo( org.mapstruct.ap.test.value.samename.OrderType.ONLINE );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @WithClasses(OrderTypeNameMapper.class)
+    public void shouldThrowForUnknownStringInConversion() {
+        OrderTypeName source = new OrderTypeName();
+        source.setOrderType( "unknown" );
+
+        OrderTypeNameMapper.INSTANCE.toEntity( source );
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.value;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ValueMapping;
+import org.mapstruct.ValueMappings;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface StringToOrderTypeMapper {
+
+    StringToOrderTypeMapper INSTANCE = Mappers.getMapper( StringToOrderTypeMapper.class );
+
+    @ValueMappings({
+        @ValueMapping( source = "SPECIAL", target = "EXTRA" ),
+        @ValueMapping( source = "", target = MappingConstants.NULL ),
+        @ValueMapping( source = MappingConstants.NULL, target = "NORMAL" ),
+        @ValueMapping( source = MappingConstants.ANY_REMAINING, target = "STANDARD" )
+    })
+    OrderType withRemaining(String orderType);
+
+    @ValueMappings({
+        @ValueMapping( source = "retail", target = "RETAIL" ),
+        @ValueMapping( source = MappingConstants.ANY_UNMAPPED, target = MappingConstants.NULL )
+    })
+    OrderType withUnmapped(String orderType);
+
+    @ValueMapping( source = "SPECIAL", target = "EXTRA" )
+    OrderType withoutFallback(String orderType);
+}
@@ -20,6 +20,13 @@
 )
 public class ScienceMapperImpl implements ScienceMapper {
 
+    private static final ThreadLocal<DecimalFormat> DECIMAL_FORMAT_0 = new ThreadLocal<DecimalFormat>() {
+        @Override
+        protected DecimalFormat initialValue() {
+            return new DecimalFormat( "" );
+        }
+    };
+
     @Override
     public ScientistDto scientistToDto(Scientist scientist) {
         if ( scientist == null ) {
@@ -114,11 +121,7 @@ public boolean[] nvmMapping(boolean[] source) {
         }
 
         boolean[] booleanTmp = new boolean[source.length];
-        int i = 0;
-        for ( boolean boolean1 : source ) {
-            booleanTmp[i] = boolean1;
-            i++;
-        }
+        System.arraycopy( source, 0, booleanTmp, 0, source.length );
 
         return booleanTmp;
     }
@@ -132,14 +135,7 @@ public boolean[] nvmMapping(boolean[] source, boolean[] target) {
             return target;
         }
 
-        int i = 0;
-        for ( boolean boolean1 : source ) {
-            if ( ( i >= target.length ) || ( i >= source.length ) ) {
-                break;
-            }
-            target[i] = boolean1;
-            i++;
-        }
+        System.arraycopy( source, 0, target, 0, Math.min( target.length, source.length ) );
 
         return target;
     }
@@ -195,14 +191,7 @@ public int[] nvmMapping(int[] source, int[] target) {
             return target;
         }
 
-        int i = 0;
-        for ( int int1 : source ) {
-            if ( ( i >= target.length ) || ( i >= source.length ) ) {
-                break;
-            }
-            target[i] = int1;
-            i++;
-        }
+        System.arraycopy( source, 0, target, 0, Math.min( target.length, source.length ) );
 
         return target;
     }
@@ -284,7 +273,7 @@ public String[] nvmMapping(int[] source, String[] target) {
             if ( ( i >= target.length ) || ( i >= source.length ) ) {
                 break;
             }
-            target[i] = new DecimalFormat( "" ).format( int1 );
+            target[i] = DECIMAL_FORMAT_0.get().format( int1 );
             i++;
         }
 